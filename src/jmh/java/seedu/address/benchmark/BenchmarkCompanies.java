@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates the companies that benchmarks run against. The same count always gives the same companies, so that
+ * results of different runs can be compared.
+ */
+public class BenchmarkCompanies {
+
+    private static final String[] NAME_WORDS = {"Alpha", "Beta", "Global", "Pacific", "Digital", "Quantum",
+        "Summit", "Harbor", "Vertex", "Nimbus", "Orion", "Atlas", "Zenith", "Cobalt", "Meridian", "Crest"};
+    private static final String[] NAME_SUFFIXES = {"Industries", "Labs", "Trading", "Systems", "Holdings",
+        "Logistics", "Design", "Capital"};
+    private static final String[] TAGS = {"remote", "fintech", "startup", "mnc", "summer", "backend", "frontend",
+        "good-pay"};
+    private static final Status.Stage[] STAGES = Status.Stage.values();
+
+    private BenchmarkCompanies() {}
+
+    /**
+     * Returns {@code count} distinct companies with a mix of names, tags, statuses and remarks.
+     */
+    public static List<Company> generate(int count) {
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(generate(i, STAGES[i % STAGES.length]));
+        }
+        return companies;
+    }
+
+    /**
+     * Returns the {@code i}-th generated company, at the given stage.
+     */
+    public static Company generate(int i, Status.Stage stage) {
+        String name = NAME_WORDS[i % NAME_WORDS.length] + " " + NAME_WORDS[(i / NAME_WORDS.length) % NAME_WORDS.length]
+                + " " + NAME_SUFFIXES[i % NAME_SUFFIXES.length] + " " + i;
+        Set<Tag> tags = Set.of();
+        if (i % 3 == 1) {
+            tags = Set.of(new Tag(TAGS[i % TAGS.length]));
+        } else if (i % 3 == 2) {
+            tags = Set.of(new Tag(TAGS[i % TAGS.length]), new Tag(TAGS[(i + 3) % TAGS.length]));
+        }
+        return new Company(new Name(name),
+                new Phone(String.valueOf(80000000 + i % 10000000)),
+                new Email("hr" + i + "@company" + i + ".com"),
+                new Address(i + " Benchmark Avenue"),
+                tags,
+                new Remark(i % 4 == 0 ? "Met their recruiter at the career fair, follow up in two weeks" : null),
+                new Status(Status.toUserInputString(stage)));
+    }
+
+    /**
+     * Returns an address book holding {@code count} generated companies.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCompanies(generate(count));
+        return addressBook;
+    }
+}
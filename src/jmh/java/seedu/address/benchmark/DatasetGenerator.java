@@ -0,0 +1,237 @@
+package seedu.address.benchmark;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic companies for load tests, deterministically from a seed: the same seed always gives the
+ * same companies in the same order. Tags follow a Zipfian distribution, so that a few tags are on most companies
+ * and most tags are rare; statuses follow the mix of a typical application season, with most companies not yet
+ * past the first stages; and remarks range from none to several paragraphs.
+ * Names are unique across the first {@code Integer.MAX_VALUE} companies generated.
+ */
+public class DatasetGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+
+    static final String[] TAGS = {
+        "remote", "fintech", "startup", "mnc", "summer", "backend", "frontend", "good-pay", "hybrid", "ai",
+        "devops", "data", "security", "mobile", "cloud", "gaming", "ecommerce", "healthtech", "edtech", "govtech",
+        "consulting", "hardware", "embedded", "research", "quant", "blockchain", "logistics", "media", "retail",
+        "biotech", "energy", "automotive", "aerospace", "telecom", "insurance", "banking", "saas", "b2b", "b2c",
+        "referral", "career-fair", "linkedin", "alumni", "overseas", "part-time", "full-time", "return-offer",
+        "visa-sponsor", "small-team", "big-tech"
+    };
+
+    private static final String[] NAME_FIRST_WORDS = {
+        "Alpha", "Beta", "Global", "Pacific", "Digital", "Quantum", "Summit", "Harbor", "Vertex", "Nimbus", "Orion",
+        "Atlas", "Zenith", "Cobalt", "Meridian", "Crest", "Lumen", "Nova", "Apex", "Evergreen", "Silver", "Red",
+        "Blue", "Golden", "Northern", "Eastern", "Urban", "Bright", "Swift", "Prime", "Iron", "Crystal"
+    };
+    private static final String[] NAME_SECOND_WORDS = {
+        "Horizon", "Bridge", "Peak", "River", "Stone", "Wave", "Forge", "Leaf", "Spark", "Signal", "Pixel", "Byte",
+        "Cloud", "Field", "Harbour", "Grid", "Path", "Point", "Quest", "Sphere", "Tower", "Vista", "Works", "Yard"
+    };
+    private static final String[] NAME_SUFFIXES = {
+        "Industries", "Labs", "Trading", "Systems", "Holdings", "Logistics", "Design", "Capital", "Technologies",
+        "Solutions", "Pte Ltd", "Group", "Partners", "Ventures", "Analytics", "Networks"
+    };
+    private static final String[] STREETS = {
+        "Raffles Place", "Collyer Quay", "Anson Road", "Cross Street", "Shenton Way", "Orchard Road",
+        "Science Park Drive", "One North Crescent", "Tampines Avenue", "Jurong Gateway Road", "Changi Business Park",
+        "Marina Boulevard"
+    };
+    private static final String[] REMARK_SENTENCES = {
+        "Met their recruiter at the career fair.",
+        "Follow up in two weeks if there is no reply.",
+        "The online assessment had two medium algorithm questions and a debugging task.",
+        "Interviewer asked about system design for a rate limiter.",
+        "Team works mostly in Java and Kotlin, with some Go for internal tooling.",
+        "Offer deadline is tight, so prioritise this one.",
+        "Alumni referral from the computing club.",
+        "HR mentioned the role can be remote for the first month.",
+        "Need to prepare a portfolio of two recent projects before the next round.",
+        "Stipend is above average and includes a transport allowance.",
+        "Culture seemed collaborative, with pair programming every afternoon.",
+        "Application portal asks for a transcript and a cover letter.",
+        "Second round is a take-home project due within five days.",
+        "They rejected last year but encouraged reapplying this season."
+    };
+
+    /**
+     * Shares of the stages among companies, in the order of {@link Status.Stage#values()}, in tenths of a percent.
+     */
+    private static final int[] STAGE_PERMILLE = {300, 250, 100, 80, 50, 40, 30, 10, 140};
+
+    private static final double TAG_ZIPF_EXPONENT = 1.1;
+    private static final int MAX_TAGS_PER_COMPANY = 6;
+    private static final int MAX_REMARK_SENTENCES = 40;
+
+    private final SplittableRandom random;
+    private final double[] tagCumulativeWeights;
+    private final String[] firstWords;
+    private final String[] secondWords;
+    private final String[] suffixes;
+    private int generatedCount;
+
+    /**
+     * Creates a generator whose companies are determined by {@code seed}.
+     */
+    public DatasetGenerator(long seed) {
+        random = new SplittableRandom(seed);
+        tagCumulativeWeights = zipfCumulativeWeights(TAGS.length, TAG_ZIPF_EXPONENT);
+        firstWords = shuffled(NAME_FIRST_WORDS);
+        secondWords = shuffled(NAME_SECOND_WORDS);
+        suffixes = shuffled(NAME_SUFFIXES);
+    }
+
+    /**
+     * Returns the next company.
+     */
+    public Company next() {
+        int index = generatedCount++;
+        String name = nameOf(index);
+        String slug = name.toLowerCase().replaceAll("[^a-z0-9]+", "");
+        return new Company(new Name(name),
+                new Phone(String.valueOf((random.nextBoolean() ? 6 : 9) * 10_000_000 + random.nextInt(10_000_000))),
+                new Email("careers@" + slug + ".com"),
+                new Address((1 + random.nextInt(300)) + " " + STREETS[random.nextInt(STREETS.length)] + ", #"
+                        + (1 + random.nextInt(40)) + "-" + (1 + random.nextInt(30))),
+                nextTags(),
+                new Remark(nextRemark()),
+                new Status(nextStage()));
+    }
+
+    /**
+     * Returns the next {@code count} companies.
+     */
+    public List<Company> next(int count) {
+        checkArgument(count >= 0, "Count must not be negative");
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(next());
+        }
+        return companies;
+    }
+
+    /**
+     * Returns a word that occurs in the names of many generated companies, for use in {@code find} keywords.
+     */
+    public String nextNameKeyword() {
+        String[] words = random.nextBoolean() ? firstWords : secondWords;
+        return words[random.nextInt(words.length)];
+    }
+
+    /**
+     * Returns a tag drawn from the same distribution as the tags of the generated companies.
+     */
+    public String nextTagName() {
+        int position = Arrays.binarySearch(tagCumulativeWeights, random.nextDouble());
+        int index = position >= 0 ? position : -position - 1;
+        return TAGS[Math.min(index, TAGS.length - 1)];
+    }
+
+    /**
+     * Returns a stage drawn from the same distribution as the statuses of the generated companies.
+     */
+    public Status.Stage nextStage() {
+        int draw = random.nextInt(1000);
+        Status.Stage[] stages = Status.Stage.values();
+        for (int i = 0; i < stages.length; i++) {
+            draw -= STAGE_PERMILLE[i];
+            if (draw < 0) {
+                return stages[i];
+            }
+        }
+        return stages[stages.length - 1];
+    }
+
+    /**
+     * Returns a random integer between 0 (inclusive) and {@code bound} (exclusive).
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Returns a name made of words picked by {@code index}. Every combination of words is used once before the
+     * names repeat with a round number appended.
+     */
+    private String nameOf(int index) {
+        int combinations = firstWords.length * secondWords.length * suffixes.length;
+        int combination = index % combinations;
+        int round = index / combinations;
+        String name = firstWords[combination % firstWords.length] + " "
+                + secondWords[(combination / firstWords.length) % secondWords.length] + " "
+                + suffixes[combination / (firstWords.length * secondWords.length)];
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private Set<Tag> nextTags() {
+        // Fewer tags are more common: 0 tags for about a quarter of companies, up to the maximum for a few
+        int count = (int) Math.min(MAX_TAGS_PER_COMPANY, Math.floor(-Math.log(1 - random.nextDouble()) * 1.5));
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag(nextTagName()));
+        }
+        return tags;
+    }
+
+    private String nextRemark() {
+        if (random.nextInt(10) < 4) {
+            return null;
+        }
+        // Mostly a sentence or two, occasionally a long log of every round
+        int sentences = (int) Math.min(MAX_REMARK_SENTENCES, 1 + Math.floor(Math.exp(random.nextDouble() * 3.7) - 1));
+        StringBuilder remark = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                remark.append(' ');
+            }
+            remark.append(REMARK_SENTENCES[random.nextInt(REMARK_SENTENCES.length)]);
+        }
+        return remark.toString();
+    }
+
+    private String[] shuffled(String[] words) {
+        String[] copy = words.clone();
+        for (int i = copy.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swapped = copy[i];
+            copy[i] = copy[j];
+            copy[j] = swapped;
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the cumulative probabilities of ranks 1 to {@code count} under Zipf's law with {@code exponent}.
+     */
+    private static double[] zipfCumulativeWeights(int count, double exponent) {
+        double[] cumulative = new double[count];
+        double total = 0;
+        for (int rank = 1; rank <= count; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < count; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.company.Company;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes generated companies to disk one at a time, so that datasets of any size can be written without holding
+ * them in memory: as an {@code addressbook.json} data file in the format the app reads, and as a script of
+ * {@code add} commands, one per line.
+ *
+ * <p>Run with {@code gradlew generateDataset}, optionally with {@code -PdatasetSizes=10000,1000000},
+ * {@code -PdatasetSeed=...} and {@code -PdatasetDir=...}. Each size is written to its own directory under the
+ * output directory.
+ */
+public class DatasetWriter {
+
+    public static final String DATA_FILE_NAME = "addressbook.json";
+    public static final String COMMAND_SCRIPT_FILE_NAME = "commands.txt";
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000, 10_000_000};
+    private static final String DEFAULT_OUTPUT_DIRECTORY = "build/datasets";
+
+    private DatasetWriter() {}
+
+    /**
+     * Writes datasets of the sizes in {@code args[0]} (comma-separated), generated from the seed in
+     * {@code args[1]}, into the directory in {@code args[2]}. Every argument is optional.
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0 && !args[0].isBlank() ? parseSizes(args[0]) : DEFAULT_SIZES;
+        long seed = args.length > 1 && !args[1].isBlank() ? Long.parseLong(args[1]) : DatasetGenerator.DEFAULT_SEED;
+        Path outputDirectory = Paths.get(args.length > 2 && !args[2].isBlank() ? args[2] : DEFAULT_OUTPUT_DIRECTORY);
+
+        for (int size : sizes) {
+            Path directory = outputDirectory.resolve(String.valueOf(size));
+            long start = System.nanoTime();
+            writeJson(directory.resolve(DATA_FILE_NAME), new DatasetGenerator(seed), size);
+            writeCommandScript(directory.resolve(COMMAND_SCRIPT_FILE_NAME), new DatasetGenerator(seed), size);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Wrote %,d companies to %s in %.1f s%n", size, directory, seconds);
+        }
+    }
+
+    /**
+     * Writes the next {@code count} companies of {@code generator} to {@code file} as address book JSON.
+     */
+    public static void writeJson(Path file, DatasetGenerator generator, int count) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                JsonGenerator json = new JsonFactory().createGenerator(writer)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartObject();
+            json.writeArrayFieldStart("companies");
+            for (int i = 0; i < count; i++) {
+                writeCompany(json, generator.next());
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the next {@code count} companies of {@code generator} to {@code file} as {@code add} commands.
+     */
+    public static void writeCommandScript(Path file, DatasetGenerator generator, int count) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(toAddCommand(generator.next()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code add} command that adds {@code company}.
+     */
+    public static String toAddCommand(Company company) {
+        StringBuilder command = new StringBuilder(AddCommand.COMMAND_WORD)
+                .append(' ').append(PREFIX_NAME).append(company.getName().fullName)
+                .append(' ').append(PREFIX_PHONE).append(company.getPhone().value)
+                .append(' ').append(PREFIX_EMAIL).append(company.getEmail().value)
+                .append(' ').append(PREFIX_ADDRESS).append(company.getAddress().value);
+        for (Tag tag : company.getTags()) {
+            command.append(' ').append(PREFIX_TAG).append(tag.tagName);
+        }
+        command.append(' ').append(PREFIX_STATUS).append(company.getStatus().toUserInputString());
+        if (company.getRemark().value != null) {
+            command.append(' ').append(PREFIX_REMARK).append(company.getRemark().value);
+        }
+        return command.toString();
+    }
+
+    private static void writeCompany(JsonGenerator json, Company company) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", company.getName().fullName);
+        json.writeStringField("phone", company.getPhone().value);
+        json.writeStringField("email", company.getEmail().value);
+        json.writeStringField("address", company.getAddress().value);
+        json.writeArrayFieldStart("tags");
+        for (Tag tag : company.getTags()) {
+            json.writeString(tag.tagName);
+        }
+        json.writeEndArray();
+        json.writeStringField("remark", company.getRemark().value);
+        json.writeStringField("status", company.getStatus().toStorageValue());
+        json.writeEndObject();
+    }
+
+    private static int[] parseSizes(String sizes) {
+        return Arrays.stream(sizes.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandLatencyTracker;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Status;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Drives a {@link LogicManager} over a generated address book with a mixed workload of commands, the way a user
+ * would but without the UI, and reports the throughput and the latency percentiles of each command. Every command
+ * saves the address book to a temporary directory, as it does in the app.
+ *
+ * <p>Run with {@code gradlew loadTest}, optionally with {@code -PloadTestCompanies=1000000},
+ * {@code -PloadTestOperations=5000} and {@code -PloadTestSeed=...}.
+ */
+public class LoadTest {
+
+    private static final int DEFAULT_COMPANY_COUNT = 100_000;
+    private static final int DEFAULT_OPERATION_COUNT = 2_000;
+    private static final double WARMUP_FRACTION = 0.1;
+    private static final String[] SEARCH_WORDS = {"interview", "portfolio", "offer", "referral", "remote", "design",
+        "assessment", "stipend", "culture", "deadline"};
+
+    /** Relative weights of the commands in the workload. Adds and deletes balance, keeping the size steady. */
+    private static final Map<String, Integer> MIX = Map.of(
+            FindCommand.COMMAND_WORD, 25,
+            FilterCommand.COMMAND_WORD, 10,
+            QueryCommand.COMMAND_WORD, 10,
+            SearchCommand.COMMAND_WORD, 5,
+            ListCommand.COMMAND_WORD, 10,
+            EditCommand.COMMAND_WORD, 20,
+            AddCommand.COMMAND_WORD, 10,
+            DeleteCommand.COMMAND_WORD, 10);
+
+    private final Logic logic;
+    private final DatasetGenerator generator;
+    private final String[] weightedCommandWords;
+    private final Map<String, LatencyHistogram> latencies = new TreeMap<>();
+    private int failureCount;
+
+    private LoadTest(Logic logic, DatasetGenerator generator) {
+        this.logic = logic;
+        this.generator = generator;
+        this.weightedCommandWords = MIX.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Runs the load test with the company count in {@code args[0]}, the operation count in {@code args[1]} and
+     * the seed in {@code args[2]}. Every argument is optional.
+     */
+    public static void main(String[] args) throws IOException {
+        int companyCount = intArgument(args, 0, DEFAULT_COMPANY_COUNT);
+        int operationCount = intArgument(args, 1, DEFAULT_OPERATION_COUNT);
+        long seed = args.length > 2 && !args[2].isBlank() ? Long.parseLong(args[2]) : DatasetGenerator.DEFAULT_SEED;
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        DatasetGenerator generator = new DatasetGenerator(seed);
+        long setupStart = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCompanies(generator.next(companyCount));
+        Path directory = Files.createTempDirectory("load-test");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(directory.resolve(DatasetWriter.DATA_FILE_NAME)),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+        System.out.printf("Loaded %,d companies in %.1f s%n", companyCount, (System.nanoTime() - setupStart) / 1e9);
+
+        LoadTest loadTest = new LoadTest(logic, generator);
+        int warmupCount = (int) (operationCount * WARMUP_FRACTION);
+        for (int i = 0; i < warmupCount; i++) {
+            loadTest.runNextCommand();
+        }
+        loadTest.latencies.clear();
+        loadTest.failureCount = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < operationCount; i++) {
+            loadTest.runNextCommand();
+        }
+        loadTest.report(operationCount, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs one command picked from the workload mix, recording its end-to-end latency.
+     */
+    private void runNextCommand() {
+        String commandText = nextCommand(weightedCommandWords[generator.nextInt(weightedCommandWords.length)]);
+        String commandWord = commandText.split(" ", 2)[0];
+        long start = System.nanoTime();
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failureCount++;
+        }
+        latencies.computeIfAbsent(commandWord, unused -> new LatencyHistogram()).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns a command starting with {@code commandWord} with realistic arguments. Commands that act on a shown
+     * company become {@code list} when no company is shown.
+     */
+    private String nextCommand(String commandWord) {
+        int shownCount = logic.getFilteredCompanyList().size();
+        switch (commandWord) {
+        case FindCommand.COMMAND_WORD:
+            return commandWord + " " + generator.nextNameKeyword()
+                    + (generator.nextInt(3) == 0 ? " " + generator.nextNameKeyword() : "");
+        case FilterCommand.COMMAND_WORD:
+            return commandWord + " s/" + Status.toUserInputString(generator.nextStage());
+        case QueryCommand.COMMAND_WORD:
+            return commandWord + " tag:" + generator.nextTagName() + " AND status:"
+                    + Status.toUserInputString(generator.nextStage());
+        case SearchCommand.COMMAND_WORD:
+            return commandWord + " " + SEARCH_WORDS[generator.nextInt(SEARCH_WORDS.length)] + " k/20";
+        case EditCommand.COMMAND_WORD:
+            if (shownCount == 0) {
+                return ListCommand.COMMAND_WORD;
+            }
+            return commandWord + " " + (1 + generator.nextInt(shownCount)) + " t/" + generator.nextTagName()
+                    + " s/" + Status.toUserInputString(generator.nextStage());
+        case DeleteCommand.COMMAND_WORD:
+            if (shownCount == 0) {
+                return ListCommand.COMMAND_WORD;
+            }
+            return commandWord + " " + (1 + generator.nextInt(shownCount));
+        case AddCommand.COMMAND_WORD:
+            return DatasetWriter.toAddCommand(generator.next());
+        default:
+            return ListCommand.COMMAND_WORD;
+        }
+    }
+
+    private void report(int operationCount, long elapsedNanos) {
+        System.out.printf("Ran %,d commands in %.1f s: %.1f commands/s, %d failed%n", operationCount,
+                elapsedNanos / 1e9, operationCount / (elapsedNanos / 1e9), failureCount);
+        System.out.printf("%-8s %8s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p90 ms", "p99 ms",
+                "max ms");
+        latencies.forEach((commandWord, histogram) -> System.out.printf("%-8s %8d %10.2f %10.2f %10.2f %10.2f%n",
+                commandWord, histogram.getCount(), toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)), toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMaxNanos())));
+
+        System.out.println("Per phase, including warmup:");
+        System.out.printf("%-8s %-8s %8s %10s %10s %10s%n", "command", "phase", "count", "p50 ms", "p99 ms",
+                "max ms");
+        for (CommandLatencyTracker.Summary summary : logic.getCommandLatencySummaries()) {
+            System.out.printf("%-8s %-8s %8d %10.2f %10.2f %10.2f%n", summary.getCommandWord(), summary.getPhase(),
+                    summary.getCount(), toMillis(summary.getP50Nanos()), toMillis(summary.getP99Nanos()),
+                    toMillis(summary.getMaxNanos()));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static int intArgument(String[] args, int position, int defaultValue) {
+        return args.length > position && !args[position].isBlank() ? Integer.parseInt(args[position]) : defaultValue;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} for a typical input of each command type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.of(
+            "add", "add n/Benchmark Holdings p/98765432 e/hr@benchmark.com a/1 Benchmark Road t/remote t/fintech "
+                    + "s/applied r/Met the recruiter at a career fair",
+            "edit", "edit 1,3-6 t/remote s/tech-interview",
+            "delete", "delete 1-5",
+            "find", "find goog tra",
+            "fuzzyFind", "find ~1 amazn",
+            "filter", "filter s/in-process",
+            "q", "q status:applied AND tag:remote AND NOT name:bank",
+            "search", "search system design k/5",
+            "list", "list");
+
+    @Param({"add", "edit", "delete", "find", "fuzzyFind", "filter", "q", "search", "list"})
+    private String commandType;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(commandType);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
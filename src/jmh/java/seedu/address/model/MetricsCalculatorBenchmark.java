@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkCompanies;
+
+/**
+ * Measures {@link MetricsCalculator#calculateMetrics(ReadOnlyAddressBook)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsCalculatorBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private final MetricsCalculator calculator = new MetricsCalculator();
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkCompanies.generateAddressBook(size);
+    }
+
+    @Benchmark
+    public MetricsCalculator.MetricsData calculateMetrics() {
+        return calculator.calculateMetrics(addressBook);
+    }
+}
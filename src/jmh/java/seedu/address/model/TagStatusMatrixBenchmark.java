@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkCompanies;
+import seedu.address.model.company.Company;
+
+/**
+ * Measures {@link TagStatusMatrix#of(List)}, which counts large lists in parallel, against counting the same
+ * list sequentially.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagStatusMatrixBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<Company> companies;
+
+    @Setup
+    public void setUp() {
+        companies = BenchmarkCompanies.generate(size);
+    }
+
+    @Benchmark
+    public TagStatusMatrix of() {
+        return TagStatusMatrix.of(companies);
+    }
+
+    @Benchmark
+    public TagStatusMatrix sequential() {
+        return companies.stream().collect(TagStatusMatrix.collector());
+    }
+}
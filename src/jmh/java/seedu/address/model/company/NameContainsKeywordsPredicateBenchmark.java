@@ -0,0 +1,61 @@
+package seedu.address.model.company;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkCompanies;
+
+/**
+ * Measures testing every company of a list against a {@link NameContainsKeywordsPredicate}, as a full scan by
+ * {@code find} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"1", "3"})
+    private int keywordCount;
+
+    private List<Company> companies;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        companies = BenchmarkCompanies.generate(size);
+        List<String> keywords = List.of("glob", "quantum", "labs");
+        predicate = new NameContainsKeywordsPredicate(keywords.subList(0, keywordCount));
+    }
+
+    /**
+     * Returns the number of companies matching the predicate.
+     */
+    @Benchmark
+    public int testAll() {
+        int matches = 0;
+        for (Company company : companies) {
+            if (predicate.test(company)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
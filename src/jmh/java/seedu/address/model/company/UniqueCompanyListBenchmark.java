@@ -0,0 +1,92 @@
+package seedu.address.model.company;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkCompanies;
+
+/**
+ * Measures the operations of {@link UniqueCompanyList} on lists of 10 thousand to 1 million companies.
+ * Each benchmark leaves the same companies in the list, so that every invocation sees a list of the same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniqueCompanyListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private UniqueCompanyList list;
+    private Company middle;
+    private Company editedMiddle;
+    private Company absent;
+    private boolean isEdited;
+
+    @Setup
+    public void setUp() {
+        List<Company> companies = BenchmarkCompanies.generate(size);
+        list = new UniqueCompanyList();
+        list.setCompanies(companies);
+        middle = companies.get(size / 2);
+        editedMiddle = BenchmarkCompanies.generate(size / 2, Status.Stage.OFFERED);
+        absent = BenchmarkCompanies.generate(size, Status.Stage.TO_APPLY);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(middle);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    /**
+     * Adds a company to the end of the list and removes it again.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absent);
+        list.remove(absent);
+    }
+
+    /**
+     * Removes a company from the middle of the list and adds it back at the end.
+     */
+    @Benchmark
+    public void removeThenAdd() {
+        Company toRemove = isEdited ? editedMiddle : middle;
+        list.remove(toRemove);
+        list.add(toRemove);
+    }
+
+    /**
+     * Replaces a company in the middle of the list with an edited copy, or the copy with the original.
+     */
+    @Benchmark
+    public void setCompany() {
+        if (isEdited) {
+            list.setCompany(editedMiddle, middle);
+        } else {
+            list.setCompany(middle, editedMiddle);
+        }
+        isEdited = !isEdited;
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import javax.management.JMException;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -15,18 +18,25 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.management.AppStatistics;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.TextIndex;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTextIndexStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+import seedu.address.storage.TextIndexStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -61,11 +71,17 @@ public class MainApp extends Application {
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         System.out.println("AddressBookFile Path: " + userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        TextIndexStorage textIndexStorage = new JsonTextIndexStorage(
+                JsonTextIndexStorage.pathNextTo(userPrefs.getAddressBookFilePath()));
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                userPrefs.getCommandHistoryFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, textIndexStorage, commandHistoryStorage);
 
         model = initModelManager(storage, userPrefs);
+        initTextIndex(storage, model);
 
         logic = new LogicManager(model, storage);
+        initStatistics();
 
         ui = new UiManager(logic);
     }
@@ -96,6 +112,39 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Restores the full-text index of {@code model} from {@code storage} if the stored snapshot still matches the
+     * data. Otherwise the index is left to be built on first use.
+     */
+    private void initTextIndex(Storage storage, Model model) {
+        List<Company> companies = model.getAddressBook().getCompanyList();
+        try {
+            Optional<TextIndex.Snapshot> snapshot = storage.readTextIndex();
+            if (snapshot.isEmpty() || !snapshot.get().getFingerprint().equals(TextIndex.fingerprintOf(companies))) {
+                logger.info("No up-to-date text index at " + storage.getTextIndexFilePath()
+                        + "; it will be rebuilt when first needed.");
+                return;
+            }
+            model.setTextIndex(TextIndex.fromSnapshot(snapshot.get(), companies));
+            logger.info("Restored text index from " + storage.getTextIndexFilePath());
+        } catch (DataLoadingException | IllegalArgumentException e) {
+            logger.warning("Text index at " + storage.getTextIndexFilePath() + " could not be loaded."
+                    + " It will be rebuilt when first needed.");
+        }
+    }
+
+    /**
+     * Exposes the statistics of the app to JMX clients such as JConsole. The app runs without them if they cannot
+     * be registered.
+     */
+    private void initStatistics() {
+        try {
+            AppStatistics.register(new AppStatistics(model, logic, storage, Platform::runLater));
+        } catch (JMException e) {
+            logger.warning("Could not register app statistics with JMX: " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -185,5 +234,15 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        // The index is only saved if it was built or changed, so it is never built just to be saved
+        Optional<TextIndex> textIndex = model.getBuiltTextIndex().filter(TextIndex::isModified);
+        if (textIndex.isEmpty()) {
+            return;
+        }
+        try {
+            storage.saveTextIndex(textIndex.get().toSnapshot(model.getAddressBook().getCompanyList()));
+        } catch (IOException e) {
+            logger.warning("Failed to save text index " + StringUtil.getDetails(e));
+        }
     }
 }
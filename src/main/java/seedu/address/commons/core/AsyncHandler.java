@@ -0,0 +1,123 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background thread, so that logging does not
+ * wait for console or file I/O. Records are queued in a bounded ring buffer. When the buffer is full, records below
+ * {@code WARNING} are dropped, and the number dropped is logged once there is room again; {@code WARNING} and
+ * {@code SEVERE} records wait for room instead, so that errors are never lost.
+ * Closing the handler delivers the records still queued and then closes the other handlers.
+ */
+public class AsyncHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final List<Handler> delegates;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedSinceLastReport = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that queues at most {@code capacity} records for {@code delegates}.
+     */
+    public AsyncHandler(int capacity, List<Handler> delegates) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        requireNonNull(delegates);
+        this.delegates = List.copyOf(delegates);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::deliverUntilClosed, "async-logging");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The caller is inferred from the current stack, which is gone by the time the worker formats the record
+        record.getSourceClassName();
+
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            try {
+                buffer.put(record);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (!buffer.offer(record)) {
+            droppedSinceLastReport.incrementAndGet();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void flush() {
+        delegates.forEach(Handler::flush);
+    }
+
+    /**
+     * Delivers the records still queued, waiting at most {@link #CLOSE_TIMEOUT_MILLIS}, and closes the other
+     * handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        delegates.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void deliverUntilClosed() {
+        while (!isClosed || !buffer.isEmpty()) {
+            LogRecord record;
+            try {
+                record = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ie) {
+                return;
+            }
+            if (record == null) {
+                continue;
+            }
+            long dropped = droppedSinceLastReport.getAndSet(0);
+            if (dropped > 0) {
+                deliver(new LogRecord(Level.WARNING, dropped + " log records were dropped as the log buffer was full"));
+            }
+            deliver(record);
+        }
+    }
+
+    private void deliver(LogRecord record) {
+        for (Handler delegate : delegates) {
+            delegate.publish(record);
+        }
+    }
+}
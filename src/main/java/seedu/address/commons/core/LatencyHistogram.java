@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Records latency samples (in nanoseconds) into a fixed set of log-linear buckets, in the style of an
+ * HDR histogram. Each power-of-two range is split into {@value #SUB_BUCKET_COUNT} equal sub-buckets, so any
+ * reported percentile is within 12.5% of the true value while recording stays O(1) and allocation-free.
+ * The exact maximum is tracked separately.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a single sample. Negative samples (e.g. from a non-monotonic clock) are recorded as zero.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexFor(value)]++;
+        totalCount++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of all recorded samples, or 0 if nothing has been recorded.
+     */
+    public synchronized long getMeanNanos() {
+        return totalCount == 0 ? 0 : totalNanos / totalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile, or 0 if nothing has been recorded.
+     * The value reported is the upper bound of the bucket holding the sample, capped at the recorded maximum.
+     *
+     * @param percentile a value between 0 and 100 (inclusive).
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the bucket that {@code value} falls into.
+     * Values below {@link #SUB_BUCKET_COUNT} and the first power-of-two range above it are recorded exactly.
+     */
+    static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value that is recorded into bucket {@code index}.
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the execution of a parsed command against the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"Cerebro", "Command"})
+@Description("Execution of a parsed command against the model, including filtering but not saving")
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Company Count")
+    @Description("Companies in the address book after the command")
+    private int companyCount;
+
+    @Label("Success")
+    @Description("Whether the command completed without a CommandException")
+    private boolean success;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setCompanyCount(int companyCount) {
+        this.companyCount = companyCount;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the parsing of a command entered by the user.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"Cerebro", "Command"})
+@Description("Parsing of a command entered by the user")
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Success")
+    @Description("Whether the command could be parsed")
+    private boolean success;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the reading and conversion of the address book data file.
+ */
+@Name("seedu.address.DataLoad")
+@Label("Data Load")
+@Category({"Cerebro", "Storage"})
+@Description("Reading and conversion of the address book data file")
+@StackTrace(false)
+public class DataLoadEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Company Count")
+    @Description("Companies loaded, or 0 if the file is missing or invalid")
+    private int companyCount;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setCompanyCount(int companyCount) {
+        this.companyCount = companyCount;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the application of a predicate to the filtered company list.
+ */
+@Name("seedu.address.Filter")
+@Label("Filter")
+@Category({"Cerebro", "Model"})
+@Description("Application of a predicate to the filtered company list")
+@StackTrace(false)
+public class FilterEvent extends Event {
+    @Label("Predicate")
+    private String predicate;
+
+    @Label("Company Count")
+    private int companyCount;
+
+    @Label("Matched Rows")
+    private int matchedRows;
+
+    @Label("Cache Hit")
+    @Description("Whether the matches were read from the filter cache")
+    private boolean cacheHit;
+
+    public void setPredicate(String predicate) {
+        this.predicate = predicate;
+    }
+
+    public void setCompanyCount(int companyCount) {
+        this.companyCount = companyCount;
+    }
+
+    public void setMatchedRows(int matchedRows) {
+        this.matchedRows = matchedRows;
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the conversion of the address book to JSON.
+ */
+@Name("seedu.address.JsonSerialize")
+@Label("JSON Serialize")
+@Category({"Cerebro", "Storage"})
+@Description("Conversion of the address book to JSON")
+@StackTrace(false)
+public class JsonSerializeEvent extends Event {
+    @Label("Company Count")
+    private int companyCount;
+
+    @Label("Characters")
+    private int characters;
+
+    public void setCompanyCount(int companyCount) {
+        this.companyCount = companyCount;
+    }
+
+    public void setCharacters(int characters) {
+        this.characters = characters;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the writing of the address book JSON to its data file.
+ */
+@Name("seedu.address.JsonWrite")
+@Label("JSON Write")
+@Category({"Cerebro", "Storage"})
+@Description("Writing of the address book JSON to its data file")
+@StackTrace(false)
+public class JsonWriteEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event spanning the computation of the metrics shown in the metrics window.
+ */
+@Name("seedu.address.MetricsComputation")
+@Label("Metrics Computation")
+@Category({"Cerebro", "Model"})
+@Description("Computation of the metrics shown in the metrics window")
+@StackTrace(false)
+public class MetricsComputationEvent extends Event {
+    @Label("Company Count")
+    private int companyCount;
+
+    public void setCompanyCount(int companyCount) {
+        this.companyCount = companyCount;
+    }
+}
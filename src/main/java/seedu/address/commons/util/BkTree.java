@@ -0,0 +1,165 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A Burkhard-Keller tree of strings under {@link StringUtil#damerauLevenshteinDistance(String, String)} (or any
+ * other metric).
+ * A search for words within distance {@code d} of a query only descends into children whose edge distance lies
+ * within {@code d} of the node's distance to the query, so it visits a small fraction of the words for small
+ * {@code d}.
+ * Removed words are left in place as tombstones so that the tree structure stays valid; the tree is rebuilt from
+ * its live words once tombstones outnumber them.
+ */
+public class BkTree {
+
+    private static final int MIN_REBUILD_SIZE = 64;
+
+    private final ToIntBiFunction<String, String> metric;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node root;
+    private int tombstones;
+
+    /**
+     * Creates an empty tree using the unrestricted Damerau-Levenshtein distance.
+     */
+    public BkTree() {
+        this(StringUtil::damerauLevenshteinDistance);
+    }
+
+    /**
+     * Creates an empty tree using {@code metric}, which must be a metric (in particular, satisfy the triangle
+     * inequality) for searches to be correct.
+     */
+    public BkTree(ToIntBiFunction<String, String> metric) {
+        requireNonNull(metric);
+        this.metric = metric;
+    }
+
+    /**
+     * Adds {@code word} to the tree. Adding a word that is already present has no effect.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node existing = nodes.get(word);
+        if (existing != null) {
+            if (existing.removed) {
+                existing.removed = false;
+                tombstones--;
+            }
+            return;
+        }
+
+        Node node = new Node(word);
+        nodes.put(word, node);
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            int distance = metric.applyAsInt(word, parent.word);
+            Node child = parent.children.get(distance);
+            if (child == null) {
+                parent.children.put(distance, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree, if present.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = nodes.get(word);
+        if (node == null || node.removed) {
+            return;
+        }
+        node.removed = true;
+        tombstones++;
+        if (tombstones > MIN_REBUILD_SIZE && tombstones > size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns true if {@code word} is in the tree.
+     */
+    public boolean contains(String word) {
+        Node node = nodes.get(word);
+        return node != null && !node.removed;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return nodes.size() - tombstones;
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    public void clear() {
+        nodes.clear();
+        root = null;
+        tombstones = 0;
+    }
+
+    /**
+     * Returns every word within {@code maxDistance} of {@code query}, in no particular order.
+     */
+    public List<String> search(String query, int maxDistance) {
+        requireNonNull(query);
+        checkArgument(maxDistance >= 0, "Distance must not be negative");
+
+        List<String> results = new ArrayList<>();
+        if (root == null) {
+            return results;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = metric.applyAsInt(query, node.word);
+            if (distance <= maxDistance && !node.removed) {
+                results.add(node.word);
+            }
+            for (int edge = Math.max(0, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                Node child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return results;
+    }
+
+    private void rebuild() {
+        List<String> live = new ArrayList<>(size());
+        nodes.values().stream().filter(node -> !node.removed).forEach(node -> live.add(node.word));
+        clear();
+        live.forEach(this::add);
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean removed;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
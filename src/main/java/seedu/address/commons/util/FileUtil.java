@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -11,7 +13,7 @@ import java.nio.file.Paths;
  */
 public class FileUtil {
 
-    private static final String CHARSET = "UTF-8";
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +79,22 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, toBytes(content));
+    }
+
+    /**
+     * Writes given bytes to a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+    }
+
+    /**
+     * Returns {@code content} encoded in the charset used for files.
+     */
+    public static byte[] toBytes(String content) {
+        return content.getBytes(CHARSET);
     }
 
 }
@@ -0,0 +1,362 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list whose updated copies share structure with the original, so a copy costs O(1) and an update
+ * O(log n) time and memory rather than O(n).
+ * The elements are held in leaves of up to {@value #MAX_LEAF_SIZE} elements, joined by a tree of branches that
+ * is balanced as an AVL tree by height and indexed by the number of elements under each branch. An update copies
+ * one leaf and the branches above it; every other node is shared with the list it was made from. Removing elements
+ * merges sibling leaves that fit in one, so the leaves stay reasonably full.
+ * Safe to read from any thread, as nothing in it ever changes.
+ *
+ * @param <E> the type of the elements, which may not be null.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    static final int MAX_LEAF_SIZE = 32;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    // null when the list is empty
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in order, built in O(n).
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        int leafCount = (elements.size() + MAX_LEAF_SIZE - 1) / MAX_LEAF_SIZE;
+        if (leafCount == 0) {
+            return empty();
+        }
+        Node[] leaves = new Node[leafCount];
+        for (int i = 0; i < leafCount; i++) {
+            int from = i * MAX_LEAF_SIZE;
+            int to = Math.min(from + MAX_LEAF_SIZE, elements.size());
+            leaves[i] = new Leaf(elements.subList(from, to).toArray());
+        }
+        return new PersistentList<>(buildBalanced(leaves, 0, leafCount));
+    }
+
+    private static Node buildBalanced(Node[] leaves, int from, int to) {
+        if (to - from == 1) {
+            return leaves[from];
+        }
+        int middle = (from + to) >>> 1;
+        return new Branch(buildBalanced(leaves, from, middle), buildBalanced(leaves, middle, to));
+    }
+
+    public int size() {
+        return root == null ? 0 : root.size();
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size()) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size();
+                node = branch.right;
+            }
+        }
+        return (E) ((Leaf) node).items[index];
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} on one place later.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(root == null ? new Leaf(new Object[] {element}) : insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list, which is as immutable as this list is.
+     */
+    public List<E> asList() {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which visits each leaf once rather than searching for every
+     * element from the root.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator<>(root);
+    }
+
+    /**
+     * Returns the height of the tree of branches, where a single leaf has height 0.
+     */
+    int height() {
+        return root == null ? 0 : root.height();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static Node set(Node node, int index, Object element) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items.clone();
+            items[index] = element;
+            return new Leaf(items);
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        return index < leftSize
+                ? new Branch(set(branch.left, index, element), branch.right)
+                : new Branch(branch.left, set(branch.right, index - leftSize, element));
+    }
+
+    private static Node insert(Node node, int index, Object element) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            Object[] inserted = new Object[items.length + 1];
+            System.arraycopy(items, 0, inserted, 0, index);
+            inserted[index] = element;
+            System.arraycopy(items, index, inserted, index + 1, items.length - index);
+            if (inserted.length <= MAX_LEAF_SIZE) {
+                return new Leaf(inserted);
+            }
+            int half = inserted.length / 2;
+            return new Branch(new Leaf(Arrays.copyOfRange(inserted, 0, half)),
+                    new Leaf(Arrays.copyOfRange(inserted, half, inserted.length)));
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        return index <= leftSize
+                ? balance(insert(branch.left, index, element), branch.right)
+                : balance(branch.left, insert(branch.right, index - leftSize, element));
+    }
+
+    /**
+     * Returns {@code node} without the element at {@code index}, or null if that was its only element.
+     */
+    private static Node remove(Node node, int index) {
+        if (node instanceof Leaf) {
+            Object[] items = ((Leaf) node).items;
+            if (items.length == 1) {
+                return null;
+            }
+            Object[] removed = new Object[items.length - 1];
+            System.arraycopy(items, 0, removed, 0, index);
+            System.arraycopy(items, index + 1, removed, index, items.length - index - 1);
+            return new Leaf(removed);
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        if (index < leftSize) {
+            Node left = remove(branch.left, index);
+            return left == null ? branch.right : join(left, branch.right);
+        }
+        Node right = remove(branch.right, index - leftSize);
+        return right == null ? branch.left : join(branch.left, right);
+    }
+
+    /**
+     * Returns a balanced node with the elements of {@code left} followed by those of {@code right}, merging them
+     * into one leaf if they are both leaves that fit in one.
+     */
+    private static Node join(Node left, Node right) {
+        if (left instanceof Leaf && right instanceof Leaf && left.size() + right.size() <= MAX_LEAF_SIZE) {
+            Object[] leftItems = ((Leaf) left).items;
+            Object[] merged = Arrays.copyOf(leftItems, leftItems.length + right.size());
+            System.arraycopy(((Leaf) right).items, 0, merged, leftItems.length, right.size());
+            return new Leaf(merged);
+        }
+        return balance(left, right);
+    }
+
+    /**
+     * Returns a node with the elements of {@code left} followed by those of {@code right}, rotating once or twice
+     * if their heights differ by 2, as they may after one insertion or removal.
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height() > right.height() + 1) {
+            Branch leftBranch = (Branch) left;
+            if (leftBranch.left.height() >= leftBranch.right.height()) {
+                return new Branch(leftBranch.left, new Branch(leftBranch.right, right));
+            }
+            Branch middle = (Branch) leftBranch.right;
+            return new Branch(new Branch(leftBranch.left, middle.left), new Branch(middle.right, right));
+        }
+        if (right.height() > left.height() + 1) {
+            Branch rightBranch = (Branch) right;
+            if (rightBranch.right.height() >= rightBranch.left.height()) {
+                return new Branch(new Branch(left, rightBranch.left), rightBranch.right);
+            }
+            Branch middle = (Branch) rightBranch.left;
+            return new Branch(new Branch(left, middle.left), new Branch(middle.right, rightBranch.right));
+        }
+        return new Branch(left, right);
+    }
+
+    private abstract static class Node {
+        abstract int size();
+
+        abstract int height();
+    }
+
+    private static final class Leaf extends Node {
+        private final Object[] items;
+
+        Leaf(Object[] items) {
+            this.items = items;
+        }
+
+        @Override
+        int size() {
+            return items.length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Branch(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+            this.height = 1 + Math.max(left.height(), right.height());
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+    }
+
+    /**
+     * Iterates over the elements leaf by leaf, keeping the right branches still to visit on a stack.
+     */
+    private static final class LeafIterator<E> implements Iterator<E> {
+        private static final Object[] NO_ITEMS = new Object[0];
+
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private Object[] items = NO_ITEMS;
+        private int index;
+
+        LeafIterator(Node root) {
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index == items.length) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                Node node = pending.pop();
+                while (node instanceof Branch) {
+                    pending.push(((Branch) node).right);
+                    node = ((Branch) node).left;
+                }
+                items = ((Leaf) node).items;
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (E) items[index++];
+        }
+    }
+}
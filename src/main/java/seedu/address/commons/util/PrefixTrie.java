@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * A case-insensitive prefix tree of strings that counts how many times each string has been added, so that a
+ * string shared by several owners (e.g. a tag used by several companies) stays until its last owner removes it.
+ * Completing a prefix costs O(prefix length + limit * longest string), independent of the number of strings.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code key}. The casing of the first occurrence is the one returned by completions.
+     */
+    public void add(String key) {
+        requireNonNull(key);
+        Node node = root;
+        for (char c : fold(key).toCharArray()) {
+            node = node.children.computeIfAbsent(c, unused -> new Node());
+        }
+        if (node.count++ == 0) {
+            node.key = key;
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code key}, if present.
+     */
+    public void remove(String key) {
+        requireNonNull(key);
+        String folded = fold(key);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (char c : folded.toCharArray()) {
+            path.push(node);
+            node = node.children.get(c);
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.count == 0 || --node.count > 0) {
+            return;
+        }
+        node.key = null;
+        size--;
+
+        // Prune the branch that no longer leads to any key
+        for (int i = folded.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(folded.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} keys that start with {@code prefix} (case-insensitive), in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, "Limit must be positive");
+
+        List<String> results = new ArrayList<>();
+        Node node = root;
+        for (char c : fold(prefix).toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return results;
+            }
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty() && results.size() < limit) {
+            Node current = pending.pop();
+            if (current.count > 0) {
+                results.add(current.key);
+            }
+            for (Node child : current.children.descendingMap().values()) {
+                pending.push(child);
+            }
+        }
+        return results;
+    }
+
+    private static String fold(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private int count;
+        private String key;
+    }
+}
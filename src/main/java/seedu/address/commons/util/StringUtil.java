@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
@@ -65,4 +67,83 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code a} and {@code b}: the minimum number of single
+     * character insertions, deletions, substitutions and adjacent transpositions turning one into the other.
+     * This is the restricted (optimal string alignment) variant, in which no substring is edited twice.
+     * The comparison is case-sensitive.
+     */
+    public static int editDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, previousPrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Returns the unrestricted Damerau-Levenshtein distance between {@code a} and {@code b}, in which a substring
+     * may be edited again after a transposition. Unlike {@link #editDistance(String, String)}, this satisfies the
+     * triangle inequality, and it is never larger. The comparison is case-sensitive.
+     */
+    public static int damerauLevenshteinDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+
+        // Shifted by one row and column, with a border of distances too large to be chosen
+        int unreachable = a.length() + b.length();
+        int[][] distances = new int[a.length() + 2][b.length() + 2];
+        distances[0][0] = unreachable;
+        for (int i = 0; i <= a.length(); i++) {
+            distances[i + 1][0] = unreachable;
+            distances[i + 1][1] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            distances[0][j + 1] = unreachable;
+            distances[1][j + 1] = j;
+        }
+
+        Map<Character, Integer> lastRowOf = new HashMap<>();
+        for (int i = 1; i <= a.length(); i++) {
+            int lastMatchingColumn = 0;
+            for (int j = 1; j <= b.length(); j++) {
+                int transposedRow = lastRowOf.getOrDefault(b.charAt(j - 1), 0);
+                int transposedColumn = lastMatchingColumn;
+                int cost = 1;
+                if (a.charAt(i - 1) == b.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchingColumn = j;
+                }
+                int distance = Math.min(Math.min(distances[i][j] + cost, distances[i + 1][j] + 1),
+                        distances[i][j + 1] + 1);
+                int transposition = distances[transposedRow][transposedColumn]
+                        + (i - transposedRow - 1) + 1 + (j - transposedColumn - 1);
+                distances[i + 1][j + 1] = Math.min(distance, transposition);
+            }
+            lastRowOf.put(a.charAt(i - 1), i);
+        }
+        return distances[a.length() + 1][b.length() + 1];
+    }
 }
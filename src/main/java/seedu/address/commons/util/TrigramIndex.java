@@ -0,0 +1,172 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case-insensitive index of the three-character substrings (trigrams) of texts identified by increasing
+ * {@code long} ids, used to find the most recent text that may contain a query without scanning every text.
+ * Each trigram maps to the sorted ids of the texts containing it, so removing the oldest text (as a bounded log
+ * does) is O(1) per trigram, and a lookup walks only the ids of the query's rarest trigram.
+ * A candidate contains every trigram of the query but not necessarily the query itself, so callers must check it.
+ */
+public class TrigramIndex {
+
+    /** Returned by {@link #latestCandidate(String, long)} when no indexed text can contain the query. */
+    public static final long NO_CANDIDATE = -1;
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private long lastId = NO_CANDIDATE;
+
+    /**
+     * Indexes {@code text} under {@code id}, which must be larger than every id indexed before.
+     */
+    public void add(long id, String text) {
+        requireNonNull(text);
+        checkArgument(id > lastId, "Ids must be added in increasing order");
+        lastId = id;
+        for (String gram : gramsOf(text)) {
+            postings.computeIfAbsent(gram, unused -> new Postings()).append(id);
+        }
+    }
+
+    /**
+     * Removes {@code text}, which must have been indexed under {@code id}.
+     */
+    public void remove(long id, String text) {
+        requireNonNull(text);
+        for (String gram : gramsOf(text)) {
+            Postings ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every text from the index.
+     */
+    public void clear() {
+        postings.clear();
+        lastId = NO_CANDIDATE;
+    }
+
+    /**
+     * Returns the largest id not larger than {@code atOrBefore} of a text containing every trigram of
+     * {@code query}, or {@link #NO_CANDIDATE} if there is none.
+     * A query shorter than a trigram constrains nothing, so {@code atOrBefore} itself is returned.
+     */
+    public long latestCandidate(String query, long atOrBefore) {
+        requireNonNull(query);
+        Set<String> grams = gramsOf(query);
+        if (grams.isEmpty()) {
+            return atOrBefore;
+        }
+
+        Postings rarest = null;
+        for (String gram : grams) {
+            Postings ids = postings.get(gram);
+            if (ids == null) {
+                return NO_CANDIDATE;
+            }
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+        }
+
+        for (int i = rarest.indexAtOrBefore(atOrBefore); i >= rarest.start; i--) {
+            long id = rarest.ids[i];
+            if (containsAll(grams, id)) {
+                return id;
+            }
+        }
+        return NO_CANDIDATE;
+    }
+
+    private boolean containsAll(Set<String> grams, long id) {
+        for (String gram : grams) {
+            if (!postings.get(gram).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        String folded = text.toLowerCase(Locale.ROOT);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * A growable sorted array of ids in which the oldest ids are dropped by advancing {@code start}.
+     */
+    private static class Postings {
+        private long[] ids = new long[4];
+        private int start;
+        private int end;
+
+        int size() {
+            return end - start;
+        }
+
+        boolean isEmpty() {
+            return start == end;
+        }
+
+        void append(long id) {
+            if (end == ids.length) {
+                if (start > ids.length / 2) {
+                    System.arraycopy(ids, start, ids, 0, size());
+                } else {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    System.arraycopy(ids, start, ids, 0, size());
+                }
+                end -= start;
+                start = 0;
+            }
+            ids[end++] = id;
+        }
+
+        boolean remove(long id) {
+            if (isEmpty()) {
+                return false;
+            }
+            if (ids[start] == id) {
+                start++;
+                return true;
+            }
+            int index = Arrays.binarySearch(ids, start, end, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, end - index - 1);
+            end--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, start, end, id) >= 0;
+        }
+
+        /**
+         * Returns the position of the largest id not larger than {@code id}, or {@code start - 1} if there is none.
+         */
+        int indexAtOrBefore(long id) {
+            int index = Arrays.binarySearch(ids, start, end, id);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Suggests completions of the value being typed at the end of a command: company names after {@code n/},
+ * tags after {@code t/} and statuses after {@code s/}, as well as {@code name:}, {@code tag:} and
+ * {@code status:} terms of a query.
+ * The names and tags are kept in {@link PrefixTrie}s that follow changes to the company list, so a lookup does
+ * not depend on the number of companies. Lookups may be made from any thread.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final Pattern PREFIXED_VALUE = Pattern.compile(
+            "(?:^|\\s)(?<prefix>" + PREFIX_NAME + "|" + PREFIX_TAG + "|" + PREFIX_STATUS + ")(?<value>[^/]*)$");
+    private static final Pattern QUERY_TERM = Pattern.compile("^\\s*" + QueryCommand.COMMAND_WORD
+            + "(?:\\s.*)?[\\s(](?<field>name|tag|status):(?<value>\"?[^\\s\"]*)$", Pattern.CASE_INSENSITIVE);
+
+    private final PrefixTrie names = new PrefixTrie();
+    private final PrefixTrie tags = new PrefixTrie();
+    private final PrefixTrie statuses = new PrefixTrie();
+
+    /**
+     * Creates a completer over {@code companies}, which is kept up to date as the list changes.
+     */
+    public CommandCompleter(ObservableList<Company> companies) {
+        requireNonNull(companies);
+        for (Status.Stage stage : Status.Stage.values()) {
+            statuses.add(Status.toUserInputString(stage));
+        }
+        synchronized (this) {
+            companies.forEach(this::index);
+        }
+        companies.addListener(this::onCompaniesChanged);
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} versions of {@code commandText} in which the value being typed at
+     * the end has been completed, in alphabetical order of the completed value.
+     * Returns an empty list if nothing is being typed that can be completed.
+     */
+    public synchronized List<String> complete(String commandText) {
+        requireNonNull(commandText);
+
+        Matcher query = QUERY_TERM.matcher(commandText);
+        if (query.find()) {
+            String value = query.group("value");
+            boolean quoted = value.startsWith("\"");
+            String partial = quoted ? value.substring(1) : value;
+            String head = commandText.substring(0, query.start("value"));
+            PrefixTrie trie = trieFor(query.group("field").toLowerCase(Locale.ROOT));
+            List<String> completions = new ArrayList<>();
+            for (String completion : trie.complete(partial, MAX_COMPLETIONS)) {
+                completions.add(head + (quoted || completion.contains(" ") ? "\"" + completion + "\"" : completion));
+            }
+            return completions;
+        }
+
+        Matcher prefixed = PREFIXED_VALUE.matcher(commandText);
+        if (!prefixed.find()) {
+            return List.of();
+        }
+        String prefix = prefixed.group("prefix");
+        String value = prefixed.group("value");
+        if (!prefix.equals(PREFIX_NAME.getPrefix()) && value.chars().anyMatch(Character::isWhitespace)) {
+            return List.of();
+        }
+        String head = commandText.substring(0, prefixed.start("value"));
+        List<String> completions = new ArrayList<>();
+        for (String completion : trieFor(prefix).complete(value, MAX_COMPLETIONS)) {
+            completions.add(head + completion);
+        }
+        return completions;
+    }
+
+    private PrefixTrie trieFor(String prefixOrField) {
+        if (prefixOrField.equals(PREFIX_NAME.getPrefix()) || prefixOrField.equals("name")) {
+            return names;
+        } else if (prefixOrField.equals(PREFIX_TAG.getPrefix()) || prefixOrField.equals("tag")) {
+            return tags;
+        } else {
+            return statuses;
+        }
+    }
+
+    private synchronized void onCompaniesChanged(ListChangeListener.Change<? extends Company> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(Company company) {
+        names.add(company.getName().fullName);
+        for (Tag tag : company.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void unindex(Company company) {
+        names.remove(company.getName().fullName);
+        for (Tag tag : company.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Aggregates the time spent in each phase of command handling into one {@link LatencyHistogram} per
+ * command word and phase.
+ */
+public class CommandLatencyTracker {
+
+    /**
+     * The phases of {@link LogicManager#execute(String)} that are timed separately.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        FILTER,
+        SAVE
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+
+    /**
+     * Records that {@code phase} of the command identified by {@code commandWord} took {@code nanos}.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Returns a summary of every recorded (command word, phase) pair, ordered by command word then phase.
+     */
+    public synchronized List<Summary> getSummaries() {
+        List<Summary> summaries = new ArrayList<>();
+        histograms.forEach((commandWord, phases) -> phases.forEach((phase, histogram) ->
+                summaries.add(new Summary(commandWord, phase, histogram.getCount(),
+                        histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                        histogram.getMaxNanos()))));
+        return summaries;
+    }
+
+    /**
+     * Immutable latency summary of one phase of one command word.
+     */
+    public static class Summary {
+        private final String commandWord;
+        private final Phase phase;
+        private final long count;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        /**
+         * Creates a {@code Summary} with the given statistics.
+         */
+        public Summary(String commandWord, Phase phase, long count, long p50Nanos, long p99Nanos, long maxNanos) {
+            this.commandWord = commandWord;
+            this.phase = phase;
+            this.count = count;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("commandWord", commandWord)
+                    .add("phase", phase)
+                    .add("count", count)
+                    .add("p50Nanos", p50Nanos)
+                    .add("p99Nanos", p99Nanos)
+                    .add("maxNanos", maxNanos)
+                    .toString();
+        }
+    }
+}
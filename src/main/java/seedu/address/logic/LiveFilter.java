@@ -0,0 +1,151 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListSnapshot;
+
+/**
+ * Filters the company list while a {@code find} command is being typed, before it is executed.
+ * A {@link Query} is prepared from the text on the JavaFX application thread, which only parses it and takes a
+ * snapshot of the companies, so typing never waits for the companies to be searched. The query is evaluated on
+ * any thread, and its result applied back on the JavaFX application thread, where it is dropped if the company
+ * list has changed.
+ * The filter in effect before the first result was applied is restored when live filtering is cancelled, and
+ * forgotten when a command is executed.
+ */
+public class LiveFilter {
+
+    private final Model model;
+    private final AddressBookParser addressBookParser;
+
+    // null when no live filter result has been applied since the last command or cancellation
+    private Predicate<Company> predicateBeforeLiveFilter;
+
+    /**
+     * Creates a {@code LiveFilter} over the filtered company list of {@code model}.
+     */
+    public LiveFilter(Model model, AddressBookParser addressBookParser) {
+        requireAllNonNull(model, addressBookParser);
+        this.model = model;
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Returns true if {@code commandText} is a command that is filtered live as it is typed.
+     */
+    public static boolean isLiveFilterCommand(String commandText) {
+        requireNonNull(commandText);
+        String[] words = commandText.trim().split("\\s+", 2);
+        return words.length == 2 && words[0].equals(FindCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Returns the query for {@code commandText}, or an empty {@code Optional} if it is not a valid {@code find}
+     * command yet.
+     */
+    public Optional<Query> prepare(String commandText) {
+        if (!isLiveFilterCommand(commandText)) {
+            return Optional.empty();
+        }
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+        if (!(command instanceof FindCommand)) {
+            return Optional.empty();
+        }
+        Predicate<Company> predicate = ((FindCommand) command).getPredicate();
+        return Optional.of(new Query(predicate, model.getCompanySnapshot(), model.getDataVersion()));
+    }
+
+    /**
+     * Shows {@code matches}, the result of evaluating {@code query}, in the filtered company list.
+     *
+     * @return false if the company list has changed since {@code query} was prepared, in which case the filtered
+     *     company list is left unchanged.
+     */
+    public boolean apply(Query query, Set<Company> matches) {
+        requireAllNonNull(query, matches);
+        Predicate<Company> predicateBefore = model.getFilteredCompanyPredicate();
+        boolean isApplied = model.updateFilteredCompanyList(query.predicate, query.dataVersion, matches);
+        if (isApplied && predicateBeforeLiveFilter == null) {
+            predicateBeforeLiveFilter = predicateBefore;
+        }
+        return isApplied;
+    }
+
+    /**
+     * Restores the filter in effect before live filtering started, if any live filter result has been applied.
+     */
+    public void cancel() {
+        if (predicateBeforeLiveFilter != null) {
+            model.updateFilteredCompanyList(predicateBeforeLiveFilter);
+            predicateBeforeLiveFilter = null;
+        }
+    }
+
+    /**
+     * Keeps the current filter, as the command being executed replaces it if it needs to.
+     */
+    void commit() {
+        predicateBeforeLiveFilter = null;
+    }
+
+    /**
+     * A {@code find} predicate together with a snapshot of the companies to test it against. The company index
+     * can only be read on the JavaFX application thread, so every company in the snapshot is tested.
+     */
+    public static class Query {
+        /** How many companies are tested between checks for cancellation. */
+        static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+        private final Predicate<Company> predicate;
+        private final CompanyListSnapshot snapshot;
+        private final long dataVersion;
+
+        Query(Predicate<Company> predicate, CompanyListSnapshot snapshot, long dataVersion) {
+            this.predicate = predicate;
+            this.snapshot = snapshot;
+            this.dataVersion = dataVersion;
+        }
+
+        /**
+         * Returns the companies satisfying the predicate, or an empty {@code Optional} if {@code isCancelled}
+         * becomes true before they have all been tested. Safe to call from any thread.
+         */
+        public Optional<Set<Company>> evaluate(BooleanSupplier isCancelled) {
+            requireNonNull(isCancelled);
+            Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            int tested = 0;
+            for (Company company : snapshot.getCompanies()) {
+                if (tested++ % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                    return Optional.empty();
+                }
+                if (predicate.test(company)) {
+                    matches.add(company);
+                }
+            }
+            return Optional.of(matches);
+        }
+
+        public Predicate<Company> getPredicate() {
+            return predicate;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +10,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.PipelineFunnel;
 
 /**
  * API of the Logic component
@@ -38,6 +42,56 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns per-phase latency summaries of the commands executed so far, grouped by command word.
+     */
+    List<CommandLatencyTracker.Summary> getCommandLatencySummaries();
+
+    /**
+     * Returns the pipeline funnel statistics of the companies in the address book.
+     *
+     * @see seedu.address.model.Model#getPipelineFunnel()
+     */
+    PipelineFunnel getPipelineFunnel();
+
+    /**
+     * Returns an immutable snapshot of the companies in the address book, for reading on a background thread.
+     *
+     * @see seedu.address.model.Model#getCompanySnapshot()
+     */
+    CompanyListSnapshot getCompanySnapshot();
+
+    /**
+     * Returns the grouping of the filtered company list.
+     *
+     * @see seedu.address.model.Model#getCompanyGrouping()
+     */
+    CompanyGrouping getCompanyGrouping();
+
+    /**
+     * Returns completions of the value being typed at the end of {@code commandText}.
+     * Safe to call from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Returns the live filter that filters the company list while a {@code find} command is being typed.
+     */
+    LiveFilter getLiveFilter();
+
+    /**
+     * Returns the commands executed in previous sessions and this one, oldest first, up to the user prefs' command
+     * history capacity. Returns an empty list if the stored history cannot be read.
+     */
+    List<String> getCommandHistory();
+
+    /**
+     * Returns the user prefs' command history capacity.
+     */
+    int getCommandHistoryCapacity();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -3,11 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
+import seedu.address.logic.CommandLatencyTracker.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,6 +20,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.PipelineFunnel;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,6 +39,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandLatencyTracker latencyTracker = new CommandLatencyTracker();
+    private final CommandCompleter commandCompleter;
+    private final LiveFilter liveFilter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,16 +50,49 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(model.getAddressBook().getCompanyList());
+        liveFilter = new LiveFilter(model, addressBookParser);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.setCommandWord(commandWord);
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+            parseEvent.setSuccess(true);
+        } finally {
+            parseEvent.commit();
+        }
+        liveFilter.commit();
+        latencyTracker.record(commandWord, Phase.PARSE, System.nanoTime() - parseStart);
+
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.setCommandWord(commandWord);
+        executeEvent.begin();
+        long filterNanosBefore = model.getFilterNanos();
+        long executeStart = System.nanoTime();
+        try {
+            commandResult = command.execute(model);
+            executeEvent.setSuccess(true);
+        } finally {
+            // Commits even a failed command's changes, so that whatever it changed can be undone
+            model.commitAddressBook(commandText.trim());
+            executeEvent.setCompanyCount(model.getAddressBook().getCompanyList().size());
+            executeEvent.commit();
+        }
+        long filterNanos = model.getFilterNanos() - filterNanosBefore;
+        latencyTracker.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart - filterNanos);
+        latencyTracker.record(commandWord, Phase.FILTER, filterNanos);
 
+        long saveStart = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -57,6 +100,13 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        latencyTracker.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
+
+        try {
+            storage.appendToCommandHistory(commandText);
+        } catch (IOException ioe) {
+            logger.warning("Could not save command history: " + ioe.getMessage());
+        }
 
         return commandResult;
     }
@@ -76,6 +126,52 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public List<CommandLatencyTracker.Summary> getCommandLatencySummaries() {
+        return latencyTracker.getSummaries();
+    }
+
+    @Override
+    public PipelineFunnel getPipelineFunnel() {
+        return model.getPipelineFunnel();
+    }
+
+    @Override
+    public CompanyListSnapshot getCompanySnapshot() {
+        return model.getCompanySnapshot();
+    }
+
+    @Override
+    public CompanyGrouping getCompanyGrouping() {
+        return model.getCompanyGrouping();
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public LiveFilter getLiveFilter() {
+        return liveFilter;
+    }
+
+    @Override
+    public List<String> getCommandHistory() {
+        try {
+            return storage.readCommandHistory(getCommandHistoryCapacity());
+        } catch (IOException ioe) {
+            logger.warning("Could not read command history from " + storage.getCommandHistoryFilePath()
+                    + ": " + ioe.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public int getCommandHistoryCapacity() {
+        return model.getUserPrefs().getCommandHistoryCapacity();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
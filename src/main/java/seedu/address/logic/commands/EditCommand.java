@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.IndexParser.MESSAGE_INDEX_OUT_OF_RANGE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_COMPANIES;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -31,6 +32,7 @@ import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
 import seedu.address.model.company.Remark;
 import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -157,9 +159,12 @@ public class EditCommand extends Command {
         // Validate that editing in batch is only allowed for tags and remarks
         validateIsTagsAndRemarksOnly();
 
-        // All validations passed - perform batch edit
-        for (Index index : indices) {
-            Company companyToEdit = lastShownList.get(index.getZeroBased());
+        // All validations passed - perform batch edit. The targets are looked up first, as an edited company
+        // may move within a sorted list.
+        List<Company> companiesToEdit = indices.stream()
+                .map(index -> lastShownList.get(index.getZeroBased()))
+                .toList();
+        for (Company companyToEdit : companiesToEdit) {
             Company editedCompany = createEditedCompany(companyToEdit, editCompanyDescriptor);
             model.setCompany(companyToEdit, editedCompany);
         }
@@ -227,8 +232,11 @@ public class EditCommand extends Command {
         Remark updatedRemark = editCompanyDescriptor.getRemark().orElse(companyToEdit.getRemark());
         Status updatedStatus = editCompanyDescriptor.getStatus().orElse(companyToEdit.getStatus());
 
+        StatusHistory updatedStatusHistory = StatusHistory.afterChange(companyToEdit, updatedStatus.value,
+                Instant.now().getEpochSecond());
+
         return new Company(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedRemark,
-                updatedStatus);
+                updatedStatus, updatedStatusHistory);
     }
 
     @Override
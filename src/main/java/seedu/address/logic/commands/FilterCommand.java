@@ -6,6 +6,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusPredicate;
 
 /**
  * Filters and lists all companies that match a given application status.
@@ -35,7 +36,7 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredCompanyList(company -> company.getStatus().equals(status));
+        model.updateFilteredCompanyList(new StatusPredicate(status));
         return new CommandResult(String.format(
                 Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW, model.getFilteredCompanyList().size()));
     }
@@ -2,13 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.FuzzyNamePredicate;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 /**
- * Finds and lists all companies in address book whose name contains any of the argument keywords as substrings.
+ * Finds and lists all companies in address book whose name contains any of the argument keywords as substrings,
+ * or, in fuzzy mode, has a word within a small edit distance of any of the keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -18,15 +23,27 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all companies whose names contain any of "
             + "the specified keywords as substrings (case-insensitive) and displays them as a list with "
             + "index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " goog tra";
+            + "Prefix the keywords with ~ (optionally followed by the maximum number of typos, default "
+            + FuzzyNamePredicate.DEFAULT_MAX_DISTANCE + ") to tolerate misspellings.\n"
+            + "Parameters: [~[MAX_TYPOS]] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " goog tra\n"
+            + "Example: " + COMMAND_WORD + " ~gogle\n"
+            + "Example: " + COMMAND_WORD + " ~1 amazn";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Company> predicate;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public FindCommand(FuzzyNamePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    public Predicate<Company> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
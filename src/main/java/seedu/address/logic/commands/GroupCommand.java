@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.company.CompanyGrouping;
+
+/**
+ * Groups the shown companies under headers by status or tag, or stops grouping them.
+ */
+public class GroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "group";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Groups the companies under a header for each "
+            + "status, or for each tag, listing each company under its first tag in alphabetical order. "
+            + "Click a header to collapse or expand its group.\n"
+            + "Parameters: " + CompanyGrouping.STATUS.getKeyword() + "|" + CompanyGrouping.TAG.getKeyword()
+            + "|" + CompanyGrouping.NONE.getKeyword() + "\n"
+            + "Example: " + COMMAND_WORD + " " + CompanyGrouping.STATUS.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Grouped companies by %1$s";
+    public static final String MESSAGE_NOT_GROUPED = "Companies are no longer grouped";
+
+    private final CompanyGrouping grouping;
+
+    /**
+     * Creates a {@code GroupCommand} grouping the companies by {@code grouping}.
+     */
+    public GroupCommand(CompanyGrouping grouping) {
+        requireNonNull(grouping);
+        this.grouping = grouping;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setCompanyGrouping(grouping);
+        if (grouping == CompanyGrouping.NONE) {
+            return new CommandResult(MESSAGE_NOT_GROUPED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, grouping.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupCommand)) {
+            return false;
+        }
+
+        GroupCommand otherGroupCommand = (GroupCommand) other;
+        return grouping == otherGroupCommand.grouping;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("grouping", grouping)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.QueryPredicate;
+
+/**
+ * Lists all companies that satisfy a boolean query over their fields.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "q";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all companies matching a query and displays "
+            + "them as a list with index numbers.\n"
+            + "Parameters: FIELD:VALUE [AND|OR|NOT FIELD:VALUE]...\n"
+            + "Fields: name, status, tag, remark, email (domain), phone. "
+            + "Terms next to each other are combined with AND; use parentheses to group and quotes for spaces.\n"
+            + "Example: " + COMMAND_WORD + " status:applied AND tag:remote AND NOT name:bank";
+
+    private final QueryPredicate predicate;
+
+    /**
+     * Creates a QueryCommand that lists the companies satisfying {@code predicate}.
+     */
+    public QueryCommand(QueryPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredCompanyList(predicate);
+        return new CommandResult(String.format(
+                Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW, model.getFilteredCompanyList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherCommand = (QueryCommand) other;
+        return predicate.equals(otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.FullTextQuery;
+
+/**
+ * Lists the companies whose remarks and addresses best match the given words, most relevant first.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the remarks and addresses of all companies "
+            + "for the specified words (case-insensitive) and lists the best matches.\n"
+            + "Parameters: WORD [MORE_WORDS]... [" + PREFIX_LIMIT + "MAX_RESULTS]\n"
+            + "Example: " + COMMAND_WORD + " system design " + PREFIX_LIMIT + "5";
+
+    public static final String MESSAGE_RANKING = "\nMost relevant first: %1$s";
+
+    private final FullTextQuery query;
+
+    /**
+     * Creates a SearchCommand that lists the companies best matching {@code query}.
+     */
+    public SearchCommand(FullTextQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Company> ranked = model.showRankedCompanies(query);
+
+        StringBuilder ranking = new StringBuilder();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranking.append(i == 0 ? "" : ", ").append(i + 1).append(". ").append(ranked.get(i).getName().fullName);
+        }
+        String message = String.format(Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW, ranked.size());
+        return new CommandResult(ranked.isEmpty() ? message : message + String.format(MESSAGE_RANKING, ranking));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return query.equals(otherCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.company.CompanySortOrder;
+
+/**
+ * Sorts the shown companies by one or more keys. Companies added or edited afterwards keep to the order.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the companies by the given keys, "
+            + "using each key to break the ties of the one before. Without keys, restores the order they were "
+            + "added in.\n"
+            + "Parameters: [KEY[:" + ASCENDING + "|:" + DESCENDING + "]]...\n"
+            + "Keys: name, status (in pipeline order), tags (number of tags).\n"
+            + "Example: " + COMMAND_WORD + " status:" + DESCENDING + " name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted companies by %1$s";
+    public static final String MESSAGE_INSERTION_ORDER = "Companies are back in the order they were added in";
+
+    private final CompanySortOrder sortOrder;
+
+    /**
+     * Creates a {@code SortCommand} ordering the companies by {@code sortOrder}.
+     */
+    public SortCommand(CompanySortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setCompanySortOrder(sortOrder);
+        if (sortOrder.isInsertionOrder()) {
+            return new CommandResult(MESSAGE_INSERTION_ORDER);
+        }
+        String keys = sortOrder.getCriteria().stream()
+                .map(CompanySortOrder.Criterion::toString)
+                .collect(Collectors.joining(", then "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, keys));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.MemoryFootprint;
+import seedu.address.model.Model;
+
+/**
+ * Reports an estimate of the heap memory taken up by the companies in the address book, by field.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String SUBJECT_MEMORY = "memory";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows statistics of the app.\n"
+            + "Parameters: " + SUBJECT_MEMORY + "\n"
+            + "Example: " + COMMAND_WORD + " " + SUBJECT_MEMORY;
+
+    public static final String MESSAGE_MEMORY_HEADER = "Estimated memory used by %1$,d companies: %2$s"
+            + " (%3$s per company)";
+
+    public static final String MESSAGE_MEMORY_LINE = "\n%1$s: %2$s (%3$s per company)";
+
+    public static final String MESSAGE_DUPLICATES = "\nDuplicate strings: %1$,d, taking up %2$s"
+            + "\nDuplicate tags: %3$,d, taking up %4$s";
+
+    private static final String[] UNITS = {"B", "KB", "MB", "GB"};
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        MemoryFootprint footprint = MemoryFootprint.of(model.getAddressBook().getCompanyList());
+        int companyCount = footprint.getCompanyCount();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_MEMORY_HEADER, companyCount,
+                toReadableSize(footprint.getTotalBytes()), toReadableSize(perCompany(footprint.getTotalBytes(),
+                        companyCount))));
+        for (MemoryFootprint.Category category : MemoryFootprint.Category.values()) {
+            long bytes = footprint.getBytes(category);
+            message.append(String.format(MESSAGE_MEMORY_LINE, category.getLabel(), toReadableSize(bytes),
+                    toReadableSize(perCompany(bytes, companyCount))));
+        }
+        message.append(String.format(MESSAGE_DUPLICATES, footprint.getDuplicateStringCount(),
+                toReadableSize(footprint.getDuplicateStringBytes()), footprint.getDuplicateTagCount(),
+                toReadableSize(footprint.getDuplicateTagBytes())));
+        return new CommandResult(message.toString());
+    }
+
+    private static long perCompany(long bytes, int companyCount) {
+        return companyCount == 0 ? 0 : Math.round((double) bytes / companyCount);
+    }
+
+    /**
+     * Returns {@code bytes} in the largest unit it is at least one of, e.g. {@code 1.5 KB} for 1536.
+     */
+    static String toReadableSize(long bytes) {
+        int unit = 0;
+        double size = bytes;
+        while (size >= 1024 && unit < UNITS.length - 1) {
+            size /= 1024;
+            unit++;
+        }
+        return unit == 0 ? bytes + " B" : String.format("%.1f %s", size, UNITS[unit]);
+    }
+}
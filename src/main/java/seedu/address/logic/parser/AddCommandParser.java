@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Instant;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -21,6 +22,7 @@ import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
 import seedu.address.model.company.Remark;
 import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -84,7 +86,8 @@ public class AddCommandParser implements Parser<AddCommand> {
             status = new Status();
         }
 
-        Company company = new Company(name, phone, email, address, tagList, remark, status);
+        StatusHistory statusHistory = StatusHistory.EMPTY.withEntry(status.value, Instant.now().getEpochSecond());
+        Company company = new Company(name, phone, email, address, tagList, remark, status, statusHistory);
 
         return new AddCommand(company);
     }
@@ -3,9 +3,11 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.FuzzyNamePredicate;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 /**
@@ -13,6 +15,10 @@ import seedu.address.model.company.NameContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String FUZZY_MARKER = "~";
+    public static final String MESSAGE_INVALID_DISTANCE = "Maximum typos must be between 0 and "
+            + FuzzyNamePredicate.MAX_ALLOWED_DISTANCE + ".";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -25,9 +31,39 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(FUZZY_MARKER)) {
+            return parseFuzzy(trimmedArgs.substring(FUZZY_MARKER.length()));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses the arguments following the fuzzy marker, which are an optional maximum distance followed by
+     * the keywords, e.g. {@code "gogle"} or {@code "1 amazn"}.
+     */
+    private static FindCommand parseFuzzy(String args) throws ParseException {
+        List<String> tokens = Arrays.asList(args.trim().split("\\s+"));
+        int maxDistance = FuzzyNamePredicate.DEFAULT_MAX_DISTANCE;
+        if (tokens.get(0).matches("\\d+") && !args.startsWith(" ")) {
+            try {
+                maxDistance = Integer.parseInt(tokens.get(0));
+            } catch (NumberFormatException e) {
+                throw new ParseException(MESSAGE_INVALID_DISTANCE);
+            }
+            if (maxDistance > FuzzyNamePredicate.MAX_ALLOWED_DISTANCE) {
+                throw new ParseException(MESSAGE_INVALID_DISTANCE);
+            }
+            tokens = tokens.subList(1, tokens.size());
+        }
+
+        if (tokens.isEmpty() || tokens.get(0).isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new FuzzyNamePredicate(tokens, maxDistance));
+    }
+
 }
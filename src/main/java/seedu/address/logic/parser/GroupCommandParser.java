@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.CompanyGrouping;
+
+/**
+ * Parses input arguments and creates a new {@link GroupCommand} object.
+ */
+public class GroupCommandParser implements Parser<GroupCommand> {
+
+    @Override
+    public GroupCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        CompanyGrouping grouping = CompanyGrouping.ofKeyword(args.trim())
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE)));
+        return new GroupCommand(grouping);
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.Status;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPredicate;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * The grammar, from lowest to highest precedence, is:
+ * <pre>
+ *   or   := and ("OR" and)*
+ *   and  := not (["AND"] not)*
+ *   not  := "NOT" not | "(" or ")" | FIELD ":" VALUE
+ * </pre>
+ * Operators are case-insensitive and a value may be quoted to include spaces.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected '%1$s' in query";
+    public static final String MESSAGE_UNEXPECTED_END = "Query ended unexpectedly";
+
+    private static final String LEFT_PAREN = "(";
+    private static final String RIGHT_PAREN = ")";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        TokenCursor cursor = new TokenCursor(tokenize(args));
+        if (!cursor.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        Query query = parseOr(cursor);
+        if (cursor.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, cursor.next()));
+        }
+        return new QueryCommand(new QueryPredicate(query));
+    }
+
+    private static Query parseOr(TokenCursor cursor) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd(cursor));
+        while (cursor.peekOperator("OR")) {
+            cursor.next();
+            operands.add(parseAnd(cursor));
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private static Query parseAnd(TokenCursor cursor) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot(cursor));
+        while (cursor.hasNext() && !cursor.peekOperator("OR") && !cursor.peek().equals(RIGHT_PAREN)) {
+            if (cursor.peekOperator("AND")) {
+                cursor.next();
+            }
+            operands.add(parseNot(cursor));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private static Query parseNot(TokenCursor cursor) throws ParseException {
+        String token = cursor.next();
+        if (token.equalsIgnoreCase("NOT")) {
+            return new NotQuery(parseNot(cursor));
+        }
+        if (token.equals(LEFT_PAREN)) {
+            Query inner = parseOr(cursor);
+            String closing = cursor.next();
+            if (!closing.equals(RIGHT_PAREN)) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, closing));
+            }
+            return inner;
+        }
+        return parseTerm(token);
+    }
+
+    private static Query parseTerm(String token) throws ParseException {
+        int colon = token.indexOf(':');
+        if (colon <= 0 || colon == token.length() - 1) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+
+        String fieldName = token.substring(0, colon);
+        String value = token.substring(colon + 1);
+        FieldQuery.Field field;
+        try {
+            field = FieldQuery.Field.valueOf(fieldName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, fieldName));
+        }
+        if (field == FieldQuery.Field.STATUS && !Status.isValidStatus(value)) {
+            throw new ParseException(Status.MESSAGE_CONSTRAINTS);
+        }
+        return new FieldQuery(field, value);
+    }
+
+    /**
+     * Splits {@code args} into parentheses, operators and {@code field:value} terms.
+     * Double quotes group characters, including spaces and parentheses, into the current token.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (char c : args.toCharArray()) {
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (inQuotes) {
+                current.append(c);
+            } else if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                flush(current, result);
+                if (c == '(' || c == ')') {
+                    result.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "\""));
+        }
+        flush(current, result);
+        return result;
+    }
+
+    private static void flush(StringBuilder current, List<String> result) {
+        if (current.length() > 0) {
+            result.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * The tokens of the query being parsed, and the position of the next one. Each call to {@link #parse} reads
+     * its own, so a parser can be shared.
+     */
+    private static class TokenCursor {
+        private final List<String> tokens;
+        private int position;
+
+        TokenCursor(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        boolean peekOperator(String operator) {
+            return hasNext() && peek().equalsIgnoreCase(operator);
+        }
+
+        String next() throws ParseException {
+            if (!hasNext()) {
+                throw new ParseException(MESSAGE_UNEXPECTED_END);
+            }
+            return tokens.get(position++);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.FullTextQuery;
+import seedu.address.model.company.TextIndex;
+
+/**
+ * Parses input arguments and creates a new {@link SearchCommand} object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    public static final String MESSAGE_INVALID_LIMIT = "Maximum number of results must be a positive integer.";
+
+    @Override
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
+        String query = argMultimap.getPreamble().trim();
+        if (TextIndex.tokenize(query).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT);
+        int limit = SearchCommand.DEFAULT_LIMIT;
+        if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            String limitText = argMultimap.getValue(PREFIX_LIMIT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(limitText)) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            limit = Integer.parseInt(limitText);
+        }
+        return new SearchCommand(new FullTextQuery(query, limit));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+
+/**
+ * Parses input arguments and creates a new {@link SortCommand} object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_DUPLICATE_KEY = "Each sort key can only be given once: %1$s";
+
+    @Override
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        List<Criterion> criteria = new ArrayList<>();
+        Set<Key> keys = EnumSet.noneOf(Key.class);
+        if (!trimmedArgs.isEmpty()) {
+            for (String term : trimmedArgs.split("\\s+")) {
+                Criterion criterion = parseCriterion(term);
+                if (!keys.add(criterion.getKey())) {
+                    throw new ParseException(String.format(MESSAGE_DUPLICATE_KEY, criterion.getKey().getKeyword()));
+                }
+                criteria.add(criterion);
+            }
+        }
+        return new SortCommand(new CompanySortOrder(criteria));
+    }
+
+    /**
+     * Parses a term of the form {@code KEY[:asc|:desc]}.
+     */
+    private static Criterion parseCriterion(String term) throws ParseException {
+        int separator = term.indexOf(':');
+        String keyword = separator < 0 ? term : term.substring(0, separator);
+        String direction = separator < 0 ? SortCommand.ASCENDING : term.substring(separator + 1);
+        Optional<Key> key = Key.ofKeyword(keyword);
+        boolean isAscending = direction.equalsIgnoreCase(SortCommand.ASCENDING);
+        if (key.isEmpty() || !(isAscending || direction.equalsIgnoreCase(SortCommand.DESCENDING))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        return new Criterion(key.get(), !isAscending);
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link StatsCommand} object.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (!args.trim().equalsIgnoreCase(StatsCommand.SUBJECT_MEMORY)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        return new StatsCommand();
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.management;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandLatencyTracker;
+import seedu.address.logic.Logic;
+import seedu.address.model.CacheStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.company.Status;
+import seedu.address.storage.Storage;
+
+/**
+ * Exposes the live statistics of the running app over JMX. Attributes are read, and operations run, on the thread
+ * that owns the model, so that JMX clients never see the model half-way through a command; a client gets an
+ * error instead if that thread does not respond within {@link #TIMEOUT_SECONDS} seconds.
+ */
+public class AppStatistics implements AppStatisticsMxBean {
+
+    public static final String OBJECT_NAME = "seedu.address:type=AppStatistics";
+
+    static final long TIMEOUT_SECONDS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(AppStatistics.class);
+
+    private final Model model;
+    private final Logic logic;
+    private final Storage storage;
+    private final Executor modelThread;
+
+    /**
+     * Creates statistics of {@code model}, {@code logic} and {@code storage}, which are only accessed by tasks
+     * given to {@code modelThread}.
+     */
+    public AppStatistics(Model model, Logic logic, Storage storage, Executor modelThread) {
+        requireAllNonNull(model, logic, storage, modelThread);
+        this.model = model;
+        this.logic = logic;
+        this.storage = storage;
+        this.modelThread = modelThread;
+    }
+
+    /**
+     * Registers {@code statistics} with the platform MBean server under {@link #OBJECT_NAME}, replacing any
+     * statistics registered before.
+     */
+    public static void register(AppStatistics statistics) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(statistics, name);
+        logger.info("Registered app statistics as MBean " + OBJECT_NAME);
+    }
+
+    @Override
+    public int getCompanyCount() {
+        // Snapshots can be read without waiting for the app
+        return model.getCompanySnapshot().getCompanies().size();
+    }
+
+    @Override
+    public int getShownCompanyCount() {
+        return read(() -> model.getFilteredCompanyList().size());
+    }
+
+    @Override
+    public Map<String, Integer> getCompanyCountsByStage() {
+        return read(() -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (Status.Stage stage : Status.Stage.values()) {
+                counts.put(Status.toUserInputString(stage), model.countCompaniesAt(stage));
+            }
+            return counts;
+        });
+    }
+
+    @Override
+    public long getExecutedCommandCount() {
+        return getExecutedCommandCounts().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public Map<String, Long> getExecutedCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (CommandLatencyTracker.Summary summary : logic.getCommandLatencySummaries()) {
+            if (summary.getPhase() == CommandLatencyTracker.Phase.EXECUTE) {
+                counts.put(summary.getCommandWord(), summary.getCount());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public List<CommandLatencyTracker.Summary> getCommandLatencies() {
+        return logic.getCommandLatencySummaries();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return storage.getLastSaveNanos() / 1e6;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return storage.getLastSaveBytes();
+    }
+
+    @Override
+    public int getFilterCacheSize() {
+        return getFilterCacheStatistics().getSize();
+    }
+
+    @Override
+    public long getFilterCacheHits() {
+        return getFilterCacheStatistics().getHits();
+    }
+
+    @Override
+    public long getFilterCacheMisses() {
+        return getFilterCacheStatistics().getMisses();
+    }
+
+    @Override
+    public double getFilterCacheHitRate() {
+        return getFilterCacheStatistics().getHitRate();
+    }
+
+    private CacheStatistics getFilterCacheStatistics() {
+        return read(model::getFilterCacheStatistics);
+    }
+
+    @Override
+    public void save() throws IOException {
+        call(() -> {
+            storage.saveAddressBook(model.getAddressBook());
+            return null;
+        });
+        logger.info("Saved the address book on request of a JMX client");
+    }
+
+    @Override
+    public void compactCommandHistory() throws IOException {
+        call(() -> {
+            storage.compactCommandHistory(model.getUserPrefs().getCommandHistoryCapacity());
+            return null;
+        });
+        logger.info("Compacted the command history on request of a JMX client");
+    }
+
+    /**
+     * Returns the result of {@code query} run on the model thread.
+     */
+    private <T> T read(Supplier<T> query) {
+        try {
+            return call(query::get);
+        } catch (IOException e) {
+            // query cannot throw a checked exception
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the result of {@code task} run on the model thread, rethrowing anything {@code task} throws.
+     */
+    private <T> T call(Callable<T> task) throws IOException {
+        FutureTask<T> future = new FutureTask<>(task);
+        modelThread.execute(future);
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the app", e);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new IllegalStateException("The app did not respond within " + TIMEOUT_SECONDS + " seconds", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
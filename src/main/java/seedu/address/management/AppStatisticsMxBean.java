@@ -0,0 +1,57 @@
+package seedu.address.management;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import javax.management.MXBean;
+
+import seedu.address.logic.CommandLatencyTracker;
+
+/**
+ * Management interface of the live statistics of the running app, for JConsole and other JMX clients.
+ */
+@MXBean
+public interface AppStatisticsMxBean {
+
+    /** Returns the number of companies in the address book. */
+    int getCompanyCount();
+
+    /** Returns the number of companies shown in the filtered company list. */
+    int getShownCompanyCount();
+
+    /** Returns the number of companies at each stage, keyed by the stage as typed in commands. */
+    Map<String, Integer> getCompanyCountsByStage();
+
+    /** Returns the number of commands executed successfully this session. */
+    long getExecutedCommandCount();
+
+    /** Returns the number of commands executed successfully this session, keyed by command word. */
+    Map<String, Long> getExecutedCommandCounts();
+
+    /** Returns the latency percentiles of each phase of each command word executed this session. */
+    List<CommandLatencyTracker.Summary> getCommandLatencies();
+
+    /** Returns the time the last save of the address book took, in milliseconds. */
+    double getLastSaveMillis();
+
+    /** Returns the size of the data file after the last save of the address book, in bytes. */
+    long getLastSaveBytes();
+
+    /** Returns the number of filter results cached. */
+    int getFilterCacheSize();
+
+    /** Returns the number of filters served from the cache. */
+    long getFilterCacheHits();
+
+    /** Returns the number of filters that had to be computed. */
+    long getFilterCacheMisses();
+
+    /** Returns the fraction of filters served from the cache. */
+    double getFilterCacheHitRate();
+
+    /** Saves the address book to the data file now. */
+    void save() throws IOException;
+
+    /** Rewrites the command history file to only the commands kept in the history. */
+    void compactCommandHistory() throws IOException;
+}
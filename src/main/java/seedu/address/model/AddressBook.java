@@ -7,6 +7,8 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+import seedu.address.model.company.CompanyListSnapshot;
 import seedu.address.model.company.UniqueCompanyList;
 
 /**
@@ -50,11 +52,17 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The companies of another {@code AddressBook} are not checked for duplicates again, and its persistent list is
+     * reused for snapshots, but the observable list and the indexes are still rebuilt, so the reset costs O(n).
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setCompanies(newData.getCompanyList());
+        if (newData instanceof AddressBook) {
+            companies.setCompanies(((AddressBook) newData).companies);
+        } else {
+            setCompanies(newData.getCompanyList());
+        }
     }
 
     //// company-level operations
@@ -95,6 +103,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         companies.remove(key);
     }
 
+    /**
+     * Replaces the companies from position {@code from} to position {@code to}, exclusive, with {@code companies}.
+     * The companies must not be the same company as each other or as a company outside the replaced range.
+     */
+    public void replaceCompanies(int from, int to, List<Company> companies) {
+        this.companies.replaceRange(from, to, companies);
+    }
+
     //// util methods
 
     @Override
@@ -109,6 +125,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return companies.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a snapshot of the companies in this address book. Safe to call from any thread.
+     *
+     * @see UniqueCompanyList#getSnapshot()
+     */
+    public CompanyListSnapshot getCompanySnapshot() {
+        return companies.getSnapshot();
+    }
+
+    /**
+     * Returns the secondary indexes over the companies in this address book.
+     */
+    public CompanyIndex getCompanyIndex() {
+        return companies.getIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Immutable statistics of a cache at one point in time.
+ */
+public class CacheStatistics {
+    private final int size;
+    private final int capacity;
+    private final long hits;
+    private final long misses;
+
+    /**
+     * Creates a {@code CacheStatistics} with the given statistics.
+     */
+    public CacheStatistics(int size, int capacity, long hits, long misses) {
+        this.size = size;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits, or 0 if there have been no lookups.
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size)
+                .add("capacity", capacity)
+                .add("hits", hits)
+                .add("misses", misses)
+                .toString();
+    }
+}
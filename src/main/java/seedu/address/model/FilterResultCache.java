@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.company.Company;
+
+/**
+ * A least-recently-used cache from a filter predicate to the companies it matched, tagged with the data version
+ * the result was computed at. A result is only returned while the data version is unchanged, so flipping between
+ * a few common views of unchanged data does not re-test every company.
+ * Predicates are compared with {@code equals}, so predicates without value equality only hit when reused as-is.
+ */
+class FilterResultCache {
+
+    private final int capacity;
+    private final Map<Predicate<Company>, Entry> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache holding at most {@code capacity} results.
+     */
+    FilterResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Company>, Entry> eldest) {
+                return size() > FilterResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the companies {@code predicate} matched at {@code version}, if cached, and counts the lookup.
+     */
+    Optional<Set<Company>> get(Predicate<Company> predicate, long version) {
+        requireNonNull(predicate);
+        Entry entry = entries.get(predicate);
+        if (entry == null || entry.version != version) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.matches);
+    }
+
+    /**
+     * Caches {@code matches} as the result of {@code predicate} at {@code version}, evicting the least
+     * recently used result if the cache is full.
+     */
+    void put(Predicate<Company> predicate, long version, Set<Company> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        entries.put(predicate, new Entry(version, matches));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits, or 0 if there have been no lookups.
+     */
+    double getHitRate() {
+        return getStatistics().getHitRate();
+    }
+
+    /**
+     * Returns the current size and the lookup counts of this cache.
+     */
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(entries.size(), capacity, hits, misses);
+    }
+
+    private static class Entry {
+        private final long version;
+        private final Set<Company> matches;
+
+        Entry(long version, Set<Company> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of an observable list, kept in an order-statistics tree: a balanced tree counting the elements
+ * under each node, so the element at a position, and the position of an element, are found in O(log n).
+ * A change to the source moves only the changed elements, each in O(log n), rather than re-sorting the view or
+ * renumbering the elements after it as {@link javafx.collections.transformation.SortedList} does.
+ *
+ * <p>Without a comparator, the view is in the order of the source. With one, sorting keeps elements the comparator
+ * considers equal in source order, and an added element goes after those equal to it. The source must hold each
+ * element once and must not change its elements' sort keys in place, as elements are found again by their keys
+ * when the source removes them.
+ *
+ * @param <E> the type of the elements.
+ */
+class IncrementalSortedList<E> extends TransformationList<E, E> {
+
+    private Comparator<? super E> comparator;
+    private Node<E> root;
+
+    /**
+     * Creates a view of {@code source} in the order of the source.
+     */
+    IncrementalSortedList(ObservableList<? extends E> source) {
+        super(source);
+        root = build(new ArrayList<>(source), 0, source.size());
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or returns it to the order of the source if null.
+     * The listeners see the re-sorting as a permutation.
+     */
+    void setComparator(Comparator<? super E> comparator) {
+        List<E> previous = toList();
+        this.comparator = comparator;
+        List<E> sorted = new ArrayList<>(getSource());
+        if (comparator != null) {
+            // A stable sort, so elements the comparator considers equal stay in source order
+            sorted.sort(comparator);
+        }
+        root = build(sorted, 0, sorted.size());
+
+        Map<E, Integer> positions = new IdentityHashMap<>(sorted.size() * 2);
+        for (int i = 0; i < sorted.size(); i++) {
+            positions.put(sorted.get(i), i);
+        }
+        int[] permutation = new int[previous.size()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = positions.get(previous.get(i));
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Takes O(n) when sorted, as the view does not track where its elements are in the source.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return comparator == null ? index : getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return comparator == null ? index : positionOf(getSource().get(index));
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            // When everything was replaced, sorting the source again is faster than inserting element by element.
+            // The company list is never permuted or updated in place, so those changes are only handled as simply.
+            if ((change.getFrom() == 0 && change.getRemovedSize() == size())
+                    || change.wasPermutated() || change.wasUpdated()) {
+                // Sorts the source as it is after the whole change, so the rest of the change is covered too
+                replaceAll();
+                break;
+            } else if (comparator == null) {
+                applyInSourceOrder(change);
+            } else {
+                applySorted(change);
+            }
+        }
+        endChange();
+    }
+
+    private void applyInSourceOrder(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        for (int i = 0; i < change.getRemovedSize(); i++) {
+            root = removeAt(root, from);
+        }
+        if (change.wasRemoved()) {
+            nextRemove(from, new ArrayList<E>(change.getRemoved()));
+        }
+        for (int i = 0; i < change.getAddedSize(); i++) {
+            root = insertAt(root, from + i, change.getAddedSubList().get(i));
+        }
+        if (change.wasAdded()) {
+            nextAdd(from, change.getTo());
+        }
+    }
+
+    private void applySorted(ListChangeListener.Change<? extends E> change) {
+        for (E removed : change.getRemoved()) {
+            int position = positionOf(removed);
+            root = removeAt(root, position);
+            nextRemove(position, removed);
+        }
+        for (E added : change.getAddedSubList()) {
+            int position = upperBound(added);
+            root = insertAt(root, position, added);
+            nextAdd(position, position + 1);
+        }
+    }
+
+    private void replaceAll() {
+        List<E> previous = toList();
+        List<E> elements = new ArrayList<>(getSource());
+        if (comparator != null) {
+            elements.sort(comparator);
+        }
+        root = build(elements, 0, elements.size());
+        if (!previous.isEmpty()) {
+            nextRemove(0, previous);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+    }
+
+    /**
+     * Returns the position of {@code element}, which must be in the view.
+     */
+    private int positionOf(E element) {
+        int position = comparator == null ? 0 : lowerBound(element);
+        while (position < size() && get(position) != element) {
+            // Only elements the comparator considers equal to element come before it
+            position++;
+        }
+        if (position == size()) {
+            throw new IllegalStateException("Element is not in the view, or its sort key changed: " + element);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of elements sorted before {@code element}.
+     */
+    private int lowerBound(E element) {
+        int position = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (comparator.compare(node.value, element) < 0) {
+                position += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of elements sorted before or equal to {@code element}.
+     */
+    private int upperBound(E element) {
+        int position = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (comparator.compare(node.value, element) <= 0) {
+                position += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return position;
+    }
+
+    private List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        addAll(root, elements);
+        return elements;
+    }
+
+    private static <E> void addAll(Node<E> node, List<E> elements) {
+        if (node != null) {
+            addAll(node.left, elements);
+            elements.add(node.value);
+            addAll(node.right, elements);
+        }
+    }
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<E> node = new Node<>(elements.get(middle));
+        node.left = build(elements, from, middle);
+        node.right = build(elements, middle + 1, to);
+        return update(node);
+    }
+
+    private static <E> Node<E> insertAt(Node<E> node, int position, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int leftSize = sizeOf(node.left);
+        if (position <= leftSize) {
+            node.left = insertAt(node.left, position, element);
+        } else {
+            node.right = insertAt(node.right, position - leftSize - 1, element);
+        }
+        return rebalance(node);
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int position) {
+        int leftSize = sizeOf(node.left);
+        if (position < leftSize) {
+            node.left = removeAt(node.left, position);
+        } else if (position > leftSize) {
+            node.right = removeAt(node.right, position - leftSize - 1);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = removeAt(node.right, 0);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Returns {@code node} balanced as an AVL tree, rotating once or twice if the heights of its children differ
+     * by 2, as they may after one insertion or removal.
+     */
+    private static <E> Node<E> rebalance(Node<E> node) {
+        update(node);
+        int balance = heightOf(node.left) - heightOf(node.right);
+        if (balance > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+
+    private static <E> Node<E> update(Node<E> node) {
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+        node.height = Math.max(heightOf(node.left), heightOf(node.right)) + 1;
+        return node;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns the height of the tree, for tests of its balance.
+     */
+    int height() {
+        return heightOf(root);
+    }
+
+    private static final class Node<E> {
+        private E value;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+        private int height = 1;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.StatusHistory;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An estimate of the heap retained by a list of companies, broken down by the field the memory is held for.
+ * Sizes are computed from the layout of each object on a 64-bit JVM with compressed references and compact
+ * strings (the defaults for heaps under 32 GB), rather than measured, so they are close but not exact.
+ * A string or tag that is the same object as the first one of its value, as when interned, is only counted for
+ * the first company holding it. Other strings and tags equal to one seen before are counted as duplicates: the
+ * memory they take up could be saved by sharing one copy.
+ */
+public class MemoryFootprint {
+
+    /**
+     * What the memory is held for.
+     */
+    public enum Category {
+        COMPANY("Company objects"),
+        NAME("Names"),
+        PHONE("Phones"),
+        EMAIL("Emails"),
+        ADDRESS("Addresses"),
+        REMARK("Remarks"),
+        STATUS("Statuses"),
+        TAG("Tags"),
+        TAG_SET("Tag sets");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    static final int OBJECT_HEADER_BYTES = 12;
+    static final int REFERENCE_BYTES = 4;
+    static final int ARRAY_HEADER_BYTES = 16;
+
+    /** A {@code Phone}, {@code Tag} etc.: a header and a single reference. */
+    static final long WRAPPER_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+    /** A {@code Name}: a header, the string and the reference to its collation key. */
+    static final long NAME_BYTES = align(OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES);
+    /** A {@code CollationKey} without its key string: a header, and references to its source and key strings. */
+    static final long COLLATION_KEY_BYTES = align(OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES);
+    /** A {@code Company}: a header and eight references. */
+    static final long COMPANY_BYTES = align(OBJECT_HEADER_BYTES + 8 * REFERENCE_BYTES);
+    /** A {@code String} without its characters: a header, the array reference, the hash and two flags. */
+    static final long STRING_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES + 4 + 1 + 1);
+    /** A {@code HashSet}: a header and the reference to its map. */
+    static final long HASH_SET_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+    /** A {@code HashMap}: a header, four references and four 4-byte fields. */
+    static final long HASH_MAP_BYTES = align(OBJECT_HEADER_BYTES + 4 * REFERENCE_BYTES + 4 * 4);
+    /** A {@code HashMap.Node}: a header, the hash and three references. */
+    static final long HASH_MAP_NODE_BYTES = align(OBJECT_HEADER_BYTES + 4 + 3 * REFERENCE_BYTES);
+
+    private static final int HASH_MAP_DEFAULT_CAPACITY = 16;
+    private static final double HASH_MAP_LOAD_FACTOR = 0.75;
+
+    private final int companyCount;
+    private final Map<Category, Long> bytes = new EnumMap<>(Category.class);
+    private final Map<String, String> firstStrings = new HashMap<>();
+    private final Map<Tag, Tag> firstTags = new HashMap<>();
+    private long duplicateStringCount;
+    private long duplicateStringBytes;
+    private long duplicateTagCount;
+    private long duplicateTagBytes;
+
+    private MemoryFootprint(List<Company> companies) {
+        companyCount = companies.size();
+        for (Category category : Category.values()) {
+            bytes.put(category, 0L);
+        }
+        for (Company company : companies) {
+            add(company);
+        }
+    }
+
+    /**
+     * Returns the estimated footprint of {@code companies}.
+     */
+    public static MemoryFootprint of(List<Company> companies) {
+        requireNonNull(companies);
+        return new MemoryFootprint(companies);
+    }
+
+    private void add(Company company) {
+        addBytes(Category.COMPANY, COMPANY_BYTES);
+        addBytes(Category.NAME, nameBytes(company.getName()) + stringBytesOf(company.getName().fullName));
+        addBytes(Category.PHONE, WRAPPER_BYTES + stringBytesOf(company.getPhone().value));
+        addBytes(Category.EMAIL, WRAPPER_BYTES + stringBytesOf(company.getEmail().value));
+        addBytes(Category.ADDRESS, WRAPPER_BYTES + stringBytesOf(company.getAddress().value));
+        addBytes(Category.REMARK, WRAPPER_BYTES + stringBytesOf(company.getRemark().value));
+        // The stage itself is a shared enum constant, as is the empty status history
+        addBytes(Category.STATUS, WRAPPER_BYTES + statusHistoryBytes(company.getStatusHistory()));
+
+        Set<Tag> tags = company.getTags();
+        addBytes(Category.TAG_SET, hashSetBytes(tags.size()));
+        for (Tag tag : tags) {
+            Tag first = firstTags.putIfAbsent(tag, tag);
+            if (first == tag) {
+                continue;
+            }
+            long tagBytes = WRAPPER_BYTES + stringBytesOf(tag.tagName);
+            addBytes(Category.TAG, tagBytes);
+            if (first != null) {
+                duplicateTagCount++;
+                duplicateTagBytes += tagBytes;
+            }
+        }
+    }
+
+    private void addBytes(Category category, long size) {
+        bytes.merge(category, size, Long::sum);
+    }
+
+    /**
+     * Returns the bytes to count for {@code value}: none if it is null or the same object as the first string
+     * equal to it, and its size otherwise, counting it as a duplicate if an equal string was seen before.
+     */
+    private long stringBytesOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+        String first = firstStrings.putIfAbsent(value, value);
+        if (first == value) {
+            return 0;
+        }
+        long size = stringBytes(value);
+        if (first != null) {
+            duplicateStringCount++;
+            duplicateStringBytes += size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of {@code string} and its characters.
+     */
+    static long stringBytes(String string) {
+        boolean isLatin1 = string.chars().allMatch(c -> c <= 0xFF);
+        long characterBytes = isLatin1 ? string.length() : 2L * string.length();
+        return STRING_BYTES + align(ARRAY_HEADER_BYTES + characterBytes);
+    }
+
+    /**
+     * Returns the estimated size of a {@code HashSet} of {@code size} elements filled after it was created empty,
+     * without the elements themselves.
+     */
+    static long hashSetBytes(int size) {
+        long total = HASH_SET_BYTES + HASH_MAP_BYTES;
+        if (size == 0) {
+            return total;
+        }
+        int capacity = HASH_MAP_DEFAULT_CAPACITY;
+        while (size > capacity * HASH_MAP_LOAD_FACTOR) {
+            capacity *= 2;
+        }
+        return total + align(ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES) + size * HASH_MAP_NODE_BYTES;
+    }
+
+    /**
+     * Returns the estimated size of {@code name} without its string, counting its collation key once it has been
+     * generated for sorting by name.
+     */
+    static long nameBytes(Name name) {
+        if (!name.hasCollationKey()) {
+            return NAME_BYTES;
+        }
+        // The key is held as a string of 16-bit collation weights, which is what its byte array is copied from
+        long keyCharacterBytes = name.getCollationKey().toByteArray().length;
+        return NAME_BYTES + COLLATION_KEY_BYTES + STRING_BYTES + align(ARRAY_HEADER_BYTES + keyCharacterBytes);
+    }
+
+    /**
+     * Returns the estimated size of {@code history}: none if it is empty, as every empty history is shared.
+     */
+    static long statusHistoryBytes(StatusHistory history) {
+        if (history.isEmpty()) {
+            return 0;
+        }
+        return WRAPPER_BYTES + align(ARRAY_HEADER_BYTES + (long) history.size() * Long.BYTES);
+    }
+
+    private static long align(long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    public int getCompanyCount() {
+        return companyCount;
+    }
+
+    /**
+     * Returns the estimated bytes held for {@code category}.
+     */
+    public long getBytes(Category category) {
+        return bytes.get(category);
+    }
+
+    /**
+     * Returns the estimated bytes held for all the categories.
+     */
+    public long getTotalBytes() {
+        return bytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the number of strings that are equal to, but not the same object as, a string counted before.
+     */
+    public long getDuplicateStringCount() {
+        return duplicateStringCount;
+    }
+
+    /**
+     * Returns the estimated bytes taken up by the strings counted by {@link #getDuplicateStringCount()}.
+     */
+    public long getDuplicateStringBytes() {
+        return duplicateStringBytes;
+    }
+
+    /**
+     * Returns the number of tags that are equal to, but not the same object as, a tag counted before.
+     */
+    public long getDuplicateTagCount() {
+        return duplicateTagCount;
+    }
+
+    /**
+     * Returns the estimated bytes taken up by the tags counted by {@link #getDuplicateTagCount()}.
+     */
+    public long getDuplicateTagBytes() {
+        return duplicateTagBytes;
+    }
+}
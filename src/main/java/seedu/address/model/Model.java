@@ -1,11 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.FullTextQuery;
+import seedu.address.model.company.PipelineFunnel;
+import seedu.address.model.company.Status;
+import seedu.address.model.company.TextIndex;
 
 /**
  * The API of the Model component.
@@ -52,6 +62,24 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Records the changes made to the address book since the last commit as one step, described by
+     * {@code description}, that can be undone. Does nothing if the address book has not changed.
+     */
+    void commitAddressBook(String description);
+
+    /**
+     * Undoes the most recent committed step that has not been undone, returning its description,
+     * or returns empty if there is none.
+     */
+    Optional<String> undoAddressBook();
+
+    /**
+     * Redoes the most recently undone step, returning its description, or returns empty if there is none.
+     * Committing new changes discards the steps that were undone.
+     */
+    Optional<String> redoAddressBook();
+
     /**
      * Returns true if a company with the same identity as {@code company} exists in the address book.
      */
@@ -77,6 +105,22 @@ public interface Model {
      */
     void setCompany(Company target, Company editedCompany);
 
+    /**
+     * Returns the full-text index over the remarks and addresses of the companies in the address book.
+     */
+    TextIndex getTextIndex();
+
+    /**
+     * Returns the full-text index if it has been built or restored, without building it.
+     */
+    Optional<TextIndex> getBuiltTextIndex();
+
+    /**
+     * Replaces the full-text index with {@code textIndex}, which must index exactly the companies in the
+     * address book.
+     */
+    void setTextIndex(TextIndex textIndex);
+
     /** Returns an unmodifiable view of the filtered company list */
     ObservableList<Company> getFilteredCompanyList();
 
@@ -85,4 +129,85 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCompanyList(Predicate<Company> predicate);
+
+    /**
+     * Updates the filter of the filtered company list to show {@code matches}, the companies satisfying
+     * {@code predicate} as computed elsewhere against the company list at {@code dataVersion}.
+     * Does nothing if the company list has changed since then.
+     *
+     * @return true if the filter was updated.
+     * @see #getDataVersion()
+     */
+    boolean updateFilteredCompanyList(Predicate<Company> predicate, long dataVersion, Set<Company> matches);
+
+    /**
+     * Updates the filter of the filtered company list to show only the companies best matching {@code query},
+     * most relevant first, within each group if the list is grouped. The list returns to its sort order once it
+     * is filtered again.
+     *
+     * @return the companies shown, most relevant first.
+     */
+    List<Company> showRankedCompanies(FullTextQuery query);
+
+    /**
+     * Orders the filtered company list by {@code sortOrder}. Companies added or edited later are moved into
+     * place in that order as they change.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void setCompanySortOrder(CompanySortOrder sortOrder);
+
+    /**
+     * Returns the order the filtered company list is currently in.
+     */
+    CompanySortOrder getCompanySortOrder();
+
+    /**
+     * Groups the filtered company list by {@code grouping}, listing the companies of each group together,
+     * in the current sort order within each group.
+     * @throws NullPointerException if {@code grouping} is null.
+     */
+    void setCompanyGrouping(CompanyGrouping grouping);
+
+    /**
+     * Returns the grouping of the filtered company list.
+     */
+    CompanyGrouping getCompanyGrouping();
+
+    /**
+     * Returns the predicate the filtered company list is currently filtered by.
+     */
+    Predicate<Company> getFilteredCompanyPredicate();
+
+    /**
+     * Returns an immutable snapshot of the companies in the address book, for reading on a background thread.
+     * Safe to call from any thread, unlike the other methods of the model, which must be called on the JavaFX
+     * application thread.
+     */
+    CompanyListSnapshot getCompanySnapshot();
+
+    /**
+     * Returns a number that increases every time the company list changes.
+     */
+    long getDataVersion();
+
+    /**
+     * Returns the total time, in nanoseconds, spent recomputing the filtered company list so far.
+     */
+    long getFilterNanos();
+
+    /**
+     * Returns the number of companies in the address book at {@code stage}.
+     */
+    int countCompaniesAt(Status.Stage stage);
+
+    /**
+     * Returns the size and the hit and miss counts of the cache of filter results.
+     */
+    CacheStatistics getFilterCacheStatistics();
+
+    /**
+     * Returns the pipeline funnel statistics over the status histories of the companies in the address book.
+     * The statistics are kept up to date as the companies change.
+     */
+    PipelineFunnel getPipelineFunnel();
 }
@@ -4,24 +4,55 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.FilterEvent;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.FullTextQuery;
+import seedu.address.model.company.IndexedPredicate;
+import seedu.address.model.company.PipelineFunnel;
+import seedu.address.model.company.Status;
+import seedu.address.model.company.TextIndex;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int FILTER_CACHE_CAPACITY = 16;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final IncrementalSortedList<Company> sortedCompanies;
     private final FilteredList<Company> filteredCompanies;
+    private final UndoHistory undoHistory;
+    private long filterNanos;
+    private final FilterResultCache filterCache = new FilterResultCache(FILTER_CACHE_CAPACITY);
+    private long dataVersion;
+    private CompanySortOrder sortOrder = CompanySortOrder.INSERTION_ORDER;
+    private CompanyGrouping grouping = CompanyGrouping.NONE;
+    private Predicate<Company> activePredicate;
+    private Set<Company> activeMatches;
+    // The position of each company shown by a ranked search, most relevant first; null when not ranking
+    private Map<Company, Integer> ranks;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -29,11 +60,15 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredCompanies = new FilteredList<>(this.addressBook.getCompanyList());
+        sortedCompanies = new IncrementalSortedList<>(this.addressBook.getCompanyList());
+        filteredCompanies = new FilteredList<>(sortedCompanies);
+        this.addressBook.getCompanyList().addListener((ListChangeListener<Company>) change -> dataVersion++);
+        undoHistory = new UndoHistory(this.addressBook, undoHistoryBudgetBytes());
+        this.addressBook.getCompanyList().addListener(undoHistory);
     }
 
     public ModelManager() {
@@ -46,6 +81,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setBudgetBytes(undoHistoryBudgetBytes());
     }
 
     @Override
@@ -80,6 +116,9 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        if (activePredicate != null) {
+            updateFilteredCompanyList(activePredicate);
+        }
     }
 
     @Override
@@ -87,6 +126,25 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void commitAddressBook(String description) {
+        undoHistory.commit(description);
+    }
+
+    @Override
+    public Optional<String> undoAddressBook() {
+        return undoHistory.undo();
+    }
+
+    @Override
+    public Optional<String> redoAddressBook() {
+        return undoHistory.redo();
+    }
+
+    private long undoHistoryBudgetBytes() {
+        return userPrefs.getUndoHistoryMegabytes() * BYTES_PER_MEGABYTE;
+    }
+
     @Override
     public boolean hasCompany(Company company) {
         requireNonNull(company);
@@ -108,9 +166,33 @@ public class ModelManager implements Model {
     public void setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
+        if (ranks != null && ranks.containsKey(target)) {
+            // A company found by a ranked search stays listed, at its rank, when edited
+            ranks.put(editedCompany, ranks.get(target));
+            activeMatches.add(editedCompany);
+        } else if (activePredicate != null && activePredicate.test(editedCompany)) {
+            // The filtered list re-tests the replacement against the membership predicate
+            activeMatches.add(editedCompany);
+        }
         addressBook.setCompany(target, editedCompany);
     }
 
+    @Override
+    public TextIndex getTextIndex() {
+        return addressBook.getCompanyIndex().getTextIndex();
+    }
+
+    @Override
+    public Optional<TextIndex> getBuiltTextIndex() {
+        return addressBook.getCompanyIndex().getBuiltTextIndex();
+    }
+
+    @Override
+    public void setTextIndex(TextIndex textIndex) {
+        requireNonNull(textIndex);
+        addressBook.getCompanyIndex().setTextIndex(textIndex);
+    }
+
     //=========== Filtered Company List Accessors =============================================================
 
     /**
@@ -125,7 +207,180 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredCompanyList(Predicate<Company> predicate) {
         requireNonNull(predicate);
-        filteredCompanies.setPredicate(predicate);
+        clearRanks();
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        long start = System.nanoTime();
+        if (predicate == PREDICATE_SHOW_ALL_COMPANIES) {
+            activePredicate = null;
+            activeMatches = null;
+            filteredCompanies.setPredicate(predicate);
+        } else {
+            Optional<Set<Company>> cached = filterCache.get(predicate, dataVersion);
+            event.setCacheHit(cached.isPresent());
+            Set<Company> matches = cached.orElseGet(() -> {
+                Set<Company> computed = computeMatches(predicate);
+                filterCache.put(predicate, dataVersion, computed);
+                return computed;
+            });
+            logger.fine(() -> String.format("Filter cache hit rate: %.1f%% (%d hits, %d misses)",
+                    filterCache.getHitRate() * 100, filterCache.getHits(), filterCache.getMisses()));
+            activePredicate = predicate;
+            activeMatches = matches;
+            filteredCompanies.setPredicate(matches::contains);
+        }
+        filterNanos += System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPredicate(predicate.toString());
+            event.setCompanyCount(addressBook.getCompanyList().size());
+            event.setMatchedRows(filteredCompanies.size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean updateFilteredCompanyList(Predicate<Company> predicate, long dataVersion, Set<Company> matches) {
+        requireAllNonNull(predicate, matches);
+        if (dataVersion != this.dataVersion) {
+            return false;
+        }
+        clearRanks();
+        filterCache.put(predicate, dataVersion, matches);
+        activePredicate = predicate;
+        activeMatches = matches;
+        filteredCompanies.setPredicate(matches::contains);
+        return true;
+    }
+
+    @Override
+    public List<Company> showRankedCompanies(FullTextQuery query) {
+        requireNonNull(query);
+        List<Company> ranked = query.rank(getTextIndex());
+        Map<Company, Integer> ranks = new IdentityHashMap<>();
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i), i);
+            matches.add(ranked.get(i));
+        }
+        // Only the ranked companies match, so a company edited to contain the words is not added to them
+        activePredicate = matches::contains;
+        activeMatches = matches;
+        filteredCompanies.setPredicate(matches::contains);
+        this.ranks = ranks;
+        updateComparator();
+        return ranked;
+    }
+
+    private void clearRanks() {
+        if (ranks != null) {
+            ranks = null;
+            updateComparator();
+        }
+    }
+
+    /**
+     * Orders the companies by the ranks of the last ranked search if it is shown, or else by the sort order,
+     * within each group.
+     */
+    private void updateComparator() {
+        if (ranks == null) {
+            sortedCompanies.setComparator(grouping.getComparator(sortOrder).orElse(null));
+            return;
+        }
+        Map<Company, Integer> ranks = this.ranks;
+        // Companies that are not ranked are not shown, and only ordered by name to keep the order total
+        Comparator<Company> byRank = Comparator.<Company>comparingInt(company -> ranks.getOrDefault(company,
+                ranks.size())).thenComparing(company -> company.getName().fullName);
+        sortedCompanies.setComparator(grouping.getComparator(byRank));
+    }
+
+    @Override
+    public void setCompanySortOrder(CompanySortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+        updateComparator();
+    }
+
+    @Override
+    public CompanySortOrder getCompanySortOrder() {
+        return sortOrder;
+    }
+
+    @Override
+    public void setCompanyGrouping(CompanyGrouping grouping) {
+        requireNonNull(grouping);
+        this.grouping = grouping;
+        updateComparator();
+    }
+
+    @Override
+    public CompanyGrouping getCompanyGrouping() {
+        return grouping;
+    }
+
+    @Override
+    public Predicate<Company> getFilteredCompanyPredicate() {
+        return activePredicate == null ? PREDICATE_SHOW_ALL_COMPANIES : activePredicate;
+    }
+
+    /**
+     * Returns the companies satisfying {@code predicate}.
+     */
+    private Set<Company> computeMatches(Predicate<Company> predicate) {
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Company candidate : candidatesFor(predicate)) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the companies that may satisfy {@code predicate}. If {@code predicate} can read its candidates from
+     * the company index, only the candidates are returned; otherwise every company is.
+     */
+    private Collection<Company> candidatesFor(Predicate<Company> predicate) {
+        if (predicate instanceof IndexedPredicate) {
+            Optional<Set<Company>> indexed = ((IndexedPredicate) predicate).candidates(addressBook.getCompanyIndex());
+            if (indexed.isPresent()) {
+                logger.fine(() -> "Index narrowed " + predicate + " to " + indexed.get().size() + " candidates");
+                return indexed.get();
+            }
+        }
+        return addressBook.getCompanyList();
+    }
+
+    @Override
+    public CompanyListSnapshot getCompanySnapshot() {
+        return addressBook.getCompanySnapshot();
+    }
+
+    @Override
+    public long getDataVersion() {
+        return dataVersion;
+    }
+
+    @Override
+    public long getFilterNanos() {
+        return filterNanos;
+    }
+
+    @Override
+    public int countCompaniesAt(Status.Stage stage) {
+        requireNonNull(stage);
+        return addressBook.getCompanyIndex().getByStatus(stage).size();
+    }
+
+    @Override
+    public CacheStatistics getFilterCacheStatistics() {
+        return filterCache.getStatistics();
+    }
+
+    @Override
+    public PipelineFunnel getPipelineFunnel() {
+        return addressBook.getCompanyIndex().getFunnel();
     }
 
     @Override
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    Path getCommandHistoryFilePath();
+
+    int getCommandHistoryCapacity();
+
+    int getUndoHistoryMegabytes();
+
 }
@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The number of companies with each tag at each stage, as an {@code int[tags][stages]} matrix with the tags
+ * sorted by name. A company counts once under every tag it has, so a row is the stage breakdown of the companies
+ * with that tag.
+ *
+ * <p>The matrix is built by a {@link Collector} whose per-thread accumulators keep a primitive row per tag and are
+ * merged by adding the rows, so large lists are counted on a parallel stream without boxing or locking.
+ */
+public class TagStatusMatrix {
+
+    /** Lists smaller than this are counted sequentially, as splitting them costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    private static final int STAGE_COUNT = Status.Stage.values().length;
+
+    private final List<String> tags;
+    private final int[][] counts;
+
+    private TagStatusMatrix(List<String> tags, int[][] counts) {
+        this.tags = tags;
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the matrix of {@code companies}. As it only reads {@code companies}, it can run on a background
+     * thread over a snapshot of the company list.
+     */
+    public static TagStatusMatrix of(List<Company> companies) {
+        requireNonNull(companies);
+        return companies.size() < PARALLEL_THRESHOLD
+                ? companies.stream().collect(collector())
+                : companies.parallelStream().collect(collector());
+    }
+
+    /**
+     * Returns a collector counting the companies it is given into a matrix.
+     */
+    public static Collector<Company, ?, TagStatusMatrix> collector() {
+        return Collector.of(Accumulator::new, Accumulator::add, Accumulator::merge, Accumulator::toMatrix,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns the names of the tags of the rows, in order.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the number of companies with the tag of row {@code tagIndex} at {@code stage}.
+     */
+    public int getCount(int tagIndex, Status.Stage stage) {
+        requireNonNull(stage);
+        return counts[tagIndex][stage.ordinal()];
+    }
+
+    /**
+     * Returns the number of companies with the tag named {@code tagName} at {@code stage}, or 0 if no company has
+     * the tag.
+     */
+    public int getCount(String tagName, Status.Stage stage) {
+        requireNonNull(tagName);
+        int tagIndex = Collections.binarySearch(tags, tagName);
+        return tagIndex < 0 ? 0 : getCount(tagIndex, stage);
+    }
+
+    /**
+     * Returns the number of companies with the tag of row {@code tagIndex}.
+     */
+    public int getTotal(int tagIndex) {
+        int total = 0;
+        for (int count : counts[tagIndex]) {
+            total += count;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return tags.isEmpty();
+    }
+
+    /**
+     * Counts the companies seen by one thread, with a row of stage counts per tag name.
+     */
+    private static class Accumulator {
+        private final Map<String, int[]> rows = new HashMap<>();
+
+        void add(Company company) {
+            int stage = company.getStatus().value.ordinal();
+            for (Tag tag : company.getTags()) {
+                int[] row = rows.get(tag.tagName);
+                if (row == null) {
+                    row = new int[STAGE_COUNT];
+                    rows.put(tag.tagName, row);
+                }
+                row[stage]++;
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            other.rows.forEach((tagName, otherRow) -> {
+                int[] row = rows.putIfAbsent(tagName, otherRow);
+                if (row != null) {
+                    for (int stage = 0; stage < STAGE_COUNT; stage++) {
+                        row[stage] += otherRow[stage];
+                    }
+                }
+            });
+            return this;
+        }
+
+        TagStatusMatrix toMatrix() {
+            List<String> tags = new ArrayList<>(rows.keySet());
+            Collections.sort(tags);
+            int[][] counts = new int[tags.size()][];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = rows.get(tags.get(i));
+            }
+            return new TagStatusMatrix(Collections.unmodifiableList(tags), counts);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.company.Company;
+
+/**
+ * The changes made to an address book by each command, kept so that they can be undone and redone.
+ *
+ * <p>The history listens to the company list and records each change as the position it was made at, with the
+ * companies it removed and those it added. The changes of one command are grouped into an entry when the command
+ * is committed. Undoing an entry puts back the removed companies in place of the added ones at the recorded
+ * positions, last change first, so it costs about as much as the command did rather than a reload of the whole
+ * address book.
+ *
+ * <p>Each entry keeps alive the companies that left the list, which would otherwise be garbage. Their memory is
+ * estimated at {@value #ESTIMATED_COMPANY_BYTES} bytes a company, and the oldest entries are dropped when the
+ * estimate for all entries goes over the budget.
+ */
+class UndoHistory implements ListChangeListener<Company> {
+
+    /** About what {@code stats memory} reports per company for typical data, rounded up. */
+    static final long ESTIMATED_COMPANY_BYTES = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final AddressBook addressBook;
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private List<Step> pendingSteps = new ArrayList<>();
+    private long budgetBytes;
+    private long usedBytes;
+    private boolean isReplaying;
+
+    /**
+     * Creates a history of the changes to {@code addressBook}, using at most about {@code budgetBytes} of memory.
+     * The history must be added as a listener to the company list of {@code addressBook} to record anything.
+     */
+    UndoHistory(AddressBook addressBook, long budgetBytes) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        setBudgetBytes(budgetBytes);
+    }
+
+    /**
+     * Sets the memory the entries may use, dropping the oldest entries that no longer fit.
+     */
+    void setBudgetBytes(long budgetBytes) {
+        checkArgument(budgetBytes > 0, "Budget must be positive");
+        this.budgetBytes = budgetBytes;
+        evictOverBudget();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Company> change) {
+        if (isReplaying) {
+            return;
+        }
+        while (change.next()) {
+            // The company list is never sorted in place, so every change is a replacement, addition or removal
+            pendingSteps.add(new Step(change.getFrom(), List.copyOf(change.getRemoved()),
+                    List.copyOf(change.getAddedSubList())));
+        }
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into an entry described by {@code description}, which
+     * becomes the next entry to undo. Does nothing if there were no changes.
+     * Committing changes discards the entries that were undone, as they can no longer be redone.
+     */
+    void commit(String description) {
+        requireNonNull(description);
+        if (pendingSteps.isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(description, pendingSteps);
+        pendingSteps = new ArrayList<>();
+        redoEntries.forEach(redone -> usedBytes -= redone.redoBytes);
+        redoEntries.clear();
+        undoEntries.push(entry);
+        usedBytes += entry.undoBytes;
+        evictOverBudget();
+        if (undoEntries.isEmpty()) {
+            logger.warning(() -> "Changes made by " + description + " are too large to be undone within the "
+                    + budgetBytes + " byte budget of the undo history");
+        }
+    }
+
+    boolean canUndo() {
+        return !undoEntries.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Undoes the most recent entry, returning its description, or returns empty if there is none.
+     */
+    Optional<String> undo() {
+        if (undoEntries.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry entry = undoEntries.pop();
+        replay(() -> {
+            for (int i = entry.steps.size() - 1; i >= 0; i--) {
+                Step step = entry.steps.get(i);
+                addressBook.replaceCompanies(step.from, step.from + step.added.size(), step.removed);
+            }
+        });
+        usedBytes += entry.redoBytes - entry.undoBytes;
+        redoEntries.push(entry);
+        return Optional.of(entry.description);
+    }
+
+    /**
+     * Redoes the most recently undone entry, returning its description, or returns empty if there is none.
+     */
+    Optional<String> redo() {
+        if (redoEntries.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry entry = redoEntries.pop();
+        replay(() -> {
+            for (Step step : entry.steps) {
+                addressBook.replaceCompanies(step.from, step.from + step.removed.size(), step.added);
+            }
+        });
+        usedBytes += entry.undoBytes - entry.redoBytes;
+        undoEntries.push(entry);
+        return Optional.of(entry.description);
+    }
+
+    /**
+     * Returns the estimated memory used by the entries, in bytes.
+     */
+    long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Runs {@code changes} without recording the changes it makes.
+     */
+    private void replay(Runnable changes) {
+        isReplaying = true;
+        try {
+            changes.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void evictOverBudget() {
+        while (usedBytes > budgetBytes && !redoEntries.isEmpty()) {
+            usedBytes -= redoEntries.removeLast().redoBytes;
+        }
+        while (usedBytes > budgetBytes && !undoEntries.isEmpty()) {
+            Entry evicted = undoEntries.removeLast();
+            usedBytes -= evicted.undoBytes;
+            logger.fine(() -> "Dropped " + evicted.description + " from the undo history");
+        }
+    }
+
+    /**
+     * One change to the company list: {@code removed} replaced by {@code added} at position {@code from}.
+     */
+    private static class Step {
+        private final int from;
+        private final List<Company> removed;
+        private final List<Company> added;
+
+        Step(int from, List<Company> removed, List<Company> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The changes made by one command.
+     * While it can be undone, it keeps alive the companies the command removed; while it can be redone, those
+     * the command added.
+     */
+    private static class Entry {
+        private final String description;
+        private final List<Step> steps;
+        private final long undoBytes;
+        private final long redoBytes;
+
+        Entry(String description, List<Step> steps) {
+            this.description = description;
+            this.steps = steps;
+            long removedCount = 0;
+            long addedCount = 0;
+            for (Step step : steps) {
+                removedCount += step.removed.size();
+                addedCount += step.added.size();
+            }
+            this.undoBytes = removedCount * ESTIMATED_COMPANY_BYTES;
+            this.redoBytes = addedCount * ESTIMATED_COMPANY_BYTES;
+        }
+    }
+}
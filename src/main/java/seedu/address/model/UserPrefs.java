@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,14 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_COMMAND_HISTORY_CAPACITY = 1000;
+    public static final int DEFAULT_UNDO_HISTORY_MEGABYTES = 128;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.txt");
+    private int commandHistoryCapacity = DEFAULT_COMMAND_HISTORY_CAPACITY;
+    private int undoHistoryMegabytes = DEFAULT_UNDO_HISTORY_MEGABYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCommandHistoryFilePath(newUserPrefs.getCommandHistoryFilePath());
+        setCommandHistoryCapacity(newUserPrefs.getCommandHistoryCapacity());
+        setUndoHistoryMegabytes(newUserPrefs.getUndoHistoryMegabytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        requireNonNull(commandHistoryFilePath);
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    /**
+     * Sets the number of commands kept in the command history, which must be positive.
+     */
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        checkArgument(commandHistoryCapacity > 0, "Command history capacity must be positive");
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
+    public int getUndoHistoryMegabytes() {
+        return undoHistoryMegabytes;
+    }
+
+    /**
+     * Sets the memory the undo history may use, in megabytes, which must be positive.
+     */
+    public void setUndoHistoryMegabytes(int undoHistoryMegabytes) {
+        checkArgument(undoHistoryMegabytes > 0, "Undo history size must be positive");
+        this.undoHistoryMegabytes = undoHistoryMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +112,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && commandHistoryCapacity == otherUserPrefs.commandHistoryCapacity
+                && undoHistoryMegabytes == otherUserPrefs.undoHistoryMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, commandHistoryFilePath, commandHistoryCapacity,
+                undoHistoryMegabytes);
     }
 
     @Override
@@ -82,6 +129,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
+        sb.append("\nCommand history capacity : " + commandHistoryCapacity);
+        sb.append("\nUndo history size (MB) : " + undoHistoryMegabytes);
         return sb.toString();
     }
 
@@ -14,6 +14,8 @@ import seedu.address.model.tag.Tag;
  * Represents a Company in the address book.
  * Guarantees: name, tags, remark, and status are not null; phone, email, and address can be null;
  * field values are validated, immutable.
+ * The status history records how the company got to its status rather than what the company is, so it does
+ * not take part in equality.
  */
 public class Company {
 
@@ -27,15 +29,26 @@ public class Company {
     private final Set<Tag> tags = new HashSet<>();
     private final Remark remark;
     private final Status status;
+    private final StatusHistory statusHistory;
 
     /**
-     * Constructs a {@code Company}.
+     * Constructs a {@code Company} without a status history.
      * All fields must not be null. Empty fields such as phone, email, address and remark can be represented
      * with Phone(null), Email(null), Address(null), and Remark(null).
      */
     public Company(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Remark remark,
                    Status status) {
-        requireAllNonNull(name, phone, email, address, tags, remark, status);
+        this(name, phone, email, address, tags, remark, status, StatusHistory.EMPTY);
+    }
+
+    /**
+     * Constructs a {@code Company}.
+     * All fields must not be null. Empty fields such as phone, email, address and remark can be represented
+     * with Phone(null), Email(null), Address(null), and Remark(null).
+     */
+    public Company(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Remark remark,
+                   Status status, StatusHistory statusHistory) {
+        requireAllNonNull(name, phone, email, address, tags, remark, status, statusHistory);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -43,6 +56,7 @@ public class Company {
         this.tags.addAll(tags);
         this.remark = remark;
         this.status = status;
+        this.statusHistory = statusHistory;
     }
 
     public Name getName() {
@@ -77,6 +91,10 @@ public class Company {
         return status;
     }
 
+    public StatusHistory getStatusHistory() {
+        return statusHistory;
+    }
+
     /**
      * Returns true if both companies have the same name.
      * This defines a weaker notion of equality between two companies.
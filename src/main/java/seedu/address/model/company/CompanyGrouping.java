@@ -0,0 +1,93 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A way of grouping the shown companies under headers. The companies of a group are listed together, in the
+ * order of the groups, and within a group in the current sort order, or by name if the companies are in the order
+ * they were added in. Each company is in exactly one group, so the list stays numbered one company after another.
+ */
+public enum CompanyGrouping {
+    NONE("none", company -> "", null),
+    STATUS("status", company -> company.getStatus().toUserInputString().toUpperCase(),
+            Comparator.comparing(company -> company.getStatus().value)),
+    TAG("tag", company -> firstTagOf(company).orElse(CompanyGrouping.UNTAGGED_GROUP),
+            Comparator.comparing(company -> firstTagOf(company).orElse(null),
+                    Comparator.nullsLast(CompanyGrouping::compareTagNames)));
+
+    /** The group of companies without tags, which cannot clash with a tag name as tags are alphanumeric. */
+    public static final String UNTAGGED_GROUP = "(untagged)";
+
+    private final String keyword;
+    private final Function<Company, String> groupNamer;
+    private final Comparator<Company> groupOrder;
+
+    CompanyGrouping(String keyword, Function<Company, String> groupNamer, Comparator<Company> groupOrder) {
+        this.keyword = keyword;
+        this.groupNamer = groupNamer;
+        this.groupOrder = groupOrder;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the grouping named by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<CompanyGrouping> ofKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (CompanyGrouping grouping : values()) {
+            if (grouping.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(grouping);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the name of the group {@code company} is in: its status in upper case when grouping by status,
+     * and its first tag in alphabetical order, or {@link #UNTAGGED_GROUP}, when grouping by tag.
+     * Without grouping, all companies are in one group named by the empty string.
+     */
+    public String getGroupName(Company company) {
+        requireNonNull(company);
+        return groupNamer.apply(company);
+    }
+
+    /**
+     * Returns the comparator ordering companies group by group, and by {@code sortOrder} within a group,
+     * or the comparator of {@code sortOrder} if not grouping.
+     */
+    public Optional<Comparator<Company>> getComparator(CompanySortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        if (groupOrder == null) {
+            return sortOrder.getComparator();
+        }
+        // Without a sort order, name keeps each group in a total order, so a company is found again quickly
+        CompanySortOrder withinGroups = sortOrder.isInsertionOrder() ? CompanySortOrder.BY_NAME : sortOrder;
+        return Optional.of(getComparator(withinGroups.getComparator().orElseThrow()));
+    }
+
+    /**
+     * Returns the comparator ordering companies group by group, and by {@code withinGroups} within a group,
+     * or {@code withinGroups} itself if not grouping.
+     */
+    public Comparator<Company> getComparator(Comparator<Company> withinGroups) {
+        requireNonNull(withinGroups);
+        return groupOrder == null ? withinGroups : groupOrder.thenComparing(withinGroups);
+    }
+
+    private static Optional<String> firstTagOf(Company company) {
+        return company.getTags().stream().map(tag -> tag.tagName).min(CompanyGrouping::compareTagNames);
+    }
+
+    private static int compareTagNames(String first, String second) {
+        int comparison = first.compareToIgnoreCase(second);
+        return comparison != 0 ? comparison : first.compareTo(second);
+    }
+}
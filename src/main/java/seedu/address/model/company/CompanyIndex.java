@@ -0,0 +1,267 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Secondary indexes over the companies held by a {@link UniqueCompanyList}, keyed by name, status, tag, email
+ * domain, phone number and the words of the company name. The index is kept up to date by the owning list, so every
+ * mutation costs O(1) per indexed field and every exact lookup is a single hash probe. Name words are also kept
+ * in a {@link BkTree}, so typo-tolerant lookups only compute the edit distance to a fraction of the words.
+ * Companies are tracked by identity, so the sets returned only ever contain the instances stored in the list.
+ * The {@link PipelineFunnel} over the companies' status histories is kept up to date alongside.
+ */
+public class CompanyIndex {
+
+    private final Map<Name, Company> byName = new HashMap<>();
+    private final Map<Status.Stage, Set<Company>> byStatus = new EnumMap<>(Status.Stage.class);
+    private final Map<String, Set<Company>> byTag = new HashMap<>();
+    private final Map<String, Set<Company>> byEmailDomain = new HashMap<>();
+    private final Map<String, Set<Company>> byPhone = new HashMap<>();
+    private final Map<String, Set<Company>> byNameWord = new HashMap<>();
+    private final BkTree nameWords = new BkTree();
+    private final PipelineFunnel funnel = new PipelineFunnel();
+    private TextIndex textIndex;
+
+    /**
+     * Returns the company named {@code name}, which is the only one as names identify companies.
+     */
+    public Optional<Company> getByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Returns the companies with the given {@code stage}.
+     */
+    public Set<Company> getByStatus(Status.Stage stage) {
+        requireNonNull(stage);
+        return view(byStatus.get(stage));
+    }
+
+    /**
+     * Returns the companies tagged with {@code tagName} (case-insensitive).
+     */
+    public Set<Company> getByTag(String tagName) {
+        requireNonNull(tagName);
+        return view(byTag.get(normalizeTag(tagName)));
+    }
+
+    /**
+     * Returns the companies whose email address is at {@code domain} (case-insensitive).
+     */
+    public Set<Company> getByEmailDomain(String domain) {
+        requireNonNull(domain);
+        return view(byEmailDomain.get(normalizeDomain(domain)));
+    }
+
+    /**
+     * Returns the companies whose phone number equals {@code phone}, ignoring spaces.
+     */
+    public Set<Company> getByPhone(String phone) {
+        requireNonNull(phone);
+        return view(byPhone.get(normalizePhone(phone)));
+    }
+
+    /**
+     * Returns the companies with a word in their name within {@code maxDistance} edits of {@code word}
+     * (case-insensitive), as measured by {@link StringUtil#editDistance}.
+     */
+    public Set<Company> getByNameWordWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        String query = normalizeNameWord(word);
+        // The tree's distance is never larger than the edit distance, so it finds every word within it
+        for (String nameWord : nameWords.search(query, maxDistance)) {
+            if (StringUtil.editDistance(query, nameWord) <= maxDistance) {
+                matches.addAll(byNameWord.get(nameWord));
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the full-text index over the remarks and addresses of the companies, building it first if it has
+     * not been built or restored yet.
+     */
+    public TextIndex getTextIndex() {
+        if (textIndex == null) {
+            textIndex = new TextIndex();
+            byStatus.values().forEach(companies -> companies.forEach(textIndex::add));
+        }
+        return textIndex;
+    }
+
+    /**
+     * Returns the full-text index if it has been built or restored, without building it.
+     */
+    public Optional<TextIndex> getBuiltTextIndex() {
+        return Optional.ofNullable(textIndex);
+    }
+
+    /**
+     * Returns the funnel statistics over the status histories of the companies.
+     */
+    public PipelineFunnel getFunnel() {
+        return funnel;
+    }
+
+    /**
+     * Replaces the full-text index with {@code textIndex}, which must index exactly the companies in this index.
+     */
+    public void setTextIndex(TextIndex textIndex) {
+        requireNonNull(textIndex);
+        this.textIndex = textIndex;
+    }
+
+    /**
+     * Returns the distinct lower-case words of {@code name}.
+     */
+    public static Set<String> nameWordsOf(Name name) {
+        Set<String> words = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalizeNameWord(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} in the form used as an index key.
+     */
+    public static String normalizeNameWord(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the domain part of {@code email} in lower case, or null if {@code email} is null.
+     */
+    public static String emailDomainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        return normalizeDomain(email.substring(email.lastIndexOf('@') + 1));
+    }
+
+    /**
+     * Returns {@code tagName} in the form used as an index key.
+     */
+    public static String normalizeTag(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code domain} in the form used as an index key. A leading '@' is ignored.
+     */
+    public static String normalizeDomain(String domain) {
+        String trimmed = domain.startsWith("@") ? domain.substring(1) : domain;
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code phone} in the form used as an index key.
+     */
+    public static String normalizePhone(String phone) {
+        return phone.replace(" ", "");
+    }
+
+    /**
+     * Indexes {@code company}.
+     */
+    void add(Company company) {
+        if (textIndex != null) {
+            textIndex.add(company);
+        }
+        byName.put(company.getName(), company);
+        for (String word : nameWordsOf(company.getName())) {
+            insert(byNameWord, word, company);
+            nameWords.add(word);
+        }
+        insert(byStatus, company.getStatus().value, company);
+        funnel.add(company);
+        for (Tag tag : company.getTags()) {
+            insert(byTag, normalizeTag(tag.tagName), company);
+        }
+        if (company.getEmail().value != null) {
+            insert(byEmailDomain, emailDomainOf(company.getEmail().value), company);
+        }
+        if (company.getPhone().value != null) {
+            insert(byPhone, normalizePhone(company.getPhone().value), company);
+        }
+    }
+
+    /**
+     * Removes {@code company} from the index. {@code company} must be the instance that was indexed.
+     */
+    void remove(Company company) {
+        if (textIndex != null) {
+            textIndex.remove(company);
+        }
+        byName.remove(company.getName(), company);
+        for (String word : nameWordsOf(company.getName())) {
+            delete(byNameWord, word, company);
+            if (!byNameWord.containsKey(word)) {
+                nameWords.remove(word);
+            }
+        }
+        delete(byStatus, company.getStatus().value, company);
+        funnel.remove(company);
+        for (Tag tag : company.getTags()) {
+            delete(byTag, normalizeTag(tag.tagName), company);
+        }
+        if (company.getEmail().value != null) {
+            delete(byEmailDomain, emailDomainOf(company.getEmail().value), company);
+        }
+        if (company.getPhone().value != null) {
+            delete(byPhone, normalizePhone(company.getPhone().value), company);
+        }
+    }
+
+    /**
+     * Removes every company from the index.
+     */
+    void clear() {
+        byName.clear();
+        byStatus.clear();
+        byTag.clear();
+        byEmailDomain.clear();
+        byPhone.clear();
+        byNameWord.clear();
+        nameWords.clear();
+        funnel.clear();
+        textIndex = null;
+    }
+
+    private static <K> void insert(Map<K, Set<Company>> map, K key, Company company) {
+        map.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(company);
+    }
+
+    private static <K> void delete(Map<K, Set<Company>> map, K key, Company company) {
+        Set<Company> companies = map.get(key);
+        if (companies == null) {
+            return;
+        }
+        companies.remove(company);
+        if (companies.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static Set<Company> view(Set<Company> companies) {
+        return companies == null ? Collections.emptySet() : Collections.unmodifiableSet(companies);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.company;
+
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * An immutable view of the companies in a {@link UniqueCompanyList} as they were at one version of the list.
+ * Unlike the list itself, a snapshot can be read from any thread. It shares its structure with the snapshots
+ * taken before and after it, so holding on to one costs little memory.
+ */
+public class CompanyListSnapshot {
+
+    private final PersistentList<Company> companies;
+    private final List<Company> companyList;
+    private final long version;
+
+    CompanyListSnapshot(PersistentList<Company> companies, long version) {
+        this.companies = companies;
+        this.companyList = companies.asList();
+        this.version = version;
+    }
+
+    /**
+     * Returns the companies, in list order, as an unmodifiable list.
+     */
+    public List<Company> getCompanies() {
+        return companyList;
+    }
+
+    PersistentList<Company> getPersistentCompanies() {
+        return companies;
+    }
+
+    /**
+     * Returns the version of the list the snapshot was taken at. It increases with every change to the list.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An order to show companies in, by one or more keys, each ascending or descending, with later keys breaking
+ * the ties of earlier ones. Companies still tied after the last key are ordered by name, so the order is total.
+ * The order without keys is the order the companies were added in.
+ */
+public class CompanySortOrder {
+
+    public static final CompanySortOrder INSERTION_ORDER = new CompanySortOrder(List.of());
+    public static final CompanySortOrder BY_NAME = new CompanySortOrder(List.of(new Criterion(Key.NAME, false)));
+
+    /**
+     * A property of a company to sort by.
+     */
+    public enum Key {
+        NAME("name", Comparator.comparing(company -> company.getName().getCollationKey())),
+        STATUS("status", Comparator.comparing(company -> company.getStatus().value)),
+        TAGS("tags", Comparator.comparingInt(company -> company.getTags().size()));
+
+        private final String keyword;
+        private final Comparator<Company> ascending;
+
+        Key(String keyword, Comparator<Company> ascending) {
+            this.keyword = keyword;
+            this.ascending = ascending;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the key named by {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Key> ofKeyword(String keyword) {
+            requireNonNull(keyword);
+            for (Key key : values()) {
+                if (key.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(key);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * One key of a sort order, with its direction.
+     */
+    public static class Criterion {
+        private final Key key;
+        private final boolean isDescending;
+
+        /**
+         * Creates a criterion sorting by {@code key}, in descending order if {@code isDescending}.
+         */
+        public Criterion(Key key, boolean isDescending) {
+            this.key = requireNonNull(key);
+            this.isDescending = isDescending;
+        }
+
+        public Key getKey() {
+            return key;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        private Comparator<Company> comparator() {
+            return isDescending ? key.ascending.reversed() : key.ascending;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Criterion)) {
+                return false;
+            }
+
+            Criterion otherCriterion = (Criterion) other;
+            return key == otherCriterion.key && isDescending == otherCriterion.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() * 2 + (isDescending ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return key.keyword + (isDescending ? " (descending)" : "");
+        }
+    }
+
+    private final List<Criterion> criteria;
+    private final Comparator<Company> comparator;
+
+    /**
+     * Creates an order by {@code criteria}, in order of precedence. No key may appear twice.
+     */
+    public CompanySortOrder(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        Set<Key> keys = EnumSet.noneOf(Key.class);
+        criteria.forEach(criterion -> checkArgument(keys.add(criterion.key), "Duplicate sort key " + criterion.key));
+        this.criteria = List.copyOf(criteria);
+
+        List<Comparator<Company>> comparators = new ArrayList<>();
+        criteria.forEach(criterion -> comparators.add(criterion.comparator()));
+        if (!criteria.isEmpty() && !keys.contains(Key.NAME)) {
+            comparators.add(Key.NAME.ascending);
+        }
+        this.comparator = comparators.stream().reduce(Comparator::thenComparing).orElse(null);
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    public boolean isInsertionOrder() {
+        return criteria.isEmpty();
+    }
+
+    /**
+     * Returns the comparator ordering companies in this order, or empty for the insertion order.
+     */
+    public Optional<Comparator<Company>> getComparator() {
+        return Optional.ofNullable(comparator);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompanySortOrder)) {
+            return false;
+        }
+
+        CompanySortOrder otherOrder = (CompanySortOrder) other;
+        return criteria.equals(otherOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria.stream().map(Criterion::toString).collect(Collectors.joining(", ")))
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A query for the best {@code limit} companies whose remark or address contains words of a query, as ranked by
+ * the {@link TextIndex}. Whether a company matches depends on the other companies, so this is not a predicate
+ * that can be tested against one company on its own.
+ */
+public class FullTextQuery {
+
+    private final String query;
+    private final int limit;
+
+    /**
+     * Creates a query for the best {@code limit} matches of {@code query}.
+     */
+    public FullTextQuery(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit > 0, "Limit must be positive");
+        this.query = query;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the companies in {@code index} best matching this query, most relevant first.
+     */
+    public List<Company> rank(TextIndex index) {
+        requireNonNull(index);
+        return index.search(query, limit).stream().map(TextIndex.Match::getCompany).collect(Collectors.toList());
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FullTextQuery)) {
+            return false;
+        }
+
+        FullTextQuery otherQuery = (FullTextQuery) other;
+        return query.equals(otherQuery.query) && limit == otherQuery.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, limit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).add("limit", limit).toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Company}'s {@code Name} is within a given edit distance of any of the keywords.
+ * Matching is case insensitive, and candidates are read from the name-word BK-tree of the {@link CompanyIndex}.
+ */
+public class FuzzyNamePredicate implements IndexedPredicate {
+
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+    public static final int MAX_ALLOWED_DISTANCE = 3;
+
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Creates a predicate matching names with a word within {@code maxDistance} edits of any of {@code keywords}.
+     */
+    public FuzzyNamePredicate(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        checkArgument(maxDistance >= 0 && maxDistance <= MAX_ALLOWED_DISTANCE,
+                "Distance must be between 0 and " + MAX_ALLOWED_DISTANCE);
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public boolean test(Company company) {
+        Set<String> nameWords = CompanyIndex.nameWordsOf(company.getName());
+        return keywords.stream().map(CompanyIndex::normalizeNameWord)
+                .anyMatch(keyword -> nameWords.stream()
+                        .anyMatch(word -> StringUtil.editDistance(keyword, word) <= maxDistance));
+    }
+
+    @Override
+    public Optional<Set<Company>> candidates(CompanyIndex index) {
+        Set<Company> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> candidates.addAll(index.getByNameWordWithin(keyword, maxDistance)));
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNamePredicate)) {
+            return false;
+        }
+
+        FuzzyNamePredicate otherFuzzyNamePredicate = (FuzzyNamePredicate) other;
+        return keywords.equals(otherFuzzyNamePredicate.keywords) && maxDistance == otherFuzzyNamePredicate.maxDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("maxDistance", maxDistance).toString();
+    }
+}
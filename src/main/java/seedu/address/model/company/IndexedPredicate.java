@@ -0,0 +1,18 @@
+package seedu.address.model.company;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Company>} that can narrow down its matches using a {@link CompanyIndex} instead of being
+ * tested against every company.
+ */
+public interface IndexedPredicate extends Predicate<Company> {
+
+    /**
+     * Returns a superset of the companies in {@code index} that satisfy this predicate, or an empty
+     * {@code Optional} if no index applies and every company has to be tested.
+     */
+    Optional<Set<Company>> candidates(CompanyIndex index);
+}
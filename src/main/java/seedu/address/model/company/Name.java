@@ -3,6 +3,9 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 /**
  * Represents a Company's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +21,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    // Collators are not thread-safe, so keys are generated while holding its lock
+    private static final Collator COLLATOR = Collator.getInstance();
+
     public final String fullName;
 
+    // Generated on first use; a race only generates an equal key twice
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +47,28 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the key ordering this name among others by the rules of the default locale.
+     * The key is generated once, so sorting many names compares keys bit by bit rather than applying the
+     * collation rules to each pair.
+     */
+    public CollationKey getCollationKey() {
+        CollationKey key = collationKey;
+        if (key == null) {
+            synchronized (COLLATOR) {
+                key = COLLATOR.getCollationKey(fullName);
+            }
+            collationKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Returns true if the collation key of this name has been generated.
+     */
+    public boolean hasCollationKey() {
+        return collationKey != null;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,164 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+
+/**
+ * Funnel statistics over the status histories of the companies held by a {@link UniqueCompanyList}: how many
+ * companies reached each stage, how many moved from each stage to each other stage, and how long companies
+ * stayed at each stage before moving on. Like {@link CompanyIndex}, it is kept up to date by the owning list, so
+ * adding or removing a company costs O(length of its history) and no query rescans the companies.
+ * Stays are only measured between two entries with known times, and are kept to the hour.
+ */
+public class PipelineFunnel {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final double HOURS_PER_DAY = 24;
+    private static final Status.Stage[] STAGES = Status.Stage.values();
+
+    private final int[] reachedCounts = new int[STAGES.length];
+    private final int[][] transitionCounts = new int[STAGES.length][STAGES.length];
+    private final int[] stayCounts = new int[STAGES.length];
+    /** For each stage, the number of completed stays of each length in hours. */
+    private final List<TreeMap<Long, Integer>> stayHours = newStayHours();
+
+    private static List<TreeMap<Long, Integer>> newStayHours() {
+        List<TreeMap<Long, Integer>> stayHours = new ArrayList<>(STAGES.length);
+        for (int i = 0; i < STAGES.length; i++) {
+            stayHours.add(new TreeMap<>());
+        }
+        return stayHours;
+    }
+
+    /**
+     * Returns the number of companies that are, or have been, at {@code stage}.
+     */
+    public int getReachedCount(Status.Stage stage) {
+        requireNonNull(stage);
+        return reachedCounts[stage.ordinal()];
+    }
+
+    /**
+     * Returns the number of times a company moved from {@code from} directly to {@code to}.
+     */
+    public int getTransitionCount(Status.Stage from, Status.Stage to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return transitionCounts[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Returns the fraction of the companies that reached {@code stage} that then moved directly on to a later
+     * stage other than {@code REJECTED}, or 0 if no company reached {@code stage}.
+     */
+    public double getAdvanceRate(Status.Stage stage) {
+        requireNonNull(stage);
+        int reached = reachedCounts[stage.ordinal()];
+        if (reached == 0) {
+            return 0;
+        }
+        int advanced = 0;
+        for (int to = stage.ordinal() + 1; to < STAGES.length; to++) {
+            if (STAGES[to] != Status.Stage.REJECTED) {
+                advanced += transitionCounts[stage.ordinal()][to];
+            }
+        }
+        return Math.min(1, (double) advanced / reached);
+    }
+
+    /**
+     * Returns the number of completed stays at {@code stage} whose length is known.
+     */
+    public int getStayCount(Status.Stage stage) {
+        requireNonNull(stage);
+        return stayCounts[stage.ordinal()];
+    }
+
+    /**
+     * Returns the median length in days of the completed stays at {@code stage}, or an empty value if no stay's
+     * length is known. Of two middle stays, the shorter one is taken.
+     */
+    public OptionalDouble getMedianDaysIn(Status.Stage stage) {
+        requireNonNull(stage);
+        int count = stayCounts[stage.ordinal()];
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+        int remaining = (count - 1) / 2;
+        for (Map.Entry<Long, Integer> bucket : stayHours.get(stage.ordinal()).entrySet()) {
+            remaining -= bucket.getValue();
+            if (remaining < 0) {
+                return OptionalDouble.of(bucket.getKey() / HOURS_PER_DAY);
+            }
+        }
+        throw new IllegalStateException("Stay counts do not match the stays recorded");
+    }
+
+    /**
+     * Adds the status history of {@code company} to the statistics.
+     */
+    void add(Company company) {
+        update(company, 1);
+    }
+
+    /**
+     * Removes the status history of {@code company}, which must have been added, from the statistics.
+     */
+    void remove(Company company) {
+        update(company, -1);
+    }
+
+    /**
+     * Removes every company from the statistics.
+     */
+    void clear() {
+        Arrays.fill(reachedCounts, 0);
+        for (int[] row : transitionCounts) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(stayCounts, 0);
+        for (TreeMap<Long, Integer> hours : stayHours) {
+            hours.clear();
+        }
+    }
+
+    private void update(Company company, int delta) {
+        StatusHistory history = company.getStatusHistory();
+        int reachedStages = 1 << company.getStatus().value.ordinal();
+        for (int i = 0; i < history.size(); i++) {
+            int stage = history.getStage(i).ordinal();
+            reachedStages |= 1 << stage;
+            if (i == 0) {
+                continue;
+            }
+            int previousStage = history.getStage(i - 1).ordinal();
+            transitionCounts[previousStage][stage] += delta;
+            long start = history.getEpochSecond(i - 1);
+            long end = history.getEpochSecond(i);
+            if (start != StatusHistory.UNKNOWN_TIME && end >= start) {
+                stayCounts[previousStage] += delta;
+                long hours = (end - start) / SECONDS_PER_HOUR;
+                stayHours.get(previousStage).merge(hours, delta, PipelineFunnel::addStays);
+            }
+        }
+        for (int stage = 0; stage < STAGES.length; stage++) {
+            if ((reachedStages & (1 << stage)) != 0) {
+                reachedCounts[stage] += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of stays of a length after {@code change} more, or null to drop the length once none
+     * are left.
+     */
+    private static Integer addStays(int count, int change) {
+        return count + change == 0 ? null : count + change;
+    }
+}
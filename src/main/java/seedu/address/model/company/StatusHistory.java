@@ -0,0 +1,117 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The stages a company has been at, oldest first, each with the time it entered the stage in epoch seconds.
+ * Each entry is packed into a single {@code long}, the time shifted above the stage ordinal, so a company's
+ * history costs 8 bytes per status change. Immutable.
+ */
+public class StatusHistory {
+
+    /** The time of an entry whose time is not known, such as a company's status before its history was kept. */
+    public static final long UNKNOWN_TIME = -1;
+
+    public static final StatusHistory EMPTY = new StatusHistory(new long[0]);
+
+    private static final int STAGE_BITS = 4;
+    private static final long STAGE_MASK = (1L << STAGE_BITS) - 1;
+    private static final Status.Stage[] STAGES = Status.Stage.values();
+
+    static {
+        assert STAGES.length <= STAGE_MASK + 1 : "Stage ordinals must fit in " + STAGE_BITS + " bits";
+    }
+
+    private final long[] entries;
+
+    private StatusHistory(long[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns a copy of this history with an entry for entering {@code stage} at {@code epochSecond}, which must
+     * be {@link #UNKNOWN_TIME} or not negative.
+     */
+    public StatusHistory withEntry(Status.Stage stage, long epochSecond) {
+        requireNonNull(stage);
+        checkArgument(epochSecond >= UNKNOWN_TIME, "Time must be UNKNOWN_TIME or not negative");
+        long[] extended = Arrays.copyOf(entries, entries.length + 1);
+        extended[entries.length] = (epochSecond << STAGE_BITS) | stage.ordinal();
+        return new StatusHistory(extended);
+    }
+
+    /**
+     * Returns the history after {@code company} moves to {@code stage} at {@code epochSecond}. A company without
+     * a history first gets an entry for its current stage, at an unknown time. The history is unchanged if the
+     * company is already at {@code stage}.
+     */
+    public static StatusHistory afterChange(Company company, Status.Stage stage, long epochSecond) {
+        requireNonNull(company);
+        Status.Stage current = company.getStatus().value;
+        StatusHistory history = company.getStatusHistory();
+        if (current == stage) {
+            return history;
+        }
+        if (history.isEmpty()) {
+            history = history.withEntry(current, UNKNOWN_TIME);
+        }
+        return history.withEntry(stage, epochSecond);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Returns the stage entered by the entry at {@code index}.
+     */
+    public Status.Stage getStage(int index) {
+        return STAGES[(int) (entries[index] & STAGE_MASK)];
+    }
+
+    /**
+     * Returns the time in epoch seconds of the entry at {@code index}, or {@link #UNKNOWN_TIME}.
+     */
+    public long getEpochSecond(int index) {
+        return entries[index] >> STAGE_BITS;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatusHistory)) {
+            return false;
+        }
+
+        StatusHistory otherHistory = (StatusHistory) other;
+        return Arrays.equals(entries, otherHistory.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder entryList = new StringBuilder("[");
+        for (int i = 0; i < entries.length; i++) {
+            entryList.append(i == 0 ? "" : ", ").append(Status.toUserInputString(getStage(i))).append('@')
+                    .append(getEpochSecond(i) == UNKNOWN_TIME ? "?" : String.valueOf(getEpochSecond(i)));
+        }
+        return new ToStringBuilder(this).add("entries", entryList.append(']')).toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Company} has the given {@code Status}.
+ */
+public class StatusPredicate implements IndexedPredicate {
+    private final Status status;
+
+    /**
+     * Creates a predicate matching companies with {@code status}.
+     */
+    public StatusPredicate(Status status) {
+        requireNonNull(status);
+        this.status = status;
+    }
+
+    @Override
+    public boolean test(Company company) {
+        return company.getStatus().equals(status);
+    }
+
+    @Override
+    public Optional<Set<Company>> candidates(CompanyIndex index) {
+        return Optional.of(index.getByStatus(status.value));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatusPredicate)) {
+            return false;
+        }
+
+        StatusPredicate otherStatusPredicate = (StatusPredicate) other;
+        return status.equals(otherStatusPredicate.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return status.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("status", status).toString();
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.zip.CRC32;
+
+/**
+ * An inverted index over the remark and address of every company, ranking matches with Okapi BM25.
+ * Text is split into runs of letters and digits and case-folded, so {@code "System-Design"} is indexed as
+ * {@code system} and {@code design}.
+ * The index is updated incrementally as companies are added and removed, and can be exported to and restored
+ * from a {@link Snapshot} so that it does not have to be rebuilt from the text every time the app starts.
+ */
+public class TextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<Match> BEST_FIRST = Comparator.comparingDouble(Match::getScore).reversed()
+            .thenComparing(match -> match.getCompany().getName().fullName);
+
+    private final Map<String, Map<Company, Integer>> postings = new HashMap<>();
+    private final Map<Company, Integer> documentLengths = new IdentityHashMap<>();
+    private long totalLength;
+    private boolean isModified;
+
+    /**
+     * Returns the case-folded words of {@code text}, or an empty list if {@code text} is null.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the words of the text of {@code company} that is indexed.
+     */
+    public static List<String> tokensOf(Company company) {
+        List<String> tokens = tokenize(company.getRemark().value);
+        tokens.addAll(tokenize(company.getAddress().value));
+        return tokens;
+    }
+
+    /**
+     * Returns a checksum of the indexed text of {@code companies}, in order, used to tell whether a
+     * {@link Snapshot} still describes them.
+     */
+    public static String fingerprintOf(List<Company> companies) {
+        CRC32 checksum = new CRC32();
+        for (Company company : companies) {
+            String text = company.getRemark().value + "\u0000" + company.getAddress().value + "\u0001";
+            checksum.update(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return companies.size() + "-" + Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * Indexes the text of {@code company}.
+     */
+    void add(Company company) {
+        List<String> tokens = tokensOf(company);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, unused -> new IdentityHashMap<>()).merge(company, 1, Integer::sum);
+        }
+        documentLengths.put(company, tokens.size());
+        totalLength += tokens.size();
+        isModified = true;
+    }
+
+    /**
+     * Removes {@code company}, which must be the instance that was indexed.
+     */
+    void remove(Company company) {
+        Integer length = documentLengths.remove(company);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        isModified = true;
+        for (String token : new LinkedHashSet<>(tokensOf(company))) {
+            Map<Company, Integer> companies = postings.get(token);
+            if (companies == null) {
+                continue;
+            }
+            companies.remove(company);
+            if (companies.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns true if companies have been indexed or removed since this index was restored from a
+     * {@link Snapshot}, or ever if it was built from the companies.
+     */
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Returns the number of indexed companies.
+     */
+    public int size() {
+        return documentLengths.size();
+    }
+
+    /**
+     * Returns the at most {@code limit} companies whose text best matches {@code query}, best match first.
+     * Companies that contain none of the words of {@code query} are never returned.
+     */
+    public List<Match> search(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit > 0, "Limit must be positive");
+
+        Map<Company, Double> scores = new IdentityHashMap<>();
+        double averageLength = documentLengths.isEmpty() ? 0 : (double) totalLength / documentLengths.size();
+        for (String token : new LinkedHashSet<>(tokenize(query))) {
+            Map<Company, Integer> companies = postings.get(token);
+            if (companies == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentLengths.size() - companies.size() + 0.5) / (companies.size() + 0.5));
+            companies.forEach((company, frequency) -> {
+                double lengthRatio = averageLength == 0 ? 1 : documentLengths.get(company) / averageLength;
+                double weight = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(company, idf * weight, Double::sum);
+            });
+        }
+
+        // Bounded min-heap: the root is the worst of the best {@code limit} matches seen so far
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        scores.forEach((company, score) -> {
+            best.add(new Match(company, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    /**
+     * Returns a snapshot of this index in which companies are identified by their position in {@code companies},
+     * which must contain every indexed company.
+     */
+    public Snapshot toSnapshot(List<Company> companies) {
+        Map<Company, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < companies.size(); i++) {
+            positions.put(companies.get(i), i);
+        }
+        checkArgument(positions.keySet().containsAll(documentLengths.keySet()), "Every company must be listed");
+
+        int[] lengths = new int[companies.size()];
+        documentLengths.forEach((company, length) -> lengths[positions.get(company)] = length);
+        Map<String, int[]> flatPostings = new HashMap<>();
+        postings.forEach((token, frequencies) -> {
+            int[] flat = new int[frequencies.size() * 2];
+            int i = 0;
+            for (Map.Entry<Company, Integer> entry : frequencies.entrySet()) {
+                flat[i++] = positions.get(entry.getKey());
+                flat[i++] = entry.getValue();
+            }
+            flatPostings.put(token, flat);
+        });
+        return new Snapshot(fingerprintOf(companies), lengths, flatPostings);
+    }
+
+    /**
+     * Restores the index described by {@code snapshot} over {@code companies}.
+     *
+     * @throws IllegalArgumentException if {@code snapshot} does not describe {@code companies}.
+     */
+    public static TextIndex fromSnapshot(Snapshot snapshot, List<Company> companies) {
+        requireNonNull(snapshot);
+        checkArgument(snapshot.getFingerprint().equals(fingerprintOf(companies)), "Snapshot is out of date");
+        checkArgument(snapshot.getDocumentLengths().length == companies.size(), "Snapshot is out of date");
+
+        TextIndex index = new TextIndex();
+        int[] lengths = snapshot.getDocumentLengths();
+        for (int i = 0; i < lengths.length; i++) {
+            index.documentLengths.put(companies.get(i), lengths[i]);
+            index.totalLength += lengths[i];
+        }
+        snapshot.getPostings().forEach((token, flat) -> {
+            checkArgument(flat.length % 2 == 0, "Malformed postings for " + token);
+            Map<Company, Integer> frequencies = new IdentityHashMap<>();
+            for (int i = 0; i < flat.length; i += 2) {
+                checkArgument(flat[i] >= 0 && flat[i] < companies.size(), "Malformed postings for " + token);
+                frequencies.put(companies.get(flat[i]), flat[i + 1]);
+            }
+            index.postings.put(token, frequencies);
+        });
+        return index;
+    }
+
+    /**
+     * A company together with how well it matched a query.
+     */
+    public static class Match {
+        private final Company company;
+        private final double score;
+
+        /**
+         * Creates a match of {@code company} with relevance {@code score}.
+         */
+        public Match(Company company, double score) {
+            this.company = company;
+            this.score = score;
+        }
+
+        public Company getCompany() {
+            return company;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * A storable copy of a {@code TextIndex}, in which companies are identified by their position in the list.
+     * Each posting list holds alternating (position, term frequency) pairs.
+     */
+    public static class Snapshot {
+        private final String fingerprint;
+        private final int[] documentLengths;
+        private final Map<String, int[]> postings;
+
+        /**
+         * Creates a snapshot with the given contents.
+         */
+        public Snapshot(String fingerprint, int[] documentLengths, Map<String, int[]> postings) {
+            requireNonNull(fingerprint);
+            requireNonNull(documentLengths);
+            requireNonNull(postings);
+            this.fingerprint = fingerprint;
+            this.documentLengths = documentLengths;
+            this.postings = Collections.unmodifiableMap(postings);
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public int[] getDocumentLengths() {
+            return documentLengths;
+        }
+
+        public Map<String, int[]> getPostings() {
+            return postings;
+        }
+    }
+}
@@ -3,11 +3,16 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
 
@@ -21,6 +26,11 @@ import seedu.address.model.company.exceptions.DuplicateCompanyException;
  *
  * Supports a minimal set of list operations.
  *
+ * <p>The list is changed and observed on the JavaFX application thread only. Other threads read it through
+ * {@link #getSnapshot()}. Alongside the observable list, the companies are kept in a {@link PersistentList},
+ * which every change replaces with an updated copy sharing all but O(log n) of its structure, so taking a
+ * snapshot costs O(1) and needs no lock.
+ *
  * @see Company#isSameCompany(Company)
  */
 public class UniqueCompanyList implements Iterable<Company> {
@@ -28,13 +38,18 @@ public class UniqueCompanyList implements Iterable<Company> {
     private final ObservableList<Company> internalList = FXCollections.observableArrayList();
     private final ObservableList<Company> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final CompanyIndex index = new CompanyIndex();
+
+    // The companies of internalList, replaced before internalList notifies its listeners of each change
+    private volatile CompanyListSnapshot snapshot = new CompanyListSnapshot(PersistentList.empty(), 0);
 
     /**
      * Returns true if the list contains an equivalent company as the given argument.
      */
     public boolean contains(Company toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCompany);
+        // Companies are the same company exactly when their names are equal
+        return index.getByName(toCheck.getName()).isPresent();
     }
 
     /**
@@ -46,6 +61,8 @@ public class UniqueCompanyList implements Iterable<Company> {
         if (contains(toAdd)) {
             throw new DuplicateCompanyException();
         }
+        index.add(toAdd);
+        publish(companies -> companies.plus(toAdd));
         internalList.add(toAdd);
     }
 
@@ -57,8 +74,8 @@ public class UniqueCompanyList implements Iterable<Company> {
     public void setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = internalList.indexOf(target);
+        if (position == -1) {
             throw new CompanyNotFoundException();
         }
 
@@ -66,7 +83,10 @@ public class UniqueCompanyList implements Iterable<Company> {
             throw new DuplicateCompanyException();
         }
 
-        internalList.set(index, editedCompany);
+        index.remove(internalList.get(position));
+        index.add(editedCompany);
+        publish(companies -> companies.with(position, editedCompany));
+        internalList.set(position, editedCompany);
     }
 
     /**
@@ -75,13 +95,53 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public void remove(Company toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = internalList.indexOf(toRemove);
+        if (position == -1) {
             throw new CompanyNotFoundException();
         }
+        index.remove(internalList.get(position));
+        publish(companies -> companies.minus(position));
+        internalList.remove(position);
+    }
+
+    /**
+     * Replaces the companies from position {@code from} to position {@code to}, exclusive, with {@code companies},
+     * in O(k log n) time for k companies replaced or inserted, as no company has to be searched for.
+     * The companies must not be the same company as each other or as a company outside the replaced range.
+     */
+    public void replaceRange(int from, int to, List<Company> companies) {
+        requireAllNonNull(companies);
+        Objects.checkFromToIndex(from, to, internalList.size());
+        List<Company> replaced = internalList.subList(from, to);
+        Set<Name> replacedNames = new HashSet<>();
+        replaced.forEach(company -> replacedNames.add(company.getName()));
+        Set<Name> names = new HashSet<>();
+        for (Company company : companies) {
+            if (!names.add(company.getName())
+                    || (!replacedNames.contains(company.getName()) && contains(company))) {
+                throw new DuplicateCompanyException();
+            }
+        }
+
+        replaced.forEach(index::remove);
+        companies.forEach(index::add);
+        if (from == 0 && to == internalList.size()) {
+            publish(unused -> PersistentList.copyOf(companies));
+            internalList.setAll(companies);
+        } else if (to - from == 1 && companies.size() == 1) {
+            publish(list -> list.with(from, companies.get(0)));
+            internalList.set(from, companies.get(0));
+        } else {
+            publish(list -> splice(list, from, to, companies));
+            internalList.remove(from, to);
+            internalList.addAll(from, companies);
+        }
     }
 
     public void setCompanies(UniqueCompanyList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
+        publish(unused -> replacement.snapshot.getPersistentCompanies());
         internalList.setAll(replacement.internalList);
     }
 
@@ -95,6 +155,8 @@ public class UniqueCompanyList implements Iterable<Company> {
             throw new DuplicateCompanyException();
         }
 
+        reindex(companies);
+        publish(unused -> PersistentList.copyOf(companies));
         internalList.setAll(companies);
     }
 
@@ -105,6 +167,20 @@ public class UniqueCompanyList implements Iterable<Company> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a snapshot of the companies in this list in O(1). Safe to call from any thread.
+     */
+    public CompanyListSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the secondary indexes over the companies in this list.
+     */
+    public CompanyIndex getIndex() {
+        return index;
+    }
+
     @Override
     public Iterator<Company> iterator() {
         return internalList.iterator();
@@ -135,15 +211,39 @@ public class UniqueCompanyList implements Iterable<Company> {
         return internalList.toString();
     }
 
+    /**
+     * Replaces the snapshot with one of the companies returned by {@code change} from those of the current one.
+     */
+    private void publish(UnaryOperator<PersistentList<Company>> change) {
+        CompanyListSnapshot current = snapshot;
+        snapshot = new CompanyListSnapshot(change.apply(current.getPersistentCompanies()), current.getVersion() + 1);
+    }
+
+    private static PersistentList<Company> splice(PersistentList<Company> list, int from, int to,
+            List<Company> companies) {
+        for (int i = from; i < to; i++) {
+            list = list.minus(from);
+        }
+        for (int i = 0; i < companies.size(); i++) {
+            list = list.plus(from + i, companies.get(i));
+        }
+        return list;
+    }
+
+    private void reindex(List<Company> companies) {
+        index.clear();
+        companies.forEach(index::add);
+    }
+
     /**
      * Returns true if {@code companies} contains only unique companies.
      */
     private boolean companiesAreUnique(List<Company> companies) {
-        for (int i = 0; i < companies.size() - 1; i++) {
-            for (int j = i + 1; j < companies.size(); j++) {
-                if (companies.get(i).isSameCompany(companies.get(j))) {
-                    return false;
-                }
+        // Companies are the same company exactly when their names are equal
+        Set<Name> names = new HashSet<>(companies.size() * 2);
+        for (Company company : companies) {
+            if (!names.add(company.getName())) {
+                return false;
             }
         }
         return true;
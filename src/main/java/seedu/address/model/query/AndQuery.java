@@ -0,0 +1,73 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+
+/**
+ * A query that matches companies satisfying all of its operands.
+ * Its plan reads the smallest candidate set among the operands and verifies the rest per candidate.
+ */
+public class AndQuery implements Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a conjunction of {@code operands}, which must not be empty.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(!operands.isEmpty(), "A conjunction needs at least one operand");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean matches(Company company) {
+        return operands.stream().allMatch(operand -> operand.matches(company));
+    }
+
+    @Override
+    public QueryPlan plan(CompanyIndex index) {
+        QueryPlan best = null;
+        for (Query operand : operands) {
+            QueryPlan plan = operand.plan(index);
+            if (best == null || plan.getCost() < best.getCost()) {
+                best = plan;
+            }
+        }
+        if (best.isScan()) {
+            return QueryPlan.scan("scan(" + this + ")");
+        }
+        return QueryPlan.lookup(best.getCandidates().get(), best.getDescription() + " -> verify(" + this + ")");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherQuery = (AndQuery) other;
+        return operands.equals(otherQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
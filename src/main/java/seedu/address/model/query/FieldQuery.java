@@ -0,0 +1,115 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+import seedu.address.model.company.Status;
+
+/**
+ * A query term that matches a single field of a company against a value.
+ * Status, tag, email domain and phone terms are answered from the {@link CompanyIndex};
+ * name and remark terms are case-insensitive substring matches that require a scan.
+ */
+public class FieldQuery implements Query {
+
+    /**
+     * The company fields that can be queried.
+     */
+    public enum Field {
+        NAME,
+        STATUS,
+        TAG,
+        REMARK,
+        EMAIL,
+        PHONE
+    }
+
+    private final Field field;
+    private final String value;
+    private final Status.Stage stage;
+
+    /**
+     * Creates a term matching {@code field} against {@code value}.
+     *
+     * @throws seedu.address.model.company.exceptions.UnsupportedStatusException if {@code field} is
+     *         {@code STATUS} and {@code value} is not a valid status.
+     */
+    public FieldQuery(Field field, String value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        this.field = field;
+        this.value = value;
+        this.stage = field == Field.STATUS ? Status.ofUserInput(value) : null;
+    }
+
+    @Override
+    public boolean matches(Company company) {
+        switch (field) {
+        case NAME:
+            return containsIgnoreCase(company.getName().fullName, value);
+        case STATUS:
+            return company.getStatus().value == stage;
+        case TAG:
+            String tag = CompanyIndex.normalizeTag(value);
+            return company.getTags().stream().anyMatch(t -> CompanyIndex.normalizeTag(t.tagName).equals(tag));
+        case REMARK:
+            return containsIgnoreCase(company.getRemark().value, value);
+        case EMAIL:
+            return CompanyIndex.normalizeDomain(value).equals(CompanyIndex.emailDomainOf(company.getEmail().value));
+        case PHONE:
+            return company.getPhone().value != null
+                    && CompanyIndex.normalizePhone(value).equals(CompanyIndex.normalizePhone(company.getPhone().value));
+        default:
+            throw new IllegalStateException("Unhandled field: " + field);
+        }
+    }
+
+    @Override
+    public QueryPlan plan(CompanyIndex index) {
+        switch (field) {
+        case STATUS:
+            return QueryPlan.lookup(index.getByStatus(stage), "index(status=" + value + ")");
+        case TAG:
+            return QueryPlan.lookup(index.getByTag(value), "index(tag=" + value + ")");
+        case EMAIL:
+            return QueryPlan.lookup(index.getByEmailDomain(value), "index(email=" + value + ")");
+        case PHONE:
+            return QueryPlan.lookup(index.getByPhone(value), "index(phone=" + value + ")");
+        default:
+            return QueryPlan.scan("scan(" + this + ")");
+        }
+    }
+
+    private static boolean containsIgnoreCase(String text, String fragment) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherQuery = (FieldQuery) other;
+        return field == otherQuery.field && value.equals(otherQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value);
+    }
+
+    @Override
+    public String toString() {
+        return field.name().toLowerCase(Locale.ROOT) + ":" + value;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+
+/**
+ * A query that matches companies that do not satisfy its operand.
+ * A negation cannot be answered from the index on its own, so it is always verified per company.
+ */
+public class NotQuery implements Query {
+
+    private final Query operand;
+
+    /**
+     * Creates the negation of {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean matches(Company company) {
+        return !operand.matches(company);
+    }
+
+    @Override
+    public QueryPlan plan(CompanyIndex index) {
+        return QueryPlan.scan("scan(" + this + ")");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherQuery = (NotQuery) other;
+        return operand.equals(otherQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode() ^ 1;
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+
+/**
+ * A query that matches companies satisfying any of its operands.
+ * Its plan is the union of the operands' candidate sets, and falls back to a scan if any operand needs one.
+ */
+public class OrQuery implements Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a disjunction of {@code operands}, which must not be empty.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(!operands.isEmpty(), "A disjunction needs at least one operand");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean matches(Company company) {
+        return operands.stream().anyMatch(operand -> operand.matches(company));
+    }
+
+    @Override
+    public QueryPlan plan(CompanyIndex index) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (Query operand : operands) {
+            QueryPlan plan = operand.plan(index);
+            if (plan.isScan()) {
+                return QueryPlan.scan("scan(" + this + ")");
+            }
+            plans.add(plan);
+        }
+
+        Set<Company> union = Collections.newSetFromMap(new IdentityHashMap<>());
+        plans.forEach(plan -> union.addAll(plan.getCandidates().get()));
+        return QueryPlan.lookup(union, plans.stream().map(QueryPlan::getDescription)
+                .collect(Collectors.joining(" + ", "union(", ")")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherQuery = (OrQuery) other;
+        return operands.equals(otherQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.model.query;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+
+/**
+ * A node of a compiled company query.
+ */
+public interface Query {
+
+    /**
+     * Returns true if {@code company} satisfies this query.
+     */
+    boolean matches(Company company);
+
+    /**
+     * Returns the cheapest way of finding the companies in {@code index} that may satisfy this query.
+     */
+    QueryPlan plan(CompanyIndex index);
+}
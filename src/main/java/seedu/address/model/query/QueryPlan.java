@@ -0,0 +1,67 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.company.Company;
+
+/**
+ * Describes how the candidates of a {@link Query} are found: either by an index lookup that yields a
+ * (possibly over-approximated) candidate set, or by scanning every company.
+ */
+public class QueryPlan {
+
+    private final Set<Company> candidates;
+    private final String description;
+
+    private QueryPlan(Set<Company> candidates, String description) {
+        this.candidates = candidates;
+        this.description = description;
+    }
+
+    /**
+     * Returns a plan that reads {@code candidates} from an index.
+     */
+    public static QueryPlan lookup(Set<Company> candidates, String description) {
+        requireNonNull(candidates);
+        requireNonNull(description);
+        return new QueryPlan(candidates, description);
+    }
+
+    /**
+     * Returns a plan that tests every company.
+     */
+    public static QueryPlan scan(String description) {
+        requireNonNull(description);
+        return new QueryPlan(null, description);
+    }
+
+    /**
+     * Returns the candidate set, or an empty {@code Optional} if this plan is a full scan.
+     */
+    public Optional<Set<Company>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    public boolean isScan() {
+        return candidates == null;
+    }
+
+    /**
+     * Returns the number of candidates this plan yields, or {@code Integer.MAX_VALUE} for a full scan.
+     */
+    public int getCost() {
+        return candidates == null ? Integer.MAX_VALUE : candidates.size();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
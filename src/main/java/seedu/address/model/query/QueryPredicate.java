@@ -0,0 +1,69 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyIndex;
+import seedu.address.model.company.IndexedPredicate;
+
+/**
+ * Tests that a {@code Company} satisfies a compiled {@link Query}.
+ */
+public class QueryPredicate implements IndexedPredicate {
+
+    private final Query query;
+
+    /**
+     * Creates a predicate for {@code query}.
+     */
+    public QueryPredicate(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Company company) {
+        return query.matches(company);
+    }
+
+    @Override
+    public Optional<Set<Company>> candidates(CompanyIndex index) {
+        return query.plan(index).getCandidates();
+    }
+
+    /**
+     * Returns the execution plan of the query against {@code index}.
+     */
+    public QueryPlan plan(CompanyIndex index) {
+        return query.plan(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPredicate)) {
+            return false;
+        }
+
+        QueryPredicate otherPredicate = (QueryPredicate) other;
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
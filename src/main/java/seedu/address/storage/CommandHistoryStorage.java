@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the history of executed commands.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the most recent {@code limit} commands, oldest first.
+     * Returns an empty list if the storage file is not found.
+     *
+     * @throws IOException if there was any problem reading from the file.
+     */
+    List<String> readCommandHistory(int limit) throws IOException;
+
+    /**
+     * Appends {@code command} to the stored history.
+     * @param command cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToCommandHistory(String command) throws IOException;
+
+    /**
+     * Rewrites the stored history to only its most recent {@code limit} commands.
+     * Does nothing if the storage file is not found.
+     *
+     * @throws IOException if there was any problem reading from or writing to the file.
+     */
+    void compactCommandHistory(int limit) throws IOException;
+
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -17,6 +18,7 @@ import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
 import seedu.address.model.company.Remark;
 import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
 import seedu.address.model.company.exceptions.UnsupportedStatusException;
 import seedu.address.model.tag.Tag;
 
@@ -26,6 +28,10 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedCompany {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Company's %s field is missing!";
+    public static final String INVALID_STATUS_HISTORY_MESSAGE = "Company's status history entries must be a status,"
+            + " optionally followed by @ and the time it was entered in epoch seconds";
+
+    private static final char STATUS_HISTORY_TIME_SEPARATOR = '@';
 
     private final String name;
     private final String phone;
@@ -34,6 +40,16 @@ class JsonAdaptedCompany {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final String remark;
     private final String status;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> statusHistory = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedCompany} with the given company details and no status history.
+     */
+    public JsonAdaptedCompany(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+                              String remark, String status) {
+        this(name, phone, email, address, tags, remark, status, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedCompany} with the given company details.
@@ -42,7 +58,8 @@ class JsonAdaptedCompany {
     public JsonAdaptedCompany(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email, @JsonProperty("address") String address,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("remark") String remark,
-                              @JsonProperty("status") String status) {
+                              @JsonProperty("status") String status,
+                              @JsonProperty("statusHistory") List<String> statusHistory) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -52,6 +69,9 @@ class JsonAdaptedCompany {
         }
         this.remark = remark;
         this.status = status;
+        if (statusHistory != null) {
+            this.statusHistory.addAll(statusHistory);
+        }
     }
 
     /**
@@ -67,6 +87,13 @@ class JsonAdaptedCompany {
                 .collect(Collectors.toList()));
         remark = source.getRemark() != null ? source.getRemark().value : null;
         status = source.getStatus().toStorageValue();
+        StatusHistory history = source.getStatusHistory();
+        for (int i = 0; i < history.size(); i++) {
+            String stage = Status.toStorageValue(history.getStage(i));
+            long epochSecond = history.getEpochSecond(i);
+            statusHistory.add(epochSecond == StatusHistory.UNKNOWN_TIME ? stage
+                    : stage + STATUS_HISTORY_TIME_SEPARATOR + epochSecond);
+        }
     }
 
     /**
@@ -127,7 +154,36 @@ class JsonAdaptedCompany {
             }
         }
 
-        return new Company(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelRemark, modelStatus);
+        return new Company(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelRemark, modelStatus,
+                toModelStatusHistory());
+    }
+
+    /**
+     * Converts the entries of the status history, each a status optionally followed by {@code @} and the time the
+     * status was entered in epoch seconds, into the model's {@code StatusHistory}.
+     *
+     * @throws IllegalValueException if an entry is not in that form.
+     */
+    private StatusHistory toModelStatusHistory() throws IllegalValueException {
+        StatusHistory history = StatusHistory.EMPTY;
+        for (String entry : statusHistory) {
+            if (entry == null) {
+                throw new IllegalValueException(INVALID_STATUS_HISTORY_MESSAGE);
+            }
+            int separator = entry.indexOf(STATUS_HISTORY_TIME_SEPARATOR);
+            String stage = separator < 0 ? entry : entry.substring(0, separator);
+            try {
+                long epochSecond = separator < 0 ? StatusHistory.UNKNOWN_TIME
+                        : Long.parseLong(entry.substring(separator + 1));
+                if (epochSecond < 0 && separator >= 0) {
+                    throw new IllegalValueException(INVALID_STATUS_HISTORY_MESSAGE);
+                }
+                history = history.withEntry(Status.fromStorage(stage), epochSecond);
+            } catch (NumberFormatException | UnsupportedStatusException e) {
+                throw new IllegalValueException(INVALID_STATUS_HISTORY_MESSAGE);
+            }
+        }
+        return history;
     }
 
 }
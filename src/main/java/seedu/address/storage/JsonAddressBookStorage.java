@@ -10,8 +10,12 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.DataLoadEvent;
+import seedu.address.commons.jfr.JsonSerializeEvent;
+import seedu.address.commons.jfr.JsonWriteEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -45,17 +49,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        DataLoadEvent event = new DataLoadEvent();
+        event.setPath(filePath.toString());
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = jsonAddressBook.get().toModelType();
+            event.setCompanyCount(addressBook.getCompanyList().size());
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            event.commit();
         }
     }
 
@@ -74,7 +85,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+
+        JsonSerializeEvent serializeEvent = new JsonSerializeEvent();
+        serializeEvent.begin();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        serializeEvent.setCompanyCount(addressBook.getCompanyList().size());
+        serializeEvent.setCharacters(json.length());
+        serializeEvent.commit();
+
+        JsonWriteEvent writeEvent = new JsonWriteEvent();
+        writeEvent.setPath(filePath.toString());
+        writeEvent.begin();
+        byte[] bytes = FileUtil.toBytes(json);
+        FileUtil.writeToFile(filePath, bytes);
+        writeEvent.setBytesWritten(bytes.length);
+        writeEvent.commit();
     }
 
 }
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.company.TextIndex;
+
+/**
+ * An Immutable text index snapshot that is serializable to JSON format.
+ */
+@JsonRootName(value = "textindex")
+class JsonSerializableTextIndex {
+
+    public static final String MESSAGE_MISSING_FIELD = "Text index is missing its %s.";
+
+    private final String fingerprint;
+    private final int[] documentLengths;
+    private final Map<String, int[]> postings = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableTextIndex} with the given contents.
+     */
+    @JsonCreator
+    public JsonSerializableTextIndex(@JsonProperty("fingerprint") String fingerprint,
+            @JsonProperty("documentLengths") int[] documentLengths,
+            @JsonProperty("postings") Map<String, int[]> postings) {
+        this.fingerprint = fingerprint;
+        this.documentLengths = documentLengths;
+        if (postings != null) {
+            this.postings.putAll(postings);
+        }
+    }
+
+    /**
+     * Converts a given {@code TextIndex.Snapshot} into this class for Jackson use.
+     */
+    public JsonSerializableTextIndex(TextIndex.Snapshot source) {
+        fingerprint = source.getFingerprint();
+        documentLengths = source.getDocumentLengths();
+        postings.putAll(source.getPostings());
+    }
+
+    /**
+     * Converts this object into the model's {@code TextIndex.Snapshot}.
+     *
+     * @throws IllegalValueException if a required field is missing.
+     */
+    public TextIndex.Snapshot toModelType() throws IllegalValueException {
+        if (fingerprint == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "fingerprint"));
+        }
+        if (documentLengths == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "document lengths"));
+        }
+        return new TextIndex.Snapshot(fingerprint, documentLengths, new HashMap<>(postings));
+    }
+
+}
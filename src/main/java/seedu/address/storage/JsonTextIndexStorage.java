@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.company.TextIndex;
+
+/**
+ * A class to access text index snapshots stored as a json file on the hard disk.
+ */
+public class JsonTextIndexStorage implements TextIndexStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTextIndexStorage.class);
+    private static final String SUFFIX = ".textindex.json";
+
+    private final Path filePath;
+
+    public JsonTextIndexStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the text index file kept next to the data file at {@code addressBookFilePath},
+     * e.g. {@code data/addressbook.textindex.json} for {@code data/addressbook.json}.
+     */
+    public static Path pathNextTo(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + SUFFIX);
+    }
+
+    @Override
+    public Path getTextIndexFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<TextIndex.Snapshot> readTextIndex() throws DataLoadingException {
+        Optional<JsonSerializableTextIndex> jsonTextIndex = JsonUtil.readJsonFile(
+                filePath, JsonSerializableTextIndex.class);
+        if (!jsonTextIndex.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonTextIndex.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveTextIndex(TextIndex.Snapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTextIndex(snapshot), filePath);
+    }
+
+}
@@ -12,7 +12,8 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, TextIndexStorage,
+        CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the time the last successful save of the address book took, in nanoseconds, or 0 if the address
+     * book has not been saved yet.
+     */
+    long getLastSaveNanos();
+
+    /**
+     * Returns the size of the data file after the last successful save of the address book, in bytes, or 0 if the
+     * address book has not been saved yet.
+     */
+    long getLastSaveBytes();
+
 }
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.company.TextIndex;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +22,40 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private TextIndexStorage textIndexStorage;
+    private CommandHistoryStorage commandHistoryStorage;
+    private volatile long lastSaveNanos;
+    private volatile long lastSaveBytes;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * The text index and the command history are stored next to the address book data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage,
+                new JsonTextIndexStorage(JsonTextIndexStorage.pathNextTo(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code TextIndexStorage}. The command history is stored next to the address book data file.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            TextIndexStorage textIndexStorage) {
+        this(addressBookStorage, userPrefsStorage, textIndexStorage, new TextCommandHistoryStorage(
+                TextCommandHistoryStorage.pathNextTo(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage},
+     * {@code TextIndexStorage} and {@code CommandHistoryStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            TextIndexStorage textIndexStorage, CommandHistoryStorage commandHistoryStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.textIndexStorage = textIndexStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,7 +90,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -71,8 +101,64 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        lastSaveNanos = System.nanoTime() - start;
+        lastSaveBytes = Files.size(filePath);
+    }
+
+    @Override
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    // ================ TextIndex methods ==============================
+
+    @Override
+    public Path getTextIndexFilePath() {
+        return textIndexStorage.getTextIndexFilePath();
+    }
+
+    @Override
+    public Optional<TextIndex.Snapshot> readTextIndex() throws DataLoadingException {
+        logger.fine(() -> "Attempting to read text index from file: " + getTextIndexFilePath());
+        return textIndexStorage.readTextIndex();
+    }
+
+    @Override
+    public void saveTextIndex(TextIndex.Snapshot snapshot) throws IOException {
+        logger.fine(() -> "Attempting to write text index to file: " + getTextIndexFilePath());
+        textIndexStorage.saveTextIndex(snapshot);
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory(int limit) throws IOException {
+        logger.fine(() -> "Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory(limit);
+    }
+
+    @Override
+    public void appendToCommandHistory(String command) throws IOException {
+        commandHistoryStorage.appendToCommandHistory(command);
+    }
+
+    @Override
+    public void compactCommandHistory(int limit) throws IOException {
+        logger.fine(() -> "Attempting to compact command history file: " + getCommandHistoryFilePath());
+        commandHistoryStorage.compactCommandHistory(limit);
     }
 
 }
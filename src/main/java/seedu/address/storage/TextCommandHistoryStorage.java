@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored as a text file on the hard disk, one command per line.
+ * Each command is appended to the file as it is executed, so saving costs O(1) however long the history is.
+ * The file is compacted to the most recent commands when it is read and has grown to more than
+ * {@value #COMPACTION_FACTOR} times the number of commands kept.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+    private static final int COMPACTION_FACTOR = 2;
+    private static final String FILE_NAME = "commandhistory.txt";
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the command history file kept in the same folder as the data file at
+     * {@code addressBookFilePath}, e.g. {@code data/commandhistory.txt} for {@code data/addressbook.json}.
+     */
+    public static Path pathNextTo(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(FILE_NAME);
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory(int limit) throws IOException {
+        checkArgument(limit > 0, "Limit must be positive");
+        if (!Files.exists(filePath)) {
+            return List.of();
+        }
+
+        Deque<String> commands = new ArrayDeque<>(limit);
+        long lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineCount++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (commands.size() == limit) {
+                    commands.removeFirst();
+                }
+                commands.addLast(line);
+            }
+        }
+
+        List<String> recentCommands = new ArrayList<>(commands);
+        if (lineCount > (long) COMPACTION_FACTOR * limit) {
+            logger.fine("Compacting command history file " + filePath + " from " + lineCount + " lines");
+            FileUtil.writeToFile(filePath, toLines(recentCommands));
+        }
+        return recentCommands;
+    }
+
+    @Override
+    public void appendToCommandHistory(String command) throws IOException {
+        requireNonNull(command);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.writeString(filePath, toLines(List.of(command)), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void compactCommandHistory(int limit) throws IOException {
+        checkArgument(limit > 0, "Limit must be positive");
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        logger.fine("Compacting command history file " + filePath + " to " + limit + " commands");
+        FileUtil.writeToFile(filePath, toLines(readCommandHistory(limit)));
+    }
+
+    /**
+     * Returns {@code commands} as lines of the history file. Line breaks within a command, which the command box
+     * does not accept anyway, are replaced by spaces so that every command stays on one line.
+     */
+    private static String toLines(List<String> commands) {
+        StringBuilder lines = new StringBuilder();
+        for (String command : commands) {
+            lines.append(command.replaceAll("\\R", " ")).append('\n');
+        }
+        return lines.toString();
+    }
+
+}
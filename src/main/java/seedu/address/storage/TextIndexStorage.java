@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.company.TextIndex;
+
+/**
+ * Represents a storage for snapshots of the {@link TextIndex}.
+ */
+public interface TextIndexStorage {
+
+    /**
+     * Returns the file path of the text index file.
+     */
+    Path getTextIndexFilePath();
+
+    /**
+     * Returns the stored text index snapshot.
+     * Returns {@code Optional.empty()} if the storage file is not found.
+     *
+     * @throws DataLoadingException if loading the snapshot from storage failed.
+     */
+    Optional<TextIndex.Snapshot> readTextIndex() throws DataLoadingException;
+
+    /**
+     * Saves the given text index snapshot to the storage.
+     * @param snapshot cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTextIndex(TextIndex.Snapshot snapshot) throws IOException;
+
+}
@@ -0,0 +1,316 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of an observable list that follows the source list at most once per pulse.
+ * Changes to the source only schedule a sync, so a command that removes, edits or adds many elements causes a
+ * single change event here, and the {@code ListView} showing this list lays out once, instead of once per element.
+ * The changes of the source are buffered until the sync, which merges them into one change made of the elements
+ * removed and added since the last sync (an edit is a replacement), so a sync after a few changes costs time in
+ * the number of changes rather than the size of the list. Only after a permutation, an update or many changes
+ * does a sync compare the whole copy with the source instead, publishing their difference, or a replacement of
+ * the whole list if the order of the elements changed.
+ * Elements are compared by identity and must not occur twice in the source.
+ */
+public class CoalescingObservableList<E> extends ObservableListBase<E> {
+
+    /** Above this many buffered elements, the whole list is compared instead, as merging takes quadratic time. */
+    static final int MAX_MERGED_ELEMENTS = 256;
+
+    private final ObservableList<? extends E> source;
+    private final Consumer<Runnable> scheduler;
+    private List<E> elements;
+    private boolean isSyncScheduled;
+    private List<Step<E>> pendingSteps = new ArrayList<>();
+    private int pendingElementCount;
+    private boolean isDiffNeeded;
+
+    /**
+     * Creates a copy of {@code source} that is synced on the JavaFX application thread after the source changes.
+     */
+    public CoalescingObservableList(ObservableList<? extends E> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a copy of {@code source} that is synced by the task given to {@code scheduler} after the source
+     * changes.
+     */
+    CoalescingObservableList(ObservableList<? extends E> source, Consumer<Runnable> scheduler) {
+        requireNonNull(source);
+        requireNonNull(scheduler);
+        this.source = source;
+        this.scheduler = scheduler;
+        this.elements = new ArrayList<>(source);
+        source.addListener(this::bufferChange);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    private void bufferChange(ListChangeListener.Change<? extends E> change) {
+        while (change.next() && !isDiffNeeded) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isDiffNeeded = true;
+            } else {
+                pendingSteps.add(new Step<>(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+                pendingElementCount += change.getRemovedSize() + change.getAddedSize();
+                isDiffNeeded = pendingElementCount > MAX_MERGED_ELEMENTS;
+            }
+        }
+        scheduleSync();
+    }
+
+    private void scheduleSync() {
+        if (!isSyncScheduled) {
+            isSyncScheduled = true;
+            scheduler.accept(this::sync);
+        }
+    }
+
+    /**
+     * Brings this list up to date with the source, firing at most one change event.
+     */
+    void sync() {
+        isSyncScheduled = false;
+        List<Step<E>> steps = pendingSteps;
+        boolean isMergeable = !isDiffNeeded;
+        pendingSteps = new ArrayList<>();
+        pendingElementCount = 0;
+        isDiffNeeded = false;
+        if (isMergeable) {
+            syncByMerging(steps);
+        } else {
+            syncByComparing();
+        }
+    }
+
+    /**
+     * Applies {@code steps}, the changes of the source since the last sync in the order they were made, to the copy,
+     * and publishes them as one change of the elements they removed from the copy and added to it, each once.
+     */
+    private void syncByMerging(List<Step<E>> steps) {
+        // The elements removed from the copy by their index in it, and those added by their index in the source,
+        // each in ascending order of index
+        List<Edit<E>> removals = new ArrayList<>();
+        List<Edit<E>> additions = new ArrayList<>();
+        for (Step<E> step : steps) {
+            for (E removed : step.removed) {
+                int addition = indexOfIndex(additions, step.from);
+                if (addition >= 0 && additions.get(addition).element == removed) {
+                    // Added since the last sync, so it is as if it had never been
+                    additions.remove(addition);
+                } else {
+                    int kept = step.from - countBelow(additions, step.from);
+                    Edit<E> removal = new Edit<>(indexInCopyOfKept(removals, kept), removed);
+                    removals.add(countBelow(removals, removal.index), removal);
+                }
+                shiftFrom(additions, step.from + 1, -1);
+            }
+            for (int i = 0; i < step.added.size(); i++) {
+                shiftFrom(additions, step.from + i, 1);
+                additions.add(countBelow(additions, step.from + i), new Edit<>(step.from + i, step.added.get(i)));
+            }
+            elements.subList(step.from, step.from + step.removed.size()).clear();
+            elements.addAll(step.from, step.added);
+        }
+        publish(removals, additions);
+    }
+
+    /**
+     * Fires one change removing {@code removals} and adding {@code additions}, in ascending order of position as
+     * the change builder requires. An element is placed by the number of elements kept before it, and is at that
+     * number plus the additions made so far, as the list is then the source up to it and the copy after it.
+     */
+    private void publish(List<Edit<E>> removals, List<Edit<E>> additions) {
+        int removed = 0;
+        int added = 0;
+        boolean isChanging = false;
+        while (removed < removals.size() || added < additions.size()) {
+            int keptBeforeRemoval = removed < removals.size() ? removals.get(removed).index - removed : -1;
+            int keptBeforeAddition = added < additions.size() ? additions.get(added).index - added : -1;
+            if (keptBeforeRemoval >= 0 && keptBeforeRemoval == keptBeforeAddition
+                    && removals.get(removed).element == additions.get(added).element) {
+                // Removed and added back in the same place
+                removed++;
+                added++;
+                continue;
+            }
+            if (!isChanging) {
+                beginChange();
+                isChanging = true;
+            }
+            if (keptBeforeRemoval >= 0 && (keptBeforeAddition < 0 || keptBeforeRemoval <= keptBeforeAddition)) {
+                nextRemove(keptBeforeRemoval + added, removals.get(removed).element);
+                removed++;
+            } else {
+                nextAdd(keptBeforeAddition + added, keptBeforeAddition + added + 1);
+                added++;
+            }
+        }
+        if (isChanging) {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the index in the copy of the element that has {@code kept} elements of the copy that are kept before
+     * it, given the {@code removals} from the copy so far.
+     */
+    private static <E> int indexInCopyOfKept(List<Edit<E>> removals, int kept) {
+        int index = kept;
+        for (Edit<E> removal : removals) {
+            if (removal.index > index) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static <E> int countBelow(List<Edit<E>> edits, int index) {
+        int count = 0;
+        while (count < edits.size() && edits.get(count).index < index) {
+            count++;
+        }
+        return count;
+    }
+
+    private static <E> int indexOfIndex(List<Edit<E>> edits, int index) {
+        int position = countBelow(edits, index);
+        return position < edits.size() && edits.get(position).index == index ? position : -1;
+    }
+
+    private static <E> void shiftFrom(List<Edit<E>> edits, int index, int shift) {
+        for (Edit<E> edit : edits) {
+            if (edit.index >= index) {
+                edit.index += shift;
+            }
+        }
+    }
+
+    /**
+     * Brings the copy up to date by comparing it with the whole source, firing at most one change event.
+     */
+    private void syncByComparing() {
+        List<E> previous = elements;
+        List<E> current = new ArrayList<>(source);
+        if (isSameSequence(previous, current)) {
+            return;
+        }
+
+        elements = current;
+        beginChange();
+        Map<E, Integer> positions = positionsOf(current);
+        if (positions.size() == current.size() && isOrderKept(previous, positions)) {
+            recordRunsOfChanges(previous, current, positions);
+        } else {
+            nextRemove(0, previous);
+            nextAdd(0, current.size());
+        }
+        endChange();
+    }
+
+    /**
+     * Records the removals and additions that turn {@code previous} into {@code current}, given that the elements
+     * of {@code previous} still in {@code current} are in the same order. Each step is recorded at its index in
+     * the list as it would be after the steps before it, which is {@code current[0..j) + previous[i..)}.
+     */
+    private void recordRunsOfChanges(List<E> previous, List<E> current, Map<E, Integer> positions) {
+        int i = 0;
+        int j = 0;
+        while (i < previous.size() || j < current.size()) {
+            if (i < previous.size() && !positions.containsKey(previous.get(i))) {
+                nextRemove(j, previous.get(i));
+                i++;
+            } else if (i < previous.size() && j < current.size() && previous.get(i) == current.get(j)) {
+                i++;
+                j++;
+            } else {
+                nextAdd(j, j + 1);
+                j++;
+            }
+        }
+    }
+
+    private static <E> boolean isSameSequence(List<E> first, List<E> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E> Map<E, Integer> positionsOf(List<E> list) {
+        Map<E, Integer> positions = new IdentityHashMap<>(list.size() * 2);
+        for (int i = 0; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+        return positions;
+    }
+
+    private static <E> boolean isOrderKept(List<E> previous, Map<E, Integer> positions) {
+        int lastPosition = -1;
+        for (E element : previous) {
+            Integer position = positions.get(element);
+            if (position != null) {
+                if (position < lastPosition) {
+                    return false;
+                }
+                lastPosition = position;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One change of the source: {@code removed} taken out at {@code from}, then {@code added} put in there.
+     */
+    private static class Step<E> {
+        private final int from;
+        private final List<E> removed;
+        private final List<E> added;
+
+        Step(int from, List<? extends E> removed, List<? extends E> added) {
+            this.from = from;
+            this.removed = new ArrayList<>(removed);
+            this.added = new ArrayList<>(added);
+        }
+    }
+
+    /**
+     * An element removed from, or added to, the list at an index.
+     */
+    private static class Edit<E> {
+        private int index;
+        private final E element;
+
+        Edit(int index, E element) {
+            this.index = index;
+            this.element = element;
+        }
+    }
+}
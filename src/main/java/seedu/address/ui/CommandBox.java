@@ -1,11 +1,26 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.logic.LiveFilter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -16,27 +31,110 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String SEARCH_STYLE_CLASS = "history-search";
     private static final String FXML = "CommandBox.fxml";
+    private static final long PREFETCH_DELAY_MILLIS = 100;
+    private static final Duration LIVE_FILTER_DELAY = Duration.millis(150);
+
+    /** Runs completion lookups off the FX thread. */
+    private static final ScheduledExecutorService completionExecutor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-completion");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /** Evaluates live filter queries off the FX thread, one at a time. */
+    private static final ExecutorService liveFilterExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
     private final CommandHistory commandHistory;
+    private final LiveFilter liveFilter;
+
+    // incremented on every change of the text, so that live filter queries for older text are dropped
+    private final AtomicLong liveFilterGeneration = new AtomicLong();
+    private final PauseTransition liveFilterTimer = new PauseTransition(LIVE_FILTER_DELAY);
+
+    private ScheduledFuture<?> pendingPrefetch;
+    private String prefetchedText;
+    private List<String> prefetchedCompletions = List.of();
+    private List<String> completionCycle = List.of();
+    private int completionCycleIndex;
+    private boolean isReplacingText;
+
+    // searchQuery is null when not searching through history
+    private String searchQuery;
+    private String textBeforeSearch;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CompletionProvider},
+     * {@code CommandHistory} and {@code LiveFilter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider,
+            CommandHistory commandHistory, LiveFilter liveFilter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.commandHistory = new CommandHistory();
+        this.completionProvider = completionProvider;
+        this.commandHistory = commandHistory;
+        this.liveFilter = liveFilter;
+        liveFilterTimer.setOnFinished(event -> startLiveFilter());
 
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
 
+        // prefetches completions once typing pauses, unless the change is a completion or search result being shown
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            if (!isReplacingText) {
+                completionCycle = List.of();
+                schedulePrefetch(newText);
+            }
+        });
+
+        // filters the company list as a find command is typed, and restores it when the text stops being one
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            liveFilterGeneration.incrementAndGet();
+            if (LiveFilter.isLiveFilterCommand(newText)) {
+                liveFilterTimer.playFromStart();
+            } else {
+                liveFilterTimer.stop();
+                liveFilter.cancel();
+            }
+        });
+
         // Add key event handler for arrow key navigation
         commandTextField.setOnKeyPressed(this::handleKeyPress);
+
+        // Tab would otherwise move the focus out of the text field before reaching the handler above
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (isSearching()) {
+                handleSearchKeyPress(event);
+            } else if (event.getCode() == KeyCode.R && event.isShortcutDown()) {
+                startHistorySearch();
+                event.consume();
+            } else if (event.getCode() == KeyCode.TAB && !event.isShiftDown() && !event.isControlDown()) {
+                handleTab();
+                event.consume();
+            }
+        });
+
+        // while searching, typed characters extend the search query instead of the text
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, event -> {
+            String character = event.getCharacter();
+            if (isSearching() && !event.isShortcutDown() && !character.isEmpty()
+                    && !Character.isISOControl(character.charAt(0))) {
+                searchQuery += character;
+                showSearchResult(commandHistory.search(searchQuery));
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -49,6 +147,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        stopHistorySearch();
         try {
             commandExecutor.execute(commandText);
             commandHistory.add(commandText);
@@ -91,6 +190,176 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Completes the value being typed, or, if a completion has just been applied, replaces it with the next one.
+     * Uses the prefetched completions when they are for the current text, and otherwise looks them up in the
+     * background and applies them when they arrive, unless the text has changed meanwhile.
+     */
+    private void handleTab() {
+        String text = commandTextField.getText();
+        if (!completionCycle.isEmpty() && text.equals(completionCycle.get(completionCycleIndex))) {
+            completionCycleIndex = (completionCycleIndex + 1) % completionCycle.size();
+            applyCompletion(completionCycle.get(completionCycleIndex));
+            return;
+        }
+        if (text.equals(prefetchedText)) {
+            startCompletionCycle(prefetchedCompletions);
+            return;
+        }
+
+        cancelPrefetch();
+        completionExecutor.execute(() -> {
+            List<String> completions = completionProvider.getCompletions(text);
+            Platform.runLater(() -> {
+                if (text.equals(commandTextField.getText())) {
+                    startCompletionCycle(completions);
+                }
+            });
+        });
+    }
+
+    private void startCompletionCycle(List<String> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        completionCycle = completions;
+        completionCycleIndex = 0;
+        applyCompletion(completions.get(0));
+    }
+
+    private void applyCompletion(String completion) {
+        replaceText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
+    private void replaceText(String text) {
+        isReplacingText = true;
+        commandTextField.setText(text);
+        isReplacingText = false;
+    }
+
+    private boolean isSearching() {
+        return searchQuery != null;
+    }
+
+    /**
+     * Starts a reverse incremental search through the command history, like Ctrl-R in a shell.
+     */
+    private void startHistorySearch() {
+        searchQuery = "";
+        textBeforeSearch = commandTextField.getText();
+        commandHistory.startSearch();
+        commandTextField.getStyleClass().add(SEARCH_STYLE_CLASS);
+    }
+
+    /**
+     * Ends the search, leaving the current match (if any) in the command box.
+     */
+    private void stopHistorySearch() {
+        if (!isSearching()) {
+            return;
+        }
+        searchQuery = null;
+        textBeforeSearch = null;
+        commandTextField.getStyleClass().remove(SEARCH_STYLE_CLASS);
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Handles a key press during a history search. Ctrl-R moves to the next older match, Backspace shortens the
+     * query and Escape cancels the search. Enter ends the search and executes the match, and keys that move the
+     * caret end the search and edit the match.
+     */
+    private void handleSearchKeyPress(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (code == KeyCode.R && event.isShortcutDown()) {
+            if (!searchQuery.isEmpty()) {
+                showSearchResult(commandHistory.searchOlder(searchQuery));
+            }
+            event.consume();
+        } else if (code == KeyCode.BACK_SPACE) {
+            if (!searchQuery.isEmpty()) {
+                searchQuery = searchQuery.substring(0, searchQuery.length() - 1);
+                commandHistory.startSearch();
+                if (searchQuery.isEmpty()) {
+                    replaceText(textBeforeSearch);
+                } else {
+                    showSearchResult(commandHistory.search(searchQuery));
+                }
+            }
+            event.consume();
+        } else if (code == KeyCode.ESCAPE) {
+            String originalText = textBeforeSearch;
+            stopHistorySearch();
+            replaceText(originalText);
+            commandTextField.positionCaret(originalText.length());
+            event.consume();
+        } else if (code == KeyCode.ENTER || code == KeyCode.TAB || code.isNavigationKey() || event.isShortcutDown()) {
+            stopHistorySearch();
+        }
+    }
+
+    /**
+     * Shows {@code match} with the search query selected, or marks the search as failing if there is no match.
+     */
+    private void showSearchResult(Optional<String> match) {
+        if (match.isEmpty()) {
+            setStyleToIndicateCommandFailure();
+            return;
+        }
+        String command = match.get();
+        replaceText(command);
+        int start = command.toLowerCase(Locale.ROOT).indexOf(searchQuery.toLowerCase(Locale.ROOT));
+        commandTextField.selectRange(start, start + searchQuery.length());
+    }
+
+    /**
+     * Looks up the completions of {@code text} in the background once the text has not changed for
+     * {@link #PREFETCH_DELAY_MILLIS}, so that a following Tab can be answered at once.
+     */
+    private void schedulePrefetch(String text) {
+        cancelPrefetch();
+        prefetchedText = null;
+        if (text.isBlank()) {
+            return;
+        }
+        pendingPrefetch = completionExecutor.schedule(() -> {
+            List<String> completions = completionProvider.getCompletions(text);
+            Platform.runLater(() -> {
+                if (text.equals(commandTextField.getText())) {
+                    prefetchedText = text;
+                    prefetchedCompletions = completions;
+                }
+            });
+        }, PREFETCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPrefetch() {
+        if (pendingPrefetch != null) {
+            pendingPrefetch.cancel(false);
+            pendingPrefetch = null;
+        }
+    }
+
+    /**
+     * Filters the company list by the {@code find} command in the command box, once typing has paused for
+     * {@link #LIVE_FILTER_DELAY}. The query is evaluated in the background over a snapshot of the companies and is
+     * abandoned as soon as the text changes; its result is only shown if the text is still the same.
+     */
+    private void startLiveFilter() {
+        Optional<LiveFilter.Query> query = liveFilter.prepare(commandTextField.getText());
+        if (query.isEmpty()) {
+            return;
+        }
+        long generation = liveFilterGeneration.get();
+        BooleanSupplier isStale = () -> liveFilterGeneration.get() != generation;
+        liveFilterExecutor.execute(() -> query.get().evaluate(isStale).ifPresent(matches -> Platform.runLater(() -> {
+            if (!isStale.getAsBoolean()) {
+                liveFilter.apply(query.get(), matches);
+            }
+        })));
+    }
+
     /**
      * Navigates to the previous command in history.
      * If currently at the user's current input, saves it before navigating.
@@ -125,4 +394,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of a partially typed command.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns completed versions of {@code commandText}. May be called off the FX thread.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
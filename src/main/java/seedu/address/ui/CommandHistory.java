@@ -1,31 +1,51 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.List;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
 import java.util.Optional;
 
+import seedu.address.commons.util.TrigramIndex;
+
 /**
- * Manages the history of executed commands and provides navigation capabilities.
- * Maintains a bounded list of previously executed commands and tracks the current
- * position when navigating through history.
+ * Manages the history of executed commands and provides navigation and reverse search capabilities.
+ * Keeps the most recent commands in a fixed-size ring buffer, so adding a command is O(1) even when the oldest
+ * one has to be evicted, and indexes them by trigram so that a reverse search does not scan the whole history.
+ * Every command is identified by a sequence number that increases with each command added; the commands kept
+ * are those numbered from {@code firstSequence} (inclusive) to {@code nextSequence} (exclusive).
  */
 public class CommandHistory {
 
-    private static final int MAX_HISTORY_SIZE = 50;
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private static final int NOT_NAVIGATING = -1;
 
-    private final List<String> commandHistory;
-    private int historyPointer;
+    private final String[] commands;
+    private final TrigramIndex index = new TrigramIndex();
+    private long firstSequence;
+    private long nextSequence;
+    private long historyPointer;
+    private long searchPointer;
     private String savedInput;
 
     /**
-     * Creates a new CommandHistory instance with an empty history.
+     * Creates a new CommandHistory instance with an empty history of {@link #DEFAULT_CAPACITY} commands.
      */
     public CommandHistory() {
-        this.commandHistory = new ArrayList<>();
-        // historyPointer will be -1 only upon initialisation or reset() being called. -1 is a special state where
-        // user is not navigating through previous commands.
-        this.historyPointer = -1;
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new CommandHistory instance with an empty history that keeps at most {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.commands = new String[capacity];
+        // historyPointer will be NOT_NAVIGATING only upon initialisation or reset() being called. It is a special
+        // state where user is not navigating through previous commands.
+        this.historyPointer = NOT_NAVIGATING;
         this.savedInput = "";
+        startSearch();
     }
 
     /**
@@ -36,14 +56,18 @@ public class CommandHistory {
      * @param command The command to add to history.
      */
     public void add(String command) {
-        commandHistory.add(command);
-
-        // Remove oldest command if history exceeds maximum size
-        if (commandHistory.size() > MAX_HISTORY_SIZE) {
-            commandHistory.remove(0);
+        // Remove oldest command if history is full
+        if (size() == commands.length) {
+            index.remove(firstSequence, get(firstSequence));
+            firstSequence++;
         }
 
+        commands[slotOf(nextSequence)] = command;
+        index.add(nextSequence, command);
+        nextSequence++;
+
         reset();
+        startSearch();
     }
 
     /**
@@ -54,20 +78,20 @@ public class CommandHistory {
      * @return An Optional containing the previous command, or empty if at the beginning of history.
      */
     public Optional<String> getPrevious(String currentInput) {
-        if (commandHistory.isEmpty()) {
+        if (size() == 0) {
             return Optional.empty();
         }
 
         // Save current input if we're starting to navigate
-        if (historyPointer == -1) {
+        if (historyPointer == NOT_NAVIGATING) {
             savedInput = currentInput;
-            historyPointer = commandHistory.size();
+            historyPointer = nextSequence;
         }
 
         // Move to previous command if possible
-        if (historyPointer > 0) {
+        if (historyPointer > firstSequence) {
             historyPointer--;
-            return Optional.of(commandHistory.get(historyPointer));
+            return Optional.of(get(historyPointer));
         }
 
         return Optional.empty();
@@ -80,20 +104,20 @@ public class CommandHistory {
      *         or empty if not currently navigating.
      */
     public Optional<String> getNext() {
-        if (historyPointer == -1) {
+        if (historyPointer == NOT_NAVIGATING) {
             return Optional.empty(); // Not navigating
         }
 
         historyPointer++;
 
-        if (historyPointer >= commandHistory.size()) {
+        if (historyPointer >= nextSequence) {
             // Restore the saved input and exit navigation mode
             String inputToRestore = savedInput;
             reset();
             return Optional.of(inputToRestore);
         } else {
             // Return next command from history
-            return Optional.of(commandHistory.get(historyPointer));
+            return Optional.of(get(historyPointer));
         }
     }
 
@@ -102,7 +126,7 @@ public class CommandHistory {
      * Called automatically after adding a command or completing navigation.
      */
     public void reset() {
-        historyPointer = -1;
+        historyPointer = NOT_NAVIGATING;
         savedInput = "";
     }
 
@@ -112,7 +136,49 @@ public class CommandHistory {
      * @return true if currently navigating through history, false otherwise.
      */
     public boolean isNavigating() {
-        return historyPointer != -1;
+        return historyPointer != NOT_NAVIGATING;
+    }
+
+    /**
+     * Starts a new reverse search, so that the next {@link #search(String)} begins at the most recent command.
+     */
+    public void startSearch() {
+        searchPointer = nextSequence;
+    }
+
+    /**
+     * Returns the most recent command containing {@code query} (case-insensitive), starting from the current
+     * match if there is one. Typing more characters therefore narrows the search without moving past a command
+     * that still matches.
+     *
+     * @return An Optional containing the matching command, or empty if no command at or before the current match
+     *         contains {@code query}, in which case the current match is kept.
+     */
+    public Optional<String> search(String query) {
+        return searchAtOrBefore(query, Math.min(searchPointer, nextSequence - 1));
+    }
+
+    /**
+     * Returns the next older command containing {@code query} (case-insensitive) than the current match.
+     *
+     * @return An Optional containing the matching command, or empty if there is no older match,
+     *         in which case the current match is kept.
+     */
+    public Optional<String> searchOlder(String query) {
+        return searchAtOrBefore(query, Math.min(searchPointer, nextSequence) - 1);
+    }
+
+    private Optional<String> searchAtOrBefore(String query, long atOrBefore) {
+        String foldedQuery = query.toLowerCase(Locale.ROOT);
+        long candidate = index.latestCandidate(query, atOrBefore);
+        while (candidate != TrigramIndex.NO_CANDIDATE && candidate >= firstSequence) {
+            if (get(candidate).toLowerCase(Locale.ROOT).contains(foldedQuery)) {
+                searchPointer = candidate;
+                return Optional.of(get(candidate));
+            }
+            candidate = index.latestCandidate(query, candidate - 1);
+        }
+        return Optional.empty();
     }
 
     /**
@@ -121,6 +187,21 @@ public class CommandHistory {
      * @return The number of commands stored in history.
      */
     public int size() {
-        return commandHistory.size();
+        return (int) (nextSequence - firstSequence);
+    }
+
+    /**
+     * Returns the maximum number of commands kept in history.
+     */
+    public int getCapacity() {
+        return commands.length;
+    }
+
+    private String get(long sequence) {
+        return commands[slotOf(sequence)];
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % commands.length);
     }
 }
@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -10,7 +12,6 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Text;
 import seedu.address.model.company.Company;
 
 /**
@@ -19,6 +20,8 @@ import seedu.address.model.company.Company;
 public class CompanyCard extends UiPart<Region> {
 
     private static final String FXML = "CompanyListCard.fxml";
+    private static final String STATUS_STYLE_CLASS_PREFIX = "status-";
+    private static final String STATUS_COLOR_STYLE_CLASS_PREFIX = "status-color-";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -28,7 +31,8 @@ public class CompanyCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Company company;
+    private Company company;
+    private int displayedIndex;
 
     private boolean isRemarkExpanded = false;
     private String fullRemarkText;
@@ -56,58 +60,115 @@ public class CompanyCard extends UiPart<Region> {
     @FXML
     private Button seeMoreButton;
 
+    private final Label statusLabel = new Label();
+    private final List<Label> tagLabels = new ArrayList<>();
+    private final TextMeasurementService measurementService = TextMeasurementService.getInstance();
+    // A single instance, so that the rechecks requested by one card are coalesced
+    private final Runnable overflowCheck = this::checkRemarkOverflow;
+
+    /**
+     * Creates an empty {@code CompanyCard}, to be shown once a company is bound to it with
+     * {@link #bind(Company, int)}.
+     */
+    public CompanyCard() {
+        super(FXML);
+        status.getChildren().add(statusLabel);
+        setupExpandableRemark();
+    }
+
     /**
      * Creates a {@code CompanyCard} with the given {@code Company} and index to display.
      */
     public CompanyCard(Company company, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(company, displayedIndex);
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+
+    /**
+     * Displays {@code company} with {@code displayedIndex} on this card, reusing its nodes.
+     * Rebinding the company and index already shown is a no-op, so an expanded remark stays expanded.
+     */
+    public void bind(Company company, int displayedIndex) {
+        if (company == this.company && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.company = company;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(company.getName().fullName);
         phone.setText(DisplayUtil.displayPhone(company.getPhone().value));
         address.setText(DisplayUtil.displayAddress(company.getAddress().value));
         email.setText(DisplayUtil.displayEmail(company.getEmail().value));
 
-        // Create status on its own line
+        // Status on its own line
         String statusValue = company.getStatus().toUserInputString().toUpperCase();
-        Label statusLabel = new Label(statusValue);
-        statusLabel.getStyleClass().addAll("status-" + statusValue, "status-color-" + statusValue);
-        status.getChildren().add(statusLabel);
-
-        // Add regular tags on separate line
-        company.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        statusLabel.setText(statusValue);
+        statusLabel.getStyleClass().removeIf(styleClass -> styleClass.startsWith(STATUS_STYLE_CLASS_PREFIX));
+        statusLabel.getStyleClass().addAll(STATUS_STYLE_CLASS_PREFIX + statusValue,
+                STATUS_COLOR_STYLE_CLASS_PREFIX + statusValue);
+
+        // Regular tags on separate line
+        List<String> tagNames = company.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        bindTags(tagNames);
 
         fullRemarkText = company.getRemark().value;
-        if (fullRemarkText == null) {
-            remark.setVisible(false); // Hides remark if empty
-            remark.setManaged(false); // Truncates company card to not show a blank line
+        boolean hasRemark = fullRemarkText != null;
+        remark.setVisible(hasRemark); // Hides remark if empty
+        remark.setManaged(hasRemark); // Truncates company card to not show a blank line
+        remark.setText(hasRemark ? "Remark: " + fullRemarkText : "");
+
+        collapseRemark();
+
+        if (cardPane.getWidth() > 0) {
+            // A recycled card is already laid out, and the measurement is usually cached
+            checkRemarkOverflow();
         } else {
-            remark.setText("Remark: " + fullRemarkText);
+            // Check overflow after UI fully rendered
+            Platform.runLater(overflowCheck);
         }
+    }
 
-        setupExpandableRemark();
+    /**
+     * Shows {@code tagNames} in order, reusing the labels of the tags shown before.
+     */
+    private void bindTags(List<String> tagNames) {
+        while (tagLabels.size() < tagNames.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            tagLabels.get(i).setText(tagNames.get(i));
+        }
+        if (tags.getChildren().size() != tagNames.size()) {
+            tags.getChildren().setAll(tagLabels.subList(0, tagNames.size()));
+        }
     }
 
     private void setupExpandableRemark() {
-        // Initialize in collapsed state
-        isRemarkExpanded = false;
-        remark.setWrapText(false);
-        remark.setTextOverrun(javafx.scene.control.OverrunStyle.ELLIPSIS);
-
         // Set up button click handler
         seeMoreButton.setOnAction(event -> toggleRemarkExpansion());
 
-        // Check overflow after UI fully rendered
-        Platform.runLater(this::checkRemarkOverflow);
-
-        // Add listener for width changes (window resizing) - for both expanded and collapsed modes
+        // Add listener for width changes (window resizing) - for both expanded and collapsed modes.
+        // Rechecks are deferred until resizing pauses, so dragging the window edge does not queue a check per pixel.
         cardPane.widthProperty().addListener((observable, oldValue, newValue) -> {
-            Platform.runLater(this::checkRemarkOverflow);
+            measurementService.requestRecheck(overflowCheck);
         });
     }
 
+    private void collapseRemark() {
+        isRemarkExpanded = false;
+        remark.setWrapText(false);
+        remark.setTextOverrun(javafx.scene.control.OverrunStyle.ELLIPSIS);
+        seeMoreButton.setText("see more");
+    }
+
     private void toggleRemarkExpansion() {
         isRemarkExpanded = !isRemarkExpanded;
 
@@ -143,11 +204,7 @@ public class CompanyCard extends UiPart<Region> {
         }
 
         // Get text width
-        // Create a Text node to measure actual text width
-        Text textNode = new Text(fullRemarkText);
-        textNode.setFont(remark.getFont());
-
-        double textWidth = textNode.getBoundsInLocal().getWidth();
+        double textWidth = measurementService.widthOf(remark.getFont(), fullRemarkText);
 
         if (textWidth > availableWidth) {
             // Only show button if text exceeds single line width
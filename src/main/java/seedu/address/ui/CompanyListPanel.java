@@ -3,45 +3,102 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.ui.GroupedCompanyList.Row;
 
 /**
  * Panel containing the list of companies.
  */
 public class CompanyListPanel extends UiPart<Region> {
     private static final String FXML = "CompanyListPanel.fxml";
+    private static final PseudoClass GROUP_HEADER = PseudoClass.getPseudoClass("group-header");
+
     private final Logger logger = LogsCenter.getLogger(CompanyListPanel.class);
+    private final GroupedCompanyList rows;
 
     @FXML
-    private ListView<Company> companyListView;
+    private ListView<Row> companyListView;
 
     /**
      * Creates a {@code CompanyListPanel} with the given {@code ObservableList}.
+     * The panel follows changes to {@code companyList} once per pulse, so a command changing many companies
+     * repaints the list once.
      */
     public CompanyListPanel(ObservableList<Company> companyList) {
         super(FXML);
-        companyListView.setItems(companyList);
+        rows = new GroupedCompanyList(new CoalescingObservableList<>(companyList));
+        companyListView.setItems(rows);
         companyListView.setCellFactory(listView -> new CompanyListViewCell());
+        companyListView.setOnKeyPressed(event -> {
+            Row selected = companyListView.getSelectionModel().getSelectedItem();
+            if (event.getCode() == KeyCode.ENTER && selected != null && selected.isHeader()) {
+                rows.toggleCollapsed(selected.getGroupName());
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Shows the companies under headers by {@code grouping}, or without headers if {@code CompanyGrouping.NONE}.
+     * The companies must already be in the order of the grouping.
+     */
+    public void setGrouping(CompanyGrouping grouping) {
+        if (grouping != rows.getGrouping()) {
+            logger.fine(() -> "Grouping company list by " + grouping.getKeyword());
+            rows.setGrouping(grouping);
+        }
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Company} using a {@code CompanyCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Company} using a {@code CompanyCard}, or the
+     * header of a group of companies, which collapses or expands the group when clicked.
+     * Each cell owns a single card, created the first time the cell shows a company and rebound to the company
+     * shown afterwards, so scrolling does not load FXML or register listeners.
      */
-    class CompanyListViewCell extends ListCell<Company> {
+    class CompanyListViewCell extends ListCell<Row> {
+        private CompanyCard companyCard;
+        private Label groupHeader;
+
+        CompanyListViewCell() {
+            setOnMouseClicked(event -> {
+                if (getItem() != null && getItem().isHeader()) {
+                    rows.toggleCollapsed(getItem().getGroupName());
+                }
+            });
+        }
+
         @Override
-        protected void updateItem(Company company, boolean empty) {
-            super.updateItem(company, empty);
+        protected void updateItem(Row row, boolean empty) {
+            super.updateItem(row, empty);
+            pseudoClassStateChanged(GROUP_HEADER, !empty && row != null && row.isHeader());
 
-            if (empty || company == null) {
+            if (empty || row == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (row.isHeader()) {
+                if (groupHeader == null) {
+                    groupHeader = new Label();
+                    groupHeader.getStyleClass().add("group-header");
+                }
+                groupHeader.setText(String.format("%s %s (%d)",
+                        row.isCollapsed() ? "\u25B8" : "\u25BE", row.getGroupName(), row.getGroupSize()));
+                setGraphic(groupHeader);
             } else {
-                setGraphic(new CompanyCard(company, getIndex() + 1).getRoot());
+                if (companyCard == null) {
+                    companyCard = new CompanyCard();
+                }
+                // Numbered as in the company list, which commands take indexes into, skipping the headers
+                companyCard.bind(row.getCompany(), rows.getSourceIndex(getIndex()) + 1);
+                setGraphic(companyCard.getRoot());
             }
         }
     }
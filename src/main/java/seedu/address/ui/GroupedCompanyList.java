@@ -0,0 +1,585 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+
+/**
+ * The rows of the company list when grouped: a header for each group of companies, naming the group and counting
+ * its companies, followed by the companies of the group unless the group is collapsed.
+ * The source must list the companies of each group together, as the model orders them when grouping, and each
+ * run of companies in the same group is shown as one group.
+ *
+ * <p>Only the sizes of the groups are kept, so the rows are not stored but worked out when asked for, and a change
+ * to the source updates the groups it touches: an edit moving a company to another group removes its row from one
+ * group and adds it to another, changing only their headers. Without a grouping, the rows are the companies.
+ */
+public class GroupedCompanyList extends TransformationList<GroupedCompanyList.Row, Company> {
+
+    private final List<Group> groups = new ArrayList<>();
+    private final Set<String> collapsedGroups = new HashSet<>();
+    // Groups added, and headers changed, since the listeners last saw the rows; groups are compared by identity
+    private final Set<Group> addedGroups = new HashSet<>();
+    private final Map<Group, Row> changedHeaders = new HashMap<>();
+    private int lastChangedRow;
+    private CompanyGrouping grouping = CompanyGrouping.NONE;
+
+    // Where each group starts among the rows and in the source, worked out again after a change when needed
+    private int[] rowStarts;
+    private int[] sourceStarts;
+    private int rowCount;
+
+    /**
+     * Creates the rows of {@code source}, not grouped.
+     */
+    public GroupedCompanyList(ObservableList<? extends Company> source) {
+        super(source);
+        regroup();
+    }
+
+    /**
+     * Groups the companies by {@code grouping}, or shows them without headers if {@code CompanyGrouping.NONE}.
+     * Groups collapsed before stay collapsed when shown again.
+     */
+    public void setGrouping(CompanyGrouping grouping) {
+        requireNonNull(grouping);
+        if (grouping == this.grouping) {
+            return;
+        }
+        this.grouping = grouping;
+        List<Row> previous = new ArrayList<>(this);
+        beginChange();
+        regroup(previous);
+        endChange();
+    }
+
+    public CompanyGrouping getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * Collapses the group named {@code groupName}, hiding its companies, or expands it if collapsed.
+     */
+    public void toggleCollapsed(String groupName) {
+        requireNonNull(groupName);
+        if (!hasHeaders()) {
+            return;
+        }
+        boolean isCollapsing = collapsedGroups.add(groupName);
+        if (!isCollapsing) {
+            collapsedGroups.remove(groupName);
+        }
+
+        beginChange();
+        for (int i = 0; i < groups.size(); i++) {
+            Group group = groups.get(i);
+            if (!group.name.equals(groupName)) {
+                continue;
+            }
+            int headerRow = rowOf(i);
+            nextSet(headerRow, new Row(group.name, group.size, !isCollapsing));
+            if (isCollapsing) {
+                nextRemove(headerRow + 1, companiesOf(i));
+            } else {
+                nextAdd(headerRow + 1, headerRow + 1 + group.size);
+            }
+        }
+        invalidateStarts();
+        endChange();
+    }
+
+    @Override
+    public Row get(int index) {
+        Objects.checkIndex(index, size());
+        int groupIndex = groupAtRow(index);
+        int offset = index - rowStarts[groupIndex] - headerRows();
+        if (offset < 0) {
+            return headerOf(groups.get(groupIndex));
+        }
+        return new Row(getSource().get(sourceStarts[groupIndex] + offset));
+    }
+
+    @Override
+    public int size() {
+        computeStarts();
+        return rowCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns -1 for a header.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        int groupIndex = groupAtRow(index);
+        int offset = index - rowStarts[groupIndex] - headerRows();
+        return offset < 0 ? -1 : sourceStarts[groupIndex] + offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns -1 for a company in a collapsed group.
+     */
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, getSource().size());
+        computeStarts();
+        int groupIndex = Arrays.binarySearch(sourceStarts, index);
+        if (groupIndex < 0) {
+            groupIndex = -groupIndex - 2;
+        }
+        Group group = groups.get(groupIndex);
+        return isCollapsed(group) ? -1 : rowStarts[groupIndex] + headerRows() + index - sourceStarts[groupIndex];
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Company> change) {
+        beginRowChange();
+        while (change.next()) {
+            // The coalesced company list only adds and removes, and replaces everything when it reorders,
+            // in which case grouping everything again is faster than moving each company in turn
+            if (change.wasPermutated() || change.wasUpdated() || isEverythingRemoved(change)) {
+                endRowChange();
+                beginRowChange();
+                regroup(rowsOf(sourceBefore(change)));
+                break;
+            }
+            for (Company removed : change.getRemoved()) {
+                remove(change.getFrom(), removed);
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                add(i, getSource().get(i));
+            }
+        }
+        endRowChange();
+    }
+
+    private boolean isEverythingRemoved(ListChangeListener.Change<? extends Company> change) {
+        return change.getFrom() == 0 && change.getRemovedSize() > 0
+                && change.getRemovedSize() == groups.stream().mapToInt(group -> group.size).sum();
+    }
+
+    /**
+     * Returns the source as it was before {@code change}, which reorders, updates or empties the source.
+     */
+    private List<Company> sourceBefore(ListChangeListener.Change<? extends Company> change) {
+        if (change.wasPermutated()) {
+            List<Company> previousSource = new ArrayList<>(getSource());
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                previousSource.set(i, getSource().get(change.getPermutation(i)));
+            }
+            return previousSource;
+        }
+        return change.wasUpdated() ? new ArrayList<>(getSource()) : new ArrayList<>(change.getRemoved());
+    }
+
+    /**
+     * Returns the rows of {@code source} in the current groups, which must be the groups of {@code source}.
+     */
+    private List<Row> rowsOf(List<Company> source) {
+        List<Row> rows = new ArrayList<>();
+        int sourceIndex = 0;
+        for (Group group : groups) {
+            if (hasHeaders()) {
+                rows.add(headerOf(group));
+            }
+            if (!isCollapsed(group)) {
+                for (int i = 0; i < group.size; i++) {
+                    rows.add(new Row(source.get(sourceIndex + i)));
+                }
+            }
+            sourceIndex += group.size;
+        }
+        return rows;
+    }
+
+    /**
+     * Groups the source again from the start, reporting all {@code previous} rows as replaced.
+     */
+    private void regroup(List<Row> previous) {
+        regroup();
+        if (!previous.isEmpty()) {
+            nextRemove(0, previous);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+    }
+
+    /**
+     * Groups the source again from the start, without firing a change.
+     */
+    private void regroup() {
+        groups.clear();
+        for (Company company : getSource()) {
+            String groupName = grouping.getGroupName(company);
+            if (groups.isEmpty() || !groups.get(groups.size() - 1).name.equals(groupName)) {
+                groups.add(new Group(groupName));
+            }
+            groups.get(groups.size() - 1).size++;
+        }
+        invalidateStarts();
+    }
+
+    /**
+     * Starts a change to the rows. Rows are reported removed or added in the order they are in, and the headers
+     * whose counts changed are reported in a change of their own afterwards, as JavaFX cannot always combine a
+     * change before a row already reported with the rest of a change.
+     */
+    private void beginRowChange() {
+        beginChange();
+        lastChangedRow = 0;
+    }
+
+    private void endRowChange() {
+        endChange();
+        addedGroups.clear();
+        if (changedHeaders.isEmpty() || !hasHeaders()) {
+            changedHeaders.clear();
+            return;
+        }
+        beginChange();
+        for (int i = 0; i < groups.size(); i++) {
+            Row previousHeader = changedHeaders.get(groups.get(i));
+            if (previousHeader != null) {
+                nextSet(rowOf(i), previousHeader);
+            }
+        }
+        changedHeaders.clear();
+        endChange();
+    }
+
+    /**
+     * Prepares to report a change at {@code row}, first committing the rows changed so far if any were after it.
+     */
+    private void changeAt(int row) {
+        if (row < lastChangedRow) {
+            endChange();
+            // The rows added so far have been seen as they are now, so later changes to their headers are reported
+            addedGroups.clear();
+            beginChange();
+        }
+        lastChangedRow = row;
+    }
+
+    /**
+     * Returns the header of {@code group} as the listeners last saw it, before changes to its count not yet
+     * reported.
+     */
+    private Row reportedHeaderOf(Group group) {
+        return changedHeaders.getOrDefault(group, headerOf(group));
+    }
+
+    /**
+     * Records that the count in the header of {@code group} is about to change, to be reported at the end.
+     */
+    private void headerChanging(Group group) {
+        if (!addedGroups.contains(group)) {
+            changedHeaders.putIfAbsent(group, headerOf(group));
+        }
+    }
+
+    /**
+     * Removes the row of {@code company}, which was at {@code sourceIndex} in the source, with the header of its
+     * group if it was the last company in the group.
+     */
+    private void remove(int sourceIndex, Company company) {
+        int groupIndex = 0;
+        int groupStart = 0;
+        while (groupStart + groups.get(groupIndex).size <= sourceIndex) {
+            groupStart += groups.get(groupIndex).size;
+            groupIndex++;
+        }
+        Group group = groups.get(groupIndex);
+        int headerRow = rowOf(groupIndex);
+        if (group.size > 1) {
+            headerChanging(group);
+            group.size--;
+            invalidateStarts();
+            if (!isCollapsed(group)) {
+                int row = headerRow + headerRows() + sourceIndex - groupStart;
+                changeAt(row);
+                nextRemove(row, new Row(company));
+            }
+            return;
+        }
+
+        changeAt(headerRow);
+        if (hasHeaders()) {
+            nextRemove(headerRow, reportedHeaderOf(group));
+        }
+        if (!isCollapsed(group)) {
+            nextRemove(headerRow, new Row(company));
+        }
+        changedHeaders.remove(group);
+        groups.remove(groupIndex);
+        invalidateStarts();
+        if (groupIndex > 0 && groupIndex < groups.size()
+                && groups.get(groupIndex - 1).name.equals(groups.get(groupIndex).name)) {
+            // The groups on either side of the removed one are the same group again
+            mergeWithPrevious(groupIndex);
+        }
+    }
+
+    private void mergeWithPrevious(int groupIndex) {
+        Group previous = groups.get(groupIndex - 1);
+        Group group = groups.get(groupIndex);
+        if (hasHeaders()) {
+            int headerRow = rowOf(groupIndex);
+            changeAt(headerRow);
+            nextRemove(headerRow, reportedHeaderOf(group));
+        }
+        changedHeaders.remove(group);
+        headerChanging(previous);
+        previous.size += group.size;
+        groups.remove(groupIndex);
+        invalidateStarts();
+    }
+
+    /**
+     * Adds the row of {@code company}, now at {@code sourceIndex} in the source, to the group before or after it
+     * if it is in either, or under a header of its own.
+     */
+    private void add(int sourceIndex, Company company) {
+        String groupName = grouping.getGroupName(company);
+        int groupIndex = 0;
+        int groupStart = 0;
+        while (groupIndex < groups.size() && groupStart + groups.get(groupIndex).size < sourceIndex) {
+            groupStart += groups.get(groupIndex).size;
+            groupIndex++;
+        }
+        if (groupIndex < groups.size() && groupStart < sourceIndex
+                && groupStart + groups.get(groupIndex).size > sourceIndex
+                && !groups.get(groupIndex).name.equals(groupName)) {
+            // Only while the source is not in group order can a company land inside another group
+            split(groupIndex, sourceIndex - groupStart);
+        }
+
+        boolean isAfterGroup = groupIndex < groups.size()
+                && groupStart + groups.get(groupIndex).size == sourceIndex;
+        if (groupIndex < groups.size() && groups.get(groupIndex).name.equals(groupName)) {
+            grow(groupIndex, sourceIndex - groupStart);
+        } else if (isAfterGroup && groupIndex + 1 < groups.size()
+                && groups.get(groupIndex + 1).name.equals(groupName)) {
+            grow(groupIndex + 1, 0);
+        } else {
+            int newGroupIndex = isAfterGroup ? groupIndex + 1 : groupIndex;
+            Group group = new Group(groupName);
+            group.size = 1;
+            groups.add(newGroupIndex, group);
+            addedGroups.add(group);
+            invalidateStarts();
+            int headerRow = rowOf(newGroupIndex);
+            changeAt(headerRow);
+            nextAdd(headerRow, headerRow + rowCountOf(group));
+        }
+    }
+
+    /**
+     * Adds a company to the group at {@code groupIndex}, at {@code offset} among its companies.
+     */
+    private void grow(int groupIndex, int offset) {
+        Group group = groups.get(groupIndex);
+        headerChanging(group);
+        group.size++;
+        invalidateStarts();
+        if (!isCollapsed(group)) {
+            int row = rowOf(groupIndex) + headerRows() + offset;
+            changeAt(row);
+            nextAdd(row, row + 1);
+        }
+    }
+
+    /**
+     * Splits the group at {@code groupIndex} in two, after its first {@code size} companies.
+     */
+    private void split(int groupIndex, int size) {
+        Group group = groups.get(groupIndex);
+        headerChanging(group);
+        Group rest = new Group(group.name);
+        rest.size = group.size - size;
+        group.size = size;
+        groups.add(groupIndex + 1, rest);
+        addedGroups.add(rest);
+        invalidateStarts();
+        if (hasHeaders()) {
+            int restRow = rowOf(groupIndex + 1);
+            changeAt(restRow);
+            nextAdd(restRow, restRow + 1);
+        }
+    }
+
+    private List<Row> companiesOf(int groupIndex) {
+        int sourceStart = 0;
+        for (int i = 0; i < groupIndex; i++) {
+            sourceStart += groups.get(i).size;
+        }
+        List<Row> rows = new ArrayList<>(groups.get(groupIndex).size);
+        for (int i = 0; i < groups.get(groupIndex).size; i++) {
+            rows.add(new Row(getSource().get(sourceStart + i)));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the row of the header of the group at {@code groupIndex}, or where its companies start if there
+     * are no headers. Counts through the groups before it, as the starts may be out of date during a change.
+     */
+    private int rowOf(int groupIndex) {
+        int row = 0;
+        for (int i = 0; i < groupIndex; i++) {
+            row += rowCountOf(groups.get(i));
+        }
+        return row;
+    }
+
+    private int rowCountOf(Group group) {
+        return headerRows() + (isCollapsed(group) ? 0 : group.size);
+    }
+
+    private int groupAtRow(int row) {
+        computeStarts();
+        // Every group takes at least one row, its header or its only company, so no two groups start together
+        int groupIndex = Arrays.binarySearch(rowStarts, row);
+        return groupIndex < 0 ? -groupIndex - 2 : groupIndex;
+    }
+
+    private void invalidateStarts() {
+        rowStarts = null;
+    }
+
+    private void computeStarts() {
+        if (rowStarts != null) {
+            return;
+        }
+        rowStarts = new int[groups.size()];
+        sourceStarts = new int[groups.size()];
+        int row = 0;
+        int sourceIndex = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            rowStarts[i] = row;
+            sourceStarts[i] = sourceIndex;
+            row += rowCountOf(groups.get(i));
+            sourceIndex += groups.get(i).size;
+        }
+        rowCount = row;
+    }
+
+    private boolean hasHeaders() {
+        return grouping != CompanyGrouping.NONE;
+    }
+
+    private int headerRows() {
+        return hasHeaders() ? 1 : 0;
+    }
+
+    private boolean isCollapsed(Group group) {
+        return hasHeaders() && collapsedGroups.contains(group.name);
+    }
+
+    private Row headerOf(Group group) {
+        return new Row(group.name, group.size, isCollapsed(group));
+    }
+
+    /**
+     * A run of companies in the same group.
+     */
+    private static class Group {
+        private final String name;
+        private int size;
+
+        Group(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A row of the list: either a company, or the header of a group.
+     */
+    public static class Row {
+        private final Company company;
+        private final String groupName;
+        private final int groupSize;
+        private final boolean isCollapsed;
+
+        Row(Company company) {
+            this.company = requireNonNull(company);
+            this.groupName = null;
+            this.groupSize = 0;
+            this.isCollapsed = false;
+        }
+
+        Row(String groupName, int groupSize, boolean isCollapsed) {
+            this.company = null;
+            this.groupName = requireNonNull(groupName);
+            this.groupSize = groupSize;
+            this.isCollapsed = isCollapsed;
+        }
+
+        public boolean isHeader() {
+            return company == null;
+        }
+
+        /**
+         * Returns the company of this row, which must not be a header.
+         */
+        public Company getCompany() {
+            assert !isHeader();
+            return company;
+        }
+
+        public String getGroupName() {
+            return groupName;
+        }
+
+        public int getGroupSize() {
+            return groupSize;
+        }
+
+        public boolean isCollapsed() {
+            return isCollapsed;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Row)) {
+                return false;
+            }
+
+            Row otherRow = (Row) other;
+            return Objects.equals(company, otherRow.company)
+                    && Objects.equals(groupName, otherRow.groupName)
+                    && groupSize == otherRow.groupSize
+                    && isCollapsed == otherRow.isCollapsed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(company, groupName, groupSize, isCollapsed);
+        }
+
+        @Override
+        public String toString() {
+            return isHeader() ? groupName + " (" + groupSize + ")" : company.toString();
+        }
+    }
+}
@@ -31,6 +31,18 @@ public class HelpWindow extends UiPart<Stage> {
                                 list
                                     Display all companies in Cerebro.
 
+                                sort [KEY[:asc|:desc]]...
+                                    Sort companies by name, status or tags (number of tags).
+                                    Examples:
+                                    sort name
+                                    sort status:desc tags:desc
+
+                                group status|tag|none
+                                    Group companies under a header per status or tag; click a header to collapse it.
+                                    Examples:
+                                    group status
+                                    group none
+
                                 edit INDEX [,INDEX]... [fields]
                                 edit START-END [fields]
                                     Edit one or more companies.
@@ -40,9 +52,23 @@ public class HelpWindow extends UiPart<Stage> {
                                     edit 2-4 s/applied t/tech
 
                                 find KEYWORD [MORE_KEYWORDS]
-                                    Search for companies by name.
+                                find ~[MAX_TYPOS] KEYWORD [MORE_KEYWORDS]
+                                    Search for companies by name, optionally tolerating typos.
                                     Examples:
                                     find Google
+                                    find ~gogle
+
+                                q FIELD:VALUE [AND|OR|NOT FIELD:VALUE]...
+                                    List companies matching a query over name, status, tag,
+                                    remark, email (domain) and phone.
+                                    Examples:
+                                    q status:applied AND tag:remote AND NOT name:bank
+                                    q (tag:fintech OR tag:ai) email:google.com
+
+                                search WORD [MORE_WORDS]... [k/MAX_RESULTS]
+                                    Search remarks and addresses, best matches first.
+                                    Examples:
+                                    search system design k/5
 
                                 delete INDEX [,INDEX]...
                                 delete START-END
@@ -68,7 +94,13 @@ public class HelpWindow extends UiPart<Stage> {
                                     remark 1 r/Great company culture
 
                                 clear
-                                    Clear all companies from Cerebro (irreversible!).
+                                    Clear all companies from Cerebro.
+
+                                undo
+                                    Undo the last command that changed the companies.
+
+                                redo
+                                    Redo the last undone command.
 
                                 metrics
                                     View application status metrics.
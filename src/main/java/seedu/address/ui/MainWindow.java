@@ -71,6 +71,7 @@ public class MainWindow extends UiPart<Stage> {
 
         helpWindow = new HelpWindow();
         metricsWindow = new MetricsWindow();
+        metricsWindow.setShownCompanies(logic.getFilteredCompanyList());
     }
 
     public Stage getPrimaryStage() {
@@ -124,7 +125,10 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandHistory commandHistory = new CommandHistory(logic.getCommandHistoryCapacity());
+        logic.getCommandHistory().forEach(commandHistory::add);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions, commandHistory,
+                logic.getLiveFilter());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -172,7 +176,8 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void handleMetrics() {
         if (!metricsWindow.isShowing()) {
-            metricsWindow.setData(logic.getAddressBook());
+            metricsWindow.setData(logic.getAddressBook(), logic::getCompanySnapshot, logic::getCommandLatencySummaries,
+                    logic::getPipelineFunnel);
             metricsWindow.show();
         } else {
             // Check if the window is minimized (iconified)
@@ -180,7 +185,8 @@ public class MainWindow extends UiPart<Stage> {
                 metricsWindow.getRoot().setIconified(false);
             }
             // Update data before focusing
-            metricsWindow.setData(logic.getAddressBook());
+            metricsWindow.setData(logic.getAddressBook(), logic::getCompanySnapshot, logic::getCommandLatencySummaries,
+                    logic::getPipelineFunnel);
             metricsWindow.focus();
         }
     }
@@ -214,8 +220,9 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            companyListPanel.setGrouping(logic.getCompanyGrouping());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -231,7 +238,7 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -1,27 +1,120 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Separator;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandLatencyTracker;
 import seedu.address.model.MetricsCalculator;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TagStatusMatrix;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.PipelineFunnel;
+import seedu.address.model.company.Status;
 
 /**
  * Controller for the metrics window that displays application status statistics.
+ * The window follows changes to the company list while it is shown. Metrics are only recomputed when the list's
+ * version has moved on since they were last computed, and then on a background thread over the model's immutable
+ * snapshot of the list, so the FX thread only takes the snapshot and updates the existing labels and chart data
+ * in place.
  */
 public class MetricsWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(MetricsWindow.class);
     private static final String FXML = "MetricsWindow.fxml";
+    private static final String LATENCY_ROW_FORMAT = "%-8s %-8s %6d %9.3f %9.3f %9.3f";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String FUNNEL_ROW_FORMAT = "%-14s %7d %8.1f%% %11s";
+
+    /** Computes metrics off the FX thread. */
+    private static final ExecutorService metricsExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-computation");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @FXML
     private VBox statusMetrics;
 
+    @FXML
+    private VBox statusCharts;
+
+    @FXML
+    private VBox tagStatusMetrics;
+
+    @FXML
+    private VBox funnelMetrics;
+
+    @FXML
+    private VBox latencyMetrics;
+
     private final MetricsCalculator metricsCalculator;
+    private final ListChangeListener<Company> companyListListener = change -> onCompaniesChanged();
     private ReadOnlyAddressBook currentAddressBook;
+    private Supplier<CompanyListSnapshot> snapshotSource;
+    private ObservableList<Company> shownCompanies;
+    private Supplier<List<CommandLatencyTracker.Summary>> latencySource = List::of;
+    private Supplier<PipelineFunnel> funnelSource = () -> null;
+
+    // The snapshot the metrics were computed over last, or are being computed over; null if they must be
+    // recomputed even though the company list has not changed
+    private CompanyListSnapshot computedSnapshot;
+    private boolean isRefreshScheduled;
+
+    private final Label noDataLabel = new Label("No companies found");
+    private final Label totalLabel = new Label();
+    private final Separator separator = new Separator();
+    private final Map<String, Label> statusLabels = new HashMap<>();
+    private final PieChart statusPieChart = new PieChart();
+    private final Map<String, PieChart.Data> pieData = new HashMap<>();
+    private final XYChart.Series<String, Number> barSeries = new XYChart.Series<>();
+    private final Map<String, XYChart.Data<String, Number>> barData = new HashMap<>();
+    private final BarChart<String, Number> statusBarChart = new BarChart<>(new CategoryAxis(), new NumberAxis());
+    private final Label noLatencyLabel = new Label("No commands executed yet");
+    private final Label latencyHeader = new Label(String.format("%-8s %-8s %6s %9s %9s %9s",
+            "COMMAND", "PHASE", "COUNT", "P50", "P99", "MAX"));
+    private final List<Label> latencyRows = new ArrayList<>();
+    private final Label noFunnelLabel = new Label("No companies found");
+    private final Label funnelHeader = new Label(String.format("%-14s %7s %9s %11s",
+            "STAGE", "REACHED", "ADVANCED", "MEDIAN DAYS"));
+    private final Map<Status.Stage, Label> funnelRows = new EnumMap<>(Status.Stage.class);
+    private final CheckBox shownOnlyCheckBox = new CheckBox("Shown companies only");
+    private final TableView<TagStatusRow> tagStatusTable = new TableView<>();
+    private final ListChangeListener<Company> shownCompanyListListener = change -> {
+        if (shownOnlyCheckBox.isSelected()) {
+            computedSnapshot = null;
+            onCompaniesChanged();
+        }
+    };
 
     /**
      * Creates a new MetricsWindow.
@@ -32,6 +125,10 @@ public class MetricsWindow extends UiPart<Stage> {
         super(FXML, root);
         this.metricsCalculator = new MetricsCalculator();
         configureWindow();
+        initStatusNodes();
+        initTagStatusNodes();
+        initFunnelNodes();
+        initLatencyNodes();
     }
 
     /**
@@ -49,11 +146,12 @@ public class MetricsWindow extends UiPart<Stage> {
         stage.setMinWidth(400);
         stage.setMinHeight(300);
         stage.setMaxWidth(600);
-        stage.setMaxHeight(500);
+        stage.setMaxHeight(900);
         stage.setWidth(500);
-        stage.setHeight(400);
+        stage.setHeight(700);
 
-        // Add event handlers to refresh data when window is restored or focused
+        // Add event handlers to refresh data when window is restored or focused.
+        // Metrics are only recomputed if the data changed while the window was hidden.
         stage.iconifiedProperty().addListener((observable, wasIconified, isIconified) -> {
             if (!isIconified && currentAddressBook != null) {
                 // Window was restored from minimized state, refresh data
@@ -72,32 +170,286 @@ public class MetricsWindow extends UiPart<Stage> {
     }
 
     /**
-     * Sets the address book data for metrics calculation and updates the display.
+     * Creates the nodes showing the status metrics, which are then updated in place.
+     */
+    private void initStatusNodes() {
+        noDataLabel.getStyleClass().add("metrics-no-data");
+        totalLabel.getStyleClass().add("metrics-total");
+        separator.getStyleClass().add("metrics-separator");
+        statusMetrics.getChildren().addAll(noDataLabel, totalLabel, separator);
+
+        statusPieChart.setTitle("Applications by Status");
+        statusPieChart.setLabelsVisible(false);
+        statusPieChart.setAnimated(false);
+        statusBarChart.getData().add(barSeries);
+        statusBarChart.setLegendVisible(false);
+        statusBarChart.setAnimated(false);
+        statusCharts.getChildren().addAll(statusPieChart, statusBarChart);
+    }
+
+    /**
+     * Creates the table of companies by tag and stage, which can be sorted by any column.
+     */
+    private void initTagStatusNodes() {
+        Label title = new Label("Companies by Tag and Status");
+        title.getStyleClass().add("metrics-section-title");
+        shownOnlyCheckBox.getStyleClass().add("metrics-check-box");
+        shownOnlyCheckBox.selectedProperty().addListener((observable, wasSelected, isSelected) -> {
+            computedSnapshot = null;
+            refreshMetrics();
+        });
+
+        TableColumn<TagStatusRow, String> tagColumn = new TableColumn<>("TAG");
+        tagColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().tagName));
+        tagStatusTable.getColumns().add(tagColumn);
+        for (Status.Stage stage : Status.Stage.values()) {
+            TableColumn<TagStatusRow, Integer> stageColumn =
+                    new TableColumn<>(Status.toUserInputString(stage).toUpperCase());
+            stageColumn.setCellValueFactory(cell ->
+                    new ReadOnlyObjectWrapper<>(cell.getValue().counts[stage.ordinal()]));
+            tagStatusTable.getColumns().add(stageColumn);
+        }
+        TableColumn<TagStatusRow, Integer> totalColumn = new TableColumn<>("TOTAL");
+        totalColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().total));
+        tagStatusTable.getColumns().add(totalColumn);
+        tagStatusTable.setPlaceholder(new Label("No tagged companies"));
+        tagStatusTable.setPrefHeight(250);
+        tagStatusTable.getStyleClass().add("metrics-table");
+
+        tagStatusMetrics.getChildren().addAll(title, shownOnlyCheckBox, tagStatusTable);
+    }
+
+    private void initFunnelNodes() {
+        Label title = new Label("Pipeline Funnel");
+        title.getStyleClass().add("metrics-section-title");
+        noFunnelLabel.getStyleClass().add("metrics-no-data");
+        funnelHeader.getStyleClass().add("metrics-funnel");
+        funnelMetrics.getChildren().addAll(title, noFunnelLabel, funnelHeader);
+        for (Status.Stage stage : Status.Stage.values()) {
+            Label row = new Label();
+            row.getStyleClass().add("metrics-funnel");
+            funnelRows.put(stage, row);
+            funnelMetrics.getChildren().add(row);
+        }
+    }
+
+    private void initLatencyNodes() {
+        Label title = new Label("Command Latency (ms)");
+        title.getStyleClass().add("metrics-section-title");
+        noLatencyLabel.getStyleClass().add("metrics-no-data");
+        latencyHeader.getStyleClass().add("metrics-latency");
+        latencyMetrics.getChildren().addAll(title, noLatencyLabel, latencyHeader);
+    }
+
+    /**
+     * Sets the address book data and the sources of command latency summaries and pipeline funnel statistics,
+     * then updates the display. The window then follows changes to the address book's company list.
      *
      * @param addressBook The address book containing company data
+     * @param snapshotSource Supplies the latest snapshot of the address book's companies
+     * @param latencySource Supplies the latest per-phase command latency summaries
+     * @param funnelSource Supplies the pipeline funnel statistics of the address book
      */
-    public void setData(ReadOnlyAddressBook addressBook) {
-        if (addressBook == null) {
+    public void setData(ReadOnlyAddressBook addressBook, Supplier<CompanyListSnapshot> snapshotSource,
+            Supplier<List<CommandLatencyTracker.Summary>> latencySource, Supplier<PipelineFunnel> funnelSource) {
+        if (addressBook == null || snapshotSource == null) {
             logger.warning("Attempted to set null address book data for metrics");
             return;
         }
+        if (latencySource != null) {
+            this.latencySource = latencySource;
+        }
+        if (funnelSource != null) {
+            this.funnelSource = funnelSource;
+        }
 
-        this.currentAddressBook = addressBook;
+        if (addressBook != currentAddressBook) {
+            if (currentAddressBook != null) {
+                currentAddressBook.getCompanyList().removeListener(companyListListener);
+            }
+            addressBook.getCompanyList().addListener(companyListListener);
+            this.currentAddressBook = addressBook;
+            computedSnapshot = null;
+        }
+        this.snapshotSource = snapshotSource;
         refreshMetrics();
     }
 
     /**
-     * Refreshes the metrics display with the current address book data.
+     * Sets the companies shown in the main window's list, which the tag and status table counts instead of every
+     * company when its "shown companies only" box is ticked.
+     */
+    public void setShownCompanies(ObservableList<Company> shownCompanies) {
+        if (this.shownCompanies != null) {
+            this.shownCompanies.removeListener(shownCompanyListListener);
+        }
+        this.shownCompanies = shownCompanies;
+        if (shownCompanies != null) {
+            shownCompanies.addListener(shownCompanyListListener);
+        }
+        computedSnapshot = null;
+    }
+
+    /**
+     * Refreshes the display once the current pulse's changes to the company list are done if the window is shown.
+     */
+    private void onCompaniesChanged() {
+        if (isShowing() && !isRefreshScheduled) {
+            isRefreshScheduled = true;
+            Platform.runLater(() -> {
+                isRefreshScheduled = false;
+                refreshMetrics();
+            });
+        }
+    }
+
+    /**
+     * Refreshes the metrics display. The status metrics are recomputed in the background if the version of the
+     * company list snapshot moved on since they were last computed; the latency summaries are always re-read, as
+     * they change with every command, and so is the pipeline funnel, which the model keeps up to date and is cheap
+     * to read.
      */
     private void refreshMetrics() {
         if (currentAddressBook == null) {
             return;
         }
 
-        MetricsCalculator.MetricsData metricsData = metricsCalculator.calculateMetrics(currentAddressBook);
-        metricsCalculator.renderMetrics(statusMetrics, metricsData);
+        renderFunnel(funnelSource.get());
+        renderLatency(latencySource.get());
+
+        CompanyListSnapshot snapshot = snapshotSource.get();
+        if (computedSnapshot != null && computedSnapshot.getVersion() == snapshot.getVersion()) {
+            return;
+        }
+        computedSnapshot = snapshot;
+        // The shown companies are only a view on the FX thread, so they are copied when counted on their own
+        List<Company> tagStatusCompanies = shownOnlyCheckBox.isSelected() && shownCompanies != null
+                ? new ArrayList<>(shownCompanies)
+                : snapshot.getCompanies();
+        metricsExecutor.execute(() -> {
+            MetricsCalculator.MetricsData metricsData =
+                    metricsCalculator.calculateMetricsOf(snapshot.getCompanies());
+            TagStatusMatrix tagStatusMatrix = TagStatusMatrix.of(tagStatusCompanies);
+            Platform.runLater(() -> {
+                // A newer computation has been started if the snapshot was replaced
+                if (computedSnapshot == snapshot) {
+                    renderStatusMetrics(metricsData);
+                    renderTagStatusMatrix(tagStatusMatrix);
+                }
+            });
+        });
+    }
+
+    /**
+     * Shows the total and per-status counts of {@code metricsData} as text, a pie chart and a bar chart, reusing
+     * the nodes shown before.
+     */
+    private void renderStatusMetrics(MetricsCalculator.MetricsData metricsData) {
+        boolean hasData = metricsData.hasData();
+        setShown(noDataLabel, !hasData);
+        setShown(totalLabel, hasData);
+        setShown(separator, hasData);
+        setShown(statusCharts, hasData);
+
+        totalLabel.setText(String.format("Total Companies: %d", metricsData.getTotalCompanies()));
+        for (String status : metricsData.getStatusOrder()) {
+            long count = metricsData.getStatusCount(status);
+            double percentage = metricsData.getStatusPercentage(status);
+
+            Label statusLabel = statusLabels.computeIfAbsent(status, this::createStatusLabel);
+            statusLabel.setText(String.format("%s:  %d (%.1f%%)", status, count, percentage));
+            setShown(statusLabel, hasData);
+
+            pieData.computeIfAbsent(status, unused -> {
+                PieChart.Data slice = new PieChart.Data(status, 0);
+                statusPieChart.getData().add(slice);
+                return slice;
+            }).setPieValue(count);
+            barData.computeIfAbsent(status, unused -> {
+                XYChart.Data<String, Number> bar = new XYChart.Data<>(status, 0);
+                barSeries.getData().add(bar);
+                return bar;
+            }).setYValue(count);
+        }
+    }
+
+    private Label createStatusLabel(String status) {
+        Label statusLabel = new Label();
+        String statusUpperCase = status.toUpperCase().replace('_', '-');
+        statusLabel.getStyleClass().addAll("metrics-status",
+                "status-" + statusUpperCase, "status-color-" + statusUpperCase);
+        statusMetrics.getChildren().add(statusLabel);
+        return statusLabel;
     }
 
+    /**
+     * Shows a row per tag of {@code matrix} in the table, keeping the table's sort order.
+     */
+    private void renderTagStatusMatrix(TagStatusMatrix matrix) {
+        List<TagStatusRow> rows = new ArrayList<>(matrix.getTags().size());
+        for (int i = 0; i < matrix.getTags().size(); i++) {
+            int[] counts = new int[Status.Stage.values().length];
+            for (Status.Stage stage : Status.Stage.values()) {
+                counts[stage.ordinal()] = matrix.getCount(i, stage);
+            }
+            rows.add(new TagStatusRow(matrix.getTags().get(i), counts, matrix.getTotal(i)));
+        }
+        tagStatusTable.getItems().setAll(rows);
+        tagStatusTable.sort();
+    }
+
+    /**
+     * Renders one row per stage with the number of companies that reached it, the percentage of those that
+     * advanced to a later stage, and the median number of days spent at it, updating the rows in place.
+     */
+    private void renderFunnel(PipelineFunnel funnel) {
+        boolean hasData = funnel != null && !currentAddressBook.getCompanyList().isEmpty();
+        setShown(noFunnelLabel, !hasData);
+        setShown(funnelHeader, hasData);
+        for (Map.Entry<Status.Stage, Label> entry : funnelRows.entrySet()) {
+            Status.Stage stage = entry.getKey();
+            Label row = entry.getValue();
+            setShown(row, hasData);
+            if (hasData) {
+                OptionalDouble medianDays = funnel.getMedianDaysIn(stage);
+                row.setText(String.format(FUNNEL_ROW_FORMAT, Status.toUserInputString(stage),
+                        funnel.getReachedCount(stage), funnel.getAdvanceRate(stage) * 100,
+                        medianDays.isPresent() ? String.format("%.1f", medianDays.getAsDouble()) : "-"));
+            }
+        }
+    }
+
+    /**
+     * Renders one row per (command word, phase) with its sample count and p50/p99/max latency in milliseconds,
+     * reusing the rows shown before.
+     */
+    private void renderLatency(List<CommandLatencyTracker.Summary> summaries) {
+        setShown(noLatencyLabel, summaries.isEmpty());
+        setShown(latencyHeader, !summaries.isEmpty());
+
+        while (latencyRows.size() < summaries.size()) {
+            Label row = new Label();
+            row.getStyleClass().add("metrics-latency");
+            latencyRows.add(row);
+            latencyMetrics.getChildren().add(row);
+        }
+        for (int i = 0; i < latencyRows.size(); i++) {
+            Label row = latencyRows.get(i);
+            setShown(row, i < summaries.size());
+            if (i < summaries.size()) {
+                CommandLatencyTracker.Summary summary = summaries.get(i);
+                row.setText(String.format(LATENCY_ROW_FORMAT,
+                        summary.getCommandWord(), summary.getPhase().name().toLowerCase(), summary.getCount(),
+                        summary.getP50Nanos() / NANOS_PER_MILLI, summary.getP99Nanos() / NANOS_PER_MILLI,
+                        summary.getMaxNanos() / NANOS_PER_MILLI));
+            }
+        }
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
+    }
 
     /**
      * Shows the metrics window.
@@ -128,4 +480,19 @@ public class MetricsWindow extends UiPart<Stage> {
     public void focus() {
         getRoot().requestFocus();
     }
+
+    /**
+     * A row of the tag and status table.
+     */
+    private static class TagStatusRow {
+        private final String tagName;
+        private final int[] counts;
+        private final int total;
+
+        TagStatusRow(String tagName, int[] counts, int total) {
+            this.tagName = tagName;
+            this.counts = counts;
+            this.total = total;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToDoubleBiFunction;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+
+/**
+ * Measures the width of single-line text for all the cards of the UI, so that each card does not need its own
+ * {@code Text} node per measurement. Widths are cached per (font, text) in a least-recently-used cache, since the
+ * same remarks are measured again on every resize and every time a recycled card shows them.
+ * Also coalesces layout rechecks: a recheck requested while resizing runs once, {@link #RECHECK_DELAY} after
+ * the last request, however many times it was requested.
+ * Must only be used from the JavaFX application thread.
+ */
+public class TextMeasurementService {
+
+    public static final Duration RECHECK_DELAY = Duration.millis(100);
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    private static TextMeasurementService instance;
+
+    private final ToDoubleBiFunction<Font, String> measurer;
+    private final int capacity;
+    private final Map<Key, Double> widths;
+    private final Set<Runnable> pendingRechecks = new LinkedHashSet<>();
+    private PauseTransition recheckTimer;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a service that measures text with {@code measurer} and caches at most {@code capacity} widths.
+     */
+    TextMeasurementService(ToDoubleBiFunction<Font, String> measurer, int capacity) {
+        requireNonNull(measurer);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.measurer = measurer;
+        this.capacity = capacity;
+        this.widths = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+                return size() > TextMeasurementService.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the service shared by the whole UI.
+     */
+    public static TextMeasurementService getInstance() {
+        if (instance == null) {
+            instance = new TextMeasurementService(new TextNodeMeasurer(), DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the width of {@code text} on a single line in {@code font}.
+     */
+    public double widthOf(Font font, String text) {
+        requireNonNull(text);
+        Key key = new Key(font, text);
+        Double width = widths.get(key);
+        if (width != null) {
+            hits++;
+            return width;
+        }
+        misses++;
+        double measured = measurer.applyAsDouble(font, text);
+        widths.put(key, measured);
+        return measured;
+    }
+
+    /**
+     * Runs {@code recheck} once no recheck has been requested for {@link #RECHECK_DELAY}.
+     * Requesting the same {@code recheck} again before then has no further effect.
+     */
+    public void requestRecheck(Runnable recheck) {
+        requireNonNull(recheck);
+        pendingRechecks.add(recheck);
+        if (recheckTimer == null) {
+            recheckTimer = new PauseTransition(RECHECK_DELAY);
+            recheckTimer.setOnFinished(event -> runPendingRechecks());
+        }
+        recheckTimer.playFromStart();
+    }
+
+    /**
+     * Runs every pending recheck, in the order they were first requested.
+     */
+    private void runPendingRechecks() {
+        List<Runnable> rechecks = new ArrayList<>(pendingRechecks);
+        pendingRechecks.clear();
+        rechecks.forEach(Runnable::run);
+    }
+
+    long getHitCount() {
+        return hits;
+    }
+
+    long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Measures text by laying it out in a single reused {@code Text} node.
+     */
+    private static class TextNodeMeasurer implements ToDoubleBiFunction<Font, String> {
+        private final Text textNode = new Text();
+
+        @Override
+        public double applyAsDouble(Font font, String text) {
+            textNode.setFont(font);
+            textNode.setText(text);
+            return textNode.getLayoutBounds().getWidth();
+        }
+    }
+
+    /**
+     * A (font, text) pair. Fonts with the same name, style and size are equal.
+     */
+    private static class Key {
+        private final Font font;
+        private final String text;
+
+        Key(Font font, String text) {
+            this.font = font;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return Objects.equals(font, otherKey.font) && text.equals(otherKey.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(font, text);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncHandler(0, List.of()));
+    }
+
+    @Test
+    public void publish_records_deliveredInOrderOnWorkerThread() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, List.of(recorder));
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.publish(new LogRecord(Level.WARNING, "second"));
+        handler.publish(new LogRecord(Level.FINE, "third"));
+        handler.close();
+
+        assertEquals(List.of("first", "second", "third"), recorder.messages);
+        assertEquals(List.of("async-logging"), recorder.threadNames.stream().distinct().toList());
+        assertTrue(recorder.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_notDelivered() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, List.of(recorder));
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.close();
+
+        assertEquals(List.of("info"), recorder.messages);
+    }
+
+    @Test
+    public void publish_bufferFull_dropsRecordsAndReportsDrops() throws InterruptedException {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recorder = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                super.publish(record);
+                if (record.getMessage().equals("blocking")) {
+                    delivering.countDown();
+                    awaitQuietly(release);
+                }
+            }
+        };
+        AsyncHandler handler = new AsyncHandler(1, List.of(recorder));
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        delivering.await();
+
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        handler.publish(new LogRecord(Level.FINE, "also dropped"));
+        assertEquals(2, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("blocking", "2 log records were dropped as the log buffer was full", "queued"),
+                recorder.messages);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A handler that records the messages it is given and the threads it is given them on.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
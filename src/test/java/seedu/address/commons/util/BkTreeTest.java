@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void search_emptyTree_returnsEmptyList() {
+        assertTrue(tree.search("google", 2).isEmpty());
+    }
+
+    @Test
+    public void search_withinDistance_returnsCloseWords() {
+        List.of("google", "goggles", "meta", "amazon", "apple").forEach(tree::add);
+        assertEquals(Set.of("google", "goggles"), new HashSet<>(tree.search("gogle", 2)));
+        assertEquals(Set.of("google"), new HashSet<>(tree.search("gogle", 1)));
+        assertEquals(Set.of("amazon"), new HashSet<>(tree.search("amazon", 0)));
+    }
+
+    @Test
+    public void search_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.search("a", -1));
+    }
+
+    @Test
+    public void remove_word_excludedFromSearchButOthersStillFound() {
+        List.of("google", "goggle", "goodle").forEach(tree::add);
+        tree.remove("goggle");
+        assertFalse(tree.contains("goggle"));
+        assertEquals(2, tree.size());
+        assertEquals(Set.of("google", "goodle"), new HashSet<>(tree.search("google", 2)));
+
+        tree.add("goggle");
+        assertTrue(tree.contains("goggle"));
+        assertEquals(3, tree.size());
+    }
+
+    @Test
+    public void search_afterManyRemovals_matchesBruteForce() {
+        Random random = new Random(7);
+        Set<String> live = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            tree.add(word);
+            live.add(word);
+        }
+        for (String word : live.stream().limit(400).collect(Collectors.toList())) {
+            tree.remove(word);
+            live.remove(word);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            String query = randomWord(random);
+            Set<String> expected = live.stream()
+                    .filter(word -> StringUtil.damerauLevenshteinDistance(query, word) <= 2)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(tree.search(query, 2)));
+        }
+        assertEquals(live.size(), tree.size());
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_noElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(NoSuchElementException.class, () -> list.iterator().next());
+    }
+
+    @Test
+    public void copyOf_manyLeaves_sameElementsAndBalanced() {
+        List<Integer> elements = range(1000);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(elements, iterate(list));
+        // 1000 elements fill 32 leaves, which a balanced tree holds at height 5
+        assertEquals(5, list.height());
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void updates_originalUnchanged() {
+        PersistentList<Integer> original = PersistentList.copyOf(range(100));
+        PersistentList<Integer> replaced = original.with(50, -1);
+        PersistentList<Integer> inserted = original.plus(0, -1);
+        PersistentList<Integer> removed = original.minus(99);
+
+        assertEquals(range(100), original.asList());
+        assertEquals(-1, replaced.get(50));
+        assertEquals(100, replaced.size());
+        assertEquals(-1, inserted.get(0));
+        assertEquals(0, inserted.get(1));
+        assertEquals(101, inserted.size());
+        assertEquals(range(99), removed.asList());
+    }
+
+    @Test
+    public void updates_invalidIndexOrElement_throwsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(NullPointerException.class, () -> list.plus(null));
+        assertThrows(NullPointerException.class, () -> list.with(0, null));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayListAndStayBalanced() {
+        Random random = new Random(47);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        assertEquals(expected, iterate(list));
+        // An AVL tree is at most 1.44 times as high as a perfect tree with the same number of leaves
+        assertTrue(list.height() <= 1.45 * (Math.log(list.size()) / Math.log(2)));
+    }
+
+    @Test
+    public void minus_allElements_empty() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(100));
+        for (int i = 0; i < 100; i++) {
+            list = list.minus(list.size() / 2);
+        }
+        assertTrue(list.isEmpty());
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+        return elements;
+    }
+
+    private static <E> List<E> iterate(PersistentList<E> list) {
+        List<E> elements = new ArrayList<>();
+        Iterator<E> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            elements.add(iterator.next());
+        }
+        return elements;
+    }
+}
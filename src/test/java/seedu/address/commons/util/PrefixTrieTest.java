@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void complete_caseInsensitivePrefix_alphabeticalMatches() {
+        List.of("Google Singapore", "google", "Goldman Sachs", "Meta").forEach(trie::add);
+        assertEquals(List.of("Goldman Sachs", "google", "Google Singapore"), trie.complete("GO", 10));
+        assertEquals(List.of("Goldman Sachs"), trie.complete("go", 1));
+        assertEquals(List.of("Meta"), trie.complete("meta", 10));
+        assertTrue(trie.complete("x", 10).isEmpty());
+    }
+
+    @Test
+    public void complete_emptyPrefix_returnsAllUpToLimit() {
+        List.of("b", "a", "c").forEach(trie::add);
+        assertEquals(List.of("a", "b"), trie.complete("", 2));
+    }
+
+    @Test
+    public void complete_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("a", 0));
+    }
+
+    @Test
+    public void remove_sharedKey_keptUntilLastOccurrenceRemoved() {
+        trie.add("remote");
+        trie.add("Remote");
+        trie.add("remote-friendly");
+        assertEquals(2, trie.size());
+
+        trie.remove("remote");
+        assertEquals(List.of("remote", "remote-friendly"), trie.complete("rem", 10));
+        trie.remove("REMOTE");
+        assertEquals(List.of("remote-friendly"), trie.complete("rem", 10));
+        trie.remove("remote-friendly");
+        assertEquals(0, trie.size());
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_absentKey_noChange() {
+        trie.add("alpha");
+        trie.remove("alp");
+        trie.remove("beta");
+        assertEquals(List.of("alpha"), trie.complete("a", 10));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,38 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("google", "google"));
+        assertEquals(6, StringUtil.editDistance("", "google"));
+        assertEquals(1, StringUtil.editDistance("gogle", "google")); // insertion
+        assertEquals(1, StringUtil.editDistance("googel", "google")); // adjacent transposition
+        assertEquals(1, StringUtil.editDistance("goofle", "google")); // substitution
+        assertEquals(3, StringUtil.editDistance("ca", "abc")); // restricted: no edits within a transposition
+        assertEquals(1, StringUtil.editDistance("Google", "google")); // case-sensitive
+    }
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "a"));
+    }
+
+    //---------------- Tests for damerauLevenshteinDistance --------------------------------------
+
+    @Test
+    public void damerauLevenshteinDistance() {
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("google", "google"));
+        assertEquals(6, StringUtil.damerauLevenshteinDistance("google", ""));
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("googel", "google")); // adjacent transposition
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("ca", "abc")); // transposition, then insertion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("Google", "google")); // case-sensitive
+    }
+
+    @Test
+    public void damerauLevenshteinDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.damerauLevenshteinDistance("a", null));
+    }
+
 }
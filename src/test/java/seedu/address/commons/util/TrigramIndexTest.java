@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.util.TrigramIndex.NO_CANDIDATE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void add_decreasingId_throwsIllegalArgumentException() {
+        index.add(5, "list");
+        assertThrows(IllegalArgumentException.class, () -> index.add(5, "find"));
+    }
+
+    @Test
+    public void latestCandidate_allTrigramsPresent_returnsLatestIdAtOrBefore() {
+        index.add(0, "find Alpha");
+        index.add(1, "list");
+        index.add(2, "find alphabet");
+        index.add(3, "filter s/applied");
+
+        assertEquals(2, index.latestCandidate("ALPHA", 3));
+        assertEquals(2, index.latestCandidate("alpha", 2));
+        assertEquals(0, index.latestCandidate("alpha", 1));
+        assertEquals(NO_CANDIDATE, index.latestCandidate("alpha", -1));
+        assertEquals(NO_CANDIDATE, index.latestCandidate("delete", 3));
+    }
+
+    @Test
+    public void latestCandidate_trigramsInDifferentOrder_isStillCandidate() {
+        index.add(0, "abcxbcd");
+        // "abcd" has trigrams "abc" and "bcd", which "abcxbcd" contains although it does not contain "abcd"
+        assertEquals(0, index.latestCandidate("abcd", 0));
+    }
+
+    @Test
+    public void latestCandidate_shortQuery_returnsAtOrBefore() {
+        assertEquals(7, index.latestCandidate("ab", 7));
+    }
+
+    @Test
+    public void remove_oldestAndMiddle_noLongerCandidates() {
+        for (int i = 0; i < 20; i++) {
+            index.add(i, "edit " + i + " t/remote");
+        }
+        index.remove(0, "edit 0 t/remote");
+        index.remove(10, "edit 10 t/remote");
+
+        assertEquals(9, index.latestCandidate("remote", 10));
+        assertEquals(1, index.latestCandidate("remote", 1));
+        assertEquals(NO_CANDIDATE, index.latestCandidate("remote", 0));
+        assertEquals(NO_CANDIDATE, index.latestCandidate("it 10 ", 19));
+    }
+
+    @Test
+    public void clear_removesEverything() {
+        index.add(0, "list");
+        index.clear();
+        assertEquals(NO_CANDIDATE, index.latestCandidate("list", 0));
+        index.add(0, "list");
+        assertEquals(0, index.latestCandidate("list", 0));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class CommandCompleterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final CommandCompleter completer = new CommandCompleter(addressBook.getCompanyList());
+
+    @Test
+    public void complete_namePrefix_completesNameWithSpaces() {
+        assertEquals(List.of("add n/Holly Design"), completer.complete("add n/Ho"));
+        assertEquals(List.of("edit 1 n/Global Trading Co"), completer.complete("edit 1 n/global t"));
+    }
+
+    @Test
+    public void complete_tagAndStatusPrefixes_completed() {
+        assertEquals(List.of("edit 1 t/supplier"), completer.complete("edit 1 t/sup"));
+        assertEquals(List.of("edit 1 n/X s/tech-interview", "edit 1 n/X s/to-apply"),
+                completer.complete("edit 1 n/X s/t"));
+        assertTrue(completer.complete("edit 1 t/sup plier").isEmpty());
+    }
+
+    @Test
+    public void complete_queryTerms_completedAndQuotedIfNeeded() {
+        assertEquals(List.of("q status:applied tag:partner"), completer.complete("q status:applied tag:par"));
+        assertEquals(List.of("q (name:\"Global Trading Co\""), completer.complete("q (name:glob"));
+        assertEquals(List.of("q name:\"Global Trading Co\""), completer.complete("q name:\"Glob"));
+    }
+
+    @Test
+    public void complete_nothingToComplete_returnsEmptyList() {
+        assertTrue(completer.complete("list").isEmpty());
+        assertTrue(completer.complete("find gl").isEmpty());
+        assertTrue(completer.complete("edit 1 t/zzz").isEmpty());
+    }
+
+    @Test
+    public void complete_companyListChanges_completionsFollow() {
+        Company renamed = new CompanyBuilder(ALPHA).withName("Zeta Labs").withTags("zeta").build();
+        addressBook.setCompany(ALPHA, renamed);
+        assertEquals(List.of("add n/Zeta Labs"), completer.complete("add n/ze"));
+        assertTrue(completer.complete("add n/Alpha").isEmpty());
+        assertEquals(List.of("add t/zeta"), completer.complete("add t/z"));
+
+        // "supplier" is still used by DELTA, "client" only by BETA
+        assertEquals(List.of("t/supplier"), completer.complete("t/sup"));
+        addressBook.removeCompany(BETA);
+        assertTrue(completer.complete("t/cli").isEmpty());
+
+        addressBook.setCompanies(List.of());
+        assertTrue(completer.complete("n/").isEmpty());
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandLatencyTracker.Phase;
+
+public class CommandLatencyTrackerTest {
+
+    @Test
+    public void getSummaries_noRecords_returnsEmptyList() {
+        assertTrue(new CommandLatencyTracker().getSummaries().isEmpty());
+    }
+
+    @Test
+    public void getSummaries_multipleCommands_orderedByCommandWordThenPhase() {
+        CommandLatencyTracker tracker = new CommandLatencyTracker();
+        tracker.record("list", Phase.SAVE, 30);
+        tracker.record("find", Phase.EXECUTE, 20);
+        tracker.record("find", Phase.PARSE, 10);
+        tracker.record("find", Phase.PARSE, 12);
+
+        List<CommandLatencyTracker.Summary> summaries = tracker.getSummaries();
+        assertEquals(3, summaries.size());
+
+        assertEquals("find", summaries.get(0).getCommandWord());
+        assertEquals(Phase.PARSE, summaries.get(0).getPhase());
+        assertEquals(2, summaries.get(0).getCount());
+        assertEquals(12, summaries.get(0).getMaxNanos());
+
+        assertEquals(Phase.EXECUTE, summaries.get(1).getPhase());
+        assertEquals("list", summaries.get(2).getCommandWord());
+        assertEquals(30, summaries.get(2).getP99Nanos());
+    }
+}
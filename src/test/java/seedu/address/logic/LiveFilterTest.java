@@ -0,0 +1,99 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+import static seedu.address.testutil.TypicalCompanies.DELTA;
+import static seedu.address.testutil.TypicalCompanies.HOON;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
+
+public class LiveFilterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final LiveFilter liveFilter = new LiveFilter(model, new AddressBookParser());
+
+    @Test
+    public void isLiveFilterCommand() {
+        assertTrue(LiveFilter.isLiveFilterCommand("find alpha"));
+        assertTrue(LiveFilter.isLiveFilterCommand("  find ~gogle "));
+        assertFalse(LiveFilter.isLiveFilterCommand("find "));
+        assertFalse(LiveFilter.isLiveFilterCommand("finder alpha"));
+        assertFalse(LiveFilter.isLiveFilterCommand("delete 1"));
+    }
+
+    @Test
+    public void prepare_invalidOrOtherCommand_returnsEmpty() {
+        assertTrue(liveFilter.prepare("list").isEmpty());
+        assertTrue(liveFilter.prepare("find").isEmpty());
+    }
+
+    @Test
+    public void prepareAndEvaluate_findCommand_returnsMatches() {
+        LiveFilter.Query query = liveFilter.prepare("find alpha delta").get();
+        assertEquals(new NameContainsKeywordsPredicate(List.of("alpha", "delta")), query.getPredicate());
+        assertEquals(Set.of(ALPHA, DELTA), query.evaluate(() -> false).get());
+    }
+
+    @Test
+    public void evaluate_dataChangedSincePrepared_testsCompaniesAsPrepared() {
+        LiveFilter.Query query = liveFilter.prepare("find ~1 hon").get();
+        model.addCompany(HOON);
+        assertEquals(Set.of(), query.evaluate(() -> false).get());
+        assertEquals(Set.of(HOON), liveFilter.prepare("find ~1 hon").get().evaluate(() -> false).get());
+    }
+
+    @Test
+    public void evaluate_cancelled_returnsEmpty() {
+        LiveFilter.Query query = liveFilter.prepare("find alpha").get();
+        assertTrue(query.evaluate(() -> true).isEmpty());
+    }
+
+    @Test
+    public void apply_dataUnchanged_filtersListUntilCancelled() {
+        LiveFilter.Query query = liveFilter.prepare("find beta").get();
+        assertTrue(liveFilter.apply(query, query.evaluate(() -> false).get()));
+        assertEquals(List.of(BETA), model.getFilteredCompanyList());
+
+        // a second result during the same session does not replace the filter to restore
+        LiveFilter.Query narrower = liveFilter.prepare("find alpha").get();
+        liveFilter.apply(narrower, narrower.evaluate(() -> false).get());
+        assertEquals(List.of(ALPHA), model.getFilteredCompanyList());
+
+        liveFilter.cancel();
+        assertEquals(getTypicalAddressBook().getCompanyList(), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void apply_dataChangedSincePrepared_ignored() {
+        LiveFilter.Query query = liveFilter.prepare("find alpha").get();
+        Set<Company> matches = query.evaluate(() -> false).get();
+        model.addCompany(HOON);
+
+        assertFalse(liveFilter.apply(query, matches));
+        liveFilter.cancel();
+        assertEquals(model.getAddressBook().getCompanyList(), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void cancel_afterCommit_keepsFilter() {
+        LiveFilter.Query query = liveFilter.prepare("find beta").get();
+        liveFilter.apply(query, query.evaluate(() -> false).get());
+        liveFilter.commit();
+        liveFilter.cancel();
+        assertEquals(List.of(BETA), model.getFilteredCompanyList());
+    }
+}
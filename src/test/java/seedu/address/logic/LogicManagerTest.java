@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AIRBUS;
@@ -15,14 +16,21 @@ import static seedu.address.testutil.TypicalCompanies.AIRBUS;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -72,6 +80,64 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsEveryPhase() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        List<CommandLatencyTracker.Summary> summaries = logic.getCommandLatencySummaries();
+        assertEquals(CommandLatencyTracker.Phase.values().length, summaries.size());
+        assertTrue(summaries.stream().allMatch(summary -> summary.getCommandWord().equals(ListCommand.COMMAND_WORD)
+                && summary.getCount() == 1));
+    }
+
+    @Test
+    public void execute_invalidCommand_recordsNothing() {
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertTrue(logic.getCommandLatencySummaries().isEmpty());
+        assertTrue(logic.getCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void execute_validCommands_appendedToCommandHistory() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD + " ");
+        assertEquals(List.of(ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD + " "), logic.getCommandHistory());
+    }
+
+    @Test
+    public void execute_undoAfterAdd_removesAddedCompany() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AIRBUS;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        CommandResult result = logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, addCommand), result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getCompanyList().isEmpty());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_validCommand_emitsFlightRecorderEvents() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        Map<String, RecordedEvent> events = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+            events.put(event.getEventType().getName(), event);
+        }
+        assertTrue(events.keySet().containsAll(List.of("seedu.address.CommandParse", "seedu.address.CommandExecute",
+                "seedu.address.Filter", "seedu.address.JsonSerialize", "seedu.address.JsonWrite")));
+        RecordedEvent executeEvent = events.get("seedu.address.CommandExecute");
+        assertEquals(ListCommand.COMMAND_WORD, executeEvent.getString("commandWord"));
+        assertTrue(executeEvent.getBoolean("success"));
+        assertTrue(events.get("seedu.address.JsonWrite").getLong("bytesWritten") > 0);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -11,6 +11,9 @@ import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,10 +23,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.CacheStatistics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanyListSnapshot;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.FullTextQuery;
+import seedu.address.model.company.PipelineFunnel;
+import seedu.address.model.company.Status;
+import seedu.address.model.company.TextIndex;
 import seedu.address.testutil.CompanyBuilder;
 
 public class AddCommandTest {
@@ -345,6 +356,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitAddressBook(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCompany(Company company) {
             throw new AssertionError("This method should not be called.");
@@ -369,6 +395,87 @@ public class AddCommandTest {
         public void updateFilteredCompanyList(Predicate<Company> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean updateFilteredCompanyList(Predicate<Company> predicate, long dataVersion,
+                Set<Company> matches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Company> showRankedCompanies(FullTextQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCompanySortOrder(CompanySortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompanySortOrder getCompanySortOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCompanyGrouping(CompanyGrouping grouping) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompanyGrouping getCompanyGrouping() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Company> getFilteredCompanyPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompanyListSnapshot getCompanySnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFilterNanos() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countCompaniesAt(Status.Stage stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CacheStatistics getFilterCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PipelineFunnel getPipelineFunnel() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TextIndex getTextIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<TextIndex> getBuiltTextIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTextIndex(TextIndex textIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
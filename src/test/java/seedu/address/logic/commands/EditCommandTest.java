@@ -19,6 +19,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_COMPANY;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -35,6 +36,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CompanyBuilder;
 import seedu.address.testutil.EditCompanyDescriptorBuilder;
@@ -227,6 +233,29 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_batchEditSortedList_editsCompaniesShownAtIndices() {
+        // Adding tags moves each edited company to the end of a list sorted by tag count
+        CompanySortOrder byTags = new CompanySortOrder(List.of(new Criterion(Key.TAGS, false)));
+        model.setCompanySortOrder(byTags);
+        List<Index> indices = Arrays.asList(INDEX_FIRST_COMPANY, INDEX_SECOND_COMPANY);
+        EditCompanyDescriptor descriptor = new EditCompanyDescriptorBuilder()
+                .withTags("applied", "remote", "urgent", "startup").build();
+        EditCommand editCommand = new EditCommand(indices, descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_BATCH_EDIT_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setCompanySortOrder(byTags);
+        for (Index index : indices) {
+            Company company = model.getFilteredCompanyList().get(index.getZeroBased());
+            expectedModel.setCompany(company, new CompanyBuilder(company)
+                    .withTags("applied", "remote", "urgent", "startup").build());
+        }
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_batchEditSingleIndexUnfilteredList_success() {
         // Single index in a list should work like normal edit
@@ -401,6 +430,37 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_statusChanged_statusHistoryRecorded() throws Exception {
+        Company company = new CompanyBuilder().withStatus("applied").build();
+        model.setCompany(model.getFilteredCompanyList().get(0), company);
+        EditCompanyDescriptor descriptor = new EditCompanyDescriptorBuilder().withStatus("oa").build();
+
+        long before = Instant.now().getEpochSecond();
+        new EditCommand(INDEX_FIRST_COMPANY, descriptor).execute(model);
+        long after = Instant.now().getEpochSecond();
+
+        StatusHistory history = model.getFilteredCompanyList().get(0).getStatusHistory();
+        assertEquals(2, history.size());
+        assertEquals(Status.Stage.APPLIED, history.getStage(0));
+        assertEquals(StatusHistory.UNKNOWN_TIME, history.getEpochSecond(0));
+        assertEquals(Status.Stage.OA, history.getStage(1));
+        assertTrue(before <= history.getEpochSecond(1) && history.getEpochSecond(1) <= after);
+        assertEquals(1, model.getPipelineFunnel().getTransitionCount(Status.Stage.APPLIED, Status.Stage.OA));
+    }
+
+    @Test
+    public void execute_statusUnchanged_statusHistoryUnchanged() throws Exception {
+        Company company = new CompanyBuilder().withStatus("applied").build();
+        model.setCompany(model.getFilteredCompanyList().get(0), company);
+        EditCompanyDescriptor descriptor = new EditCompanyDescriptorBuilder().withStatus("applied")
+                .withRemark(VALID_REMARK_BOEING).build();
+
+        new EditCommand(INDEX_FIRST_COMPANY, descriptor).execute(model);
+
+        assertTrue(model.getFilteredCompanyList().get(0).getStatusHistory().isEmpty());
+    }
+
     @Test
     public void execute_batchEditRemark_success() {
         List<Index> indices = Arrays.asList(INDEX_FIRST_COMPANY, INDEX_THIRD_COMPANY);
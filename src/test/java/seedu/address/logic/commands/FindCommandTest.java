@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.company.FuzzyNamePredicate;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 /**
@@ -74,6 +75,24 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CONS, ELITE, FUSION), model.getFilteredCompanyList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_misspelledCompaniesFound() {
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, 2);
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate(Arrays.asList("Consolidatd", "fsuion"), 2);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredCompanyList(predicate::test);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CONS, FUSION), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordBeyondDistance_noCompanyFound() {
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, 0);
+        FindCommand command = new FindCommand(new FuzzyNamePredicate(Arrays.asList("fsuoin"), 1));
+        expectedModel.updateFilteredCompanyList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.CompanyGrouping;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code GroupCommand}.
+ */
+public class GroupCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_status_groupsShownCompanies() {
+        expectedModel.setCompanyGrouping(CompanyGrouping.STATUS);
+        String expectedMessage = String.format(GroupCommand.MESSAGE_SUCCESS, "status");
+        assertCommandSuccess(new GroupCommand(CompanyGrouping.STATUS), model, expectedMessage, expectedModel);
+        assertEquals(CompanyGrouping.STATUS, model.getCompanyGrouping());
+    }
+
+    @Test
+    public void execute_none_stopsGrouping() {
+        model.setCompanyGrouping(CompanyGrouping.TAG);
+        assertCommandSuccess(new GroupCommand(CompanyGrouping.NONE), model, GroupCommand.MESSAGE_NOT_GROUPED,
+                expectedModel);
+        assertEquals(CompanyGrouping.NONE, model.getCompanyGrouping());
+    }
+
+    @Test
+    public void equals() {
+        GroupCommand groupCommand = new GroupCommand(CompanyGrouping.STATUS);
+
+        // same values -> returns true
+        assertTrue(groupCommand.equals(new GroupCommand(CompanyGrouping.STATUS)));
+
+        // same object -> returns true
+        assertTrue(groupCommand.equals(groupCommand));
+
+        // null -> returns false
+        assertFalse(groupCommand.equals(null));
+
+        // different grouping -> returns false
+        assertFalse(groupCommand.equals(new GroupCommand(CompanyGrouping.TAG)));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.DELTA;
+import static seedu.address.testutil.TypicalCompanies.HOLLY;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPredicate;
+import seedu.address.testutil.CompanyBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand first = new QueryCommand(new QueryPredicate(new FieldQuery(Field.TAG, "a")));
+        QueryCommand second = new QueryCommand(new QueryPredicate(new FieldQuery(Field.TAG, "b")));
+
+        // same object -> returns true
+        assertTrue(first.equals(first));
+
+        // same values -> returns true
+        assertTrue(first.equals(new QueryCommand(new QueryPredicate(new FieldQuery(Field.TAG, "a")))));
+
+        // different types -> returns false
+        assertFalse(first.equals(1));
+
+        // null -> returns false
+        assertFalse(first.equals(null));
+
+        // different query -> returns false
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void execute_indexedConjunction_companiesFound() {
+        QueryPredicate predicate = new QueryPredicate(new AndQuery(List.of(
+                new FieldQuery(Field.TAG, "supplier"), new NotQuery(new FieldQuery(Field.NAME, "delta")))));
+        assertQuery(predicate, ALPHA);
+    }
+
+    @Test
+    public void execute_indexedDisjunction_companiesFoundInListOrder() {
+        QueryPredicate predicate = new QueryPredicate(new OrQuery(List.of(
+                new FieldQuery(Field.EMAIL, "hollydesign.com"), new FieldQuery(Field.STATUS, "hr-interview"))));
+        assertQuery(predicate, DELTA, HOLLY);
+    }
+
+    @Test
+    public void execute_scanOnly_companiesFound() {
+        QueryPredicate predicate = new QueryPredicate(new FieldQuery(Field.REMARK, "SUPPLIER OF"));
+        assertQuery(predicate, DELTA);
+    }
+
+    @Test
+    public void execute_editWhileFiltered_editedCompanyRetested() {
+        new QueryCommand(new QueryPredicate(new FieldQuery(Field.TAG, "supplier"))).execute(model);
+
+        Company stillMatching = new CompanyBuilder(ALPHA).withRemark("Renamed remark").build();
+        model.setCompany(ALPHA, stillMatching);
+        Company noLongerMatching = new CompanyBuilder(DELTA).withTags("client").build();
+        model.setCompany(DELTA, noLongerMatching);
+
+        assertEquals(Arrays.asList(stillMatching), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void plan_selectiveOperandChosen() {
+        Query query = new AndQuery(List.of(new FieldQuery(Field.STATUS, "to-apply"),
+                new FieldQuery(Field.PHONE, "94351253"), new FieldQuery(Field.NAME, "alpha")));
+        QueryPredicate predicate = new QueryPredicate(query);
+        assertEquals(1, predicate.plan(getTypicalAddressBook().getCompanyIndex()).getCost());
+        assertTrue(predicate.plan(getTypicalAddressBook().getCompanyIndex()).getDescription()
+                .startsWith("index(phone=94351253)"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryPredicate predicate = new QueryPredicate(new FieldQuery(Field.TAG, "remote"));
+        QueryCommand command = new QueryCommand(predicate);
+        assertEquals(QueryCommand.class.getCanonicalName() + "{predicate=" + predicate + "}", command.toString());
+    }
+
+    private void assertQuery(QueryPredicate predicate, Company... expected) {
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, expected.length);
+        expectedModel.updateFilteredCompanyList(predicate::test);
+        assertCommandSuccess(new QueryCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(expected), model.getFilteredCompanyList());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCompanies.AIRBUS;
+import static seedu.address.testutil.TypicalCompanies.BOEING;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_redoesCommand() {
+        model.addCompany(BOEING);
+        model.commitAddressBook("add n/Boeing");
+        model.undoAddressBook();
+        expectedModel.addCompany(BOEING);
+
+        String expectedMessage = String.format(RedoCommand.MESSAGE_SUCCESS, "add n/Boeing");
+        assertCommandSuccess(new RedoCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_throwsCommandException() {
+        model.addCompany(BOEING);
+        model.commitAddressBook("add n/Boeing");
+        model.undoAddressBook();
+        model.addCompany(AIRBUS);
+        model.commitAddressBook("add n/Airbus");
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCompanies.GLOBAL;
+import static seedu.address.testutil.TypicalCompanies.HOLLY;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.FullTextQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand first = new SearchCommand(new FullTextQuery("design", 10));
+
+        // same object -> returns true
+        assertTrue(first.equals(first));
+
+        // same values -> returns true
+        assertTrue(first.equals(new SearchCommand(new FullTextQuery("design", 10))));
+
+        // null -> returns false
+        assertFalse(first.equals(null));
+
+        // different query or limit -> returns false
+        assertFalse(first.equals(new SearchCommand(new FullTextQuery("trading", 10))));
+        assertFalse(first.equals(new SearchCommand(new FullTextQuery("design", 5))));
+    }
+
+    @Test
+    public void execute_matchingWords_rankedCompaniesListed() {
+        // "handles" appears in the remarks of both; "street" in both addresses; "furniture" only in HOLLY's remark
+        FullTextQuery query = new FullTextQuery("handles furniture", 10);
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, 2)
+                + String.format(SearchCommand.MESSAGE_RANKING, "1. Holly Design, 2. Global Trading Co");
+        expectedModel.showRankedCompanies(query);
+        assertCommandSuccess(new SearchCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(HOLLY, GLOBAL), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void execute_thenFilteredAgain_returnsToSortOrder() {
+        new SearchCommand(new FullTextQuery("handles furniture", 10)).execute(model);
+        model.updateFilteredCompanyList(company -> company == GLOBAL || company == HOLLY);
+        assertEquals(Arrays.asList(GLOBAL, HOLLY), model.getFilteredCompanyList());
+    }
+
+    @Test
+    public void execute_limit_onlyBestListed() {
+        FullTextQuery query = new FullTextQuery("handles furniture", 1);
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, 1)
+                + String.format(SearchCommand.MESSAGE_RANKING, "1. Holly Design");
+        expectedModel.updateFilteredCompanyList(company -> company == HOLLY);
+        assertCommandSuccess(new SearchCommand(query), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatch_zeroListed() {
+        String expectedMessage = String.format(MESSAGE_COMPANIES_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredCompanyList(unused -> false);
+        assertCommandSuccess(new SearchCommand(new FullTextQuery("zeppelin", 10)), model, expectedMessage,
+                expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredCompanyList());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SortCommand}.
+ */
+public class SortCommandTest {
+
+    private static final CompanySortOrder BY_STATUS_THEN_NAME_DESCENDING = new CompanySortOrder(List.of(
+            new Criterion(Key.STATUS, false), new Criterion(Key.NAME, true)));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_keys_sortsShownCompanies() {
+        expectedModel.setCompanySortOrder(BY_STATUS_THEN_NAME_DESCENDING);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "status, then name (descending)");
+        assertCommandSuccess(new SortCommand(BY_STATUS_THEN_NAME_DESCENDING), model, expectedMessage,
+                expectedModel);
+        assertEquals(BY_STATUS_THEN_NAME_DESCENDING, model.getCompanySortOrder());
+    }
+
+    @Test
+    public void execute_insertionOrder_restoresOrder() {
+        model.setCompanySortOrder(BY_STATUS_THEN_NAME_DESCENDING);
+        assertCommandSuccess(new SortCommand(CompanySortOrder.INSERTION_ORDER), model,
+                SortCommand.MESSAGE_INSERTION_ORDER, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(BY_STATUS_THEN_NAME_DESCENDING);
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(new SortCommand(new CompanySortOrder(
+                BY_STATUS_THEN_NAME_DESCENDING.getCriteria()))));
+
+        // same object -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+
+        // null -> returns false
+        assertFalse(sortCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortCommand.equals(new SortCommand(CompanySortOrder.INSERTION_ORDER)));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.MemoryFootprint;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_typicalAddressBook_reportsEveryCategory() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        MemoryFootprint footprint = MemoryFootprint.of(model.getAddressBook().getCompanyList());
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(StatsCommand.MESSAGE_MEMORY_HEADER,
+                footprint.getCompanyCount(), StatsCommand.toReadableSize(footprint.getTotalBytes()),
+                StatsCommand.toReadableSize(
+                        Math.round((double) footprint.getTotalBytes() / footprint.getCompanyCount())))));
+        for (MemoryFootprint.Category category : MemoryFootprint.Category.values()) {
+            assertTrue(feedback.contains("\n" + category.getLabel() + ": "));
+        }
+        assertTrue(feedback.contains("Duplicate strings: "));
+        assertTrue(feedback.contains("Duplicate tags: "));
+    }
+
+    @Test
+    public void execute_emptyAddressBook_reportsNothingUsed() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(StatsCommand.MESSAGE_MEMORY_HEADER, 0, "0 B", "0 B")));
+    }
+
+    @Test
+    public void toReadableSize_variousSizes_usesLargestWholeUnit() {
+        assertEquals("0 B", StatsCommand.toReadableSize(0));
+        assertEquals("1023 B", StatsCommand.toReadableSize(1023));
+        assertEquals("1.5 KB", StatsCommand.toReadableSize(1536));
+        assertEquals("2.0 MB", StatsCommand.toReadableSize(2L * 1024 * 1024));
+        assertEquals("3072.0 GB", StatsCommand.toReadableSize(3L * 1024 * 1024 * 1024 * 1024));
+    }
+}
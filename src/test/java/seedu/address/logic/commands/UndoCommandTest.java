@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showCompanyAtIndex;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterClear_restoresCompanies() {
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook(ClearCommand.COMMAND_WORD);
+
+        String expectedMessage = String.format(UndoCommand.MESSAGE_SUCCESS, ClearCommand.COMMAND_WORD);
+        assertCommandSuccess(new UndoCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_showsAllCompanies() {
+        model.deleteCompany(model.getFilteredCompanyList().get(0));
+        model.commitAddressBook("delete 1");
+        showCompanyAtIndex(model, INDEX_FIRST_COMPANY);
+
+        String expectedMessage = String.format(UndoCommand.MESSAGE_SUCCESS, "delete 1");
+        assertCommandSuccess(new UndoCommand(), model, expectedMessage, expectedModel);
+    }
+}
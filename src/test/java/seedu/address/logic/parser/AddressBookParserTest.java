@@ -20,12 +20,26 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditCompanyDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MetricsCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+import seedu.address.model.company.FullTextQuery;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.QueryPredicate;
 import seedu.address.testutil.CompanyBuilder;
 import seedu.address.testutil.CompanyUtil;
 import seedu.address.testutil.EditCompanyDescriptorBuilder;
@@ -63,6 +77,30 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_COMPANY, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " status:desc");
+        assertEquals(new SortCommand(new CompanySortOrder(List.of(new Criterion(Key.STATUS, true)))), command);
+    }
+
+    @Test
+    public void parseCommand_group() throws Exception {
+        GroupCommand command = (GroupCommand) parser.parseCommand(GroupCommand.COMMAND_WORD + " tag");
+        assertEquals(new GroupCommand(CompanyGrouping.TAG), command);
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -77,6 +115,18 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " tag:remote");
+        assertEquals(new QueryCommand(new QueryPredicate(new FieldQuery(FieldQuery.Field.TAG, "remote"))), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " system design");
+        assertEquals(new SearchCommand(new FullTextQuery("system design", SearchCommand.DEFAULT_LIMIT)), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -89,6 +139,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " " + StatsCommand.SUBJECT_MEMORY)
+                instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
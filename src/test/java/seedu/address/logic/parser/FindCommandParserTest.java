@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.company.FuzzyNamePredicate;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -32,4 +33,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Apple \n \t Bayer  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        // default distance
+        assertParseSuccess(parser, " ~gogle meta", new FindCommand(
+                new FuzzyNamePredicate(Arrays.asList("gogle", "meta"), FuzzyNamePredicate.DEFAULT_MAX_DISTANCE)));
+
+        // explicit distance
+        assertParseSuccess(parser, " ~1 amazn", new FindCommand(new FuzzyNamePredicate(Arrays.asList("amazn"), 1)));
+
+        // numeric keyword separated from the marker
+        assertParseSuccess(parser, " ~ 3", new FindCommand(
+                new FuzzyNamePredicate(Arrays.asList("3"), FuzzyNamePredicate.DEFAULT_MAX_DISTANCE)));
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        assertParseFailure(parser, " ~", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " ~2", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " ~9 gogle", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+    }
+
 }
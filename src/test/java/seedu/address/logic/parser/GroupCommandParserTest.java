@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.model.company.CompanyGrouping;
+
+public class GroupCommandParserTest {
+
+    private GroupCommandParser parser = new GroupCommandParser();
+
+    @Test
+    public void parse_grouping_returnsGroupCommand() {
+        assertParseSuccess(parser, " status ", new GroupCommand(CompanyGrouping.STATUS));
+        assertParseSuccess(parser, " TAG", new GroupCommand(CompanyGrouping.TAG));
+        assertParseSuccess(parser, " none", new GroupCommand(CompanyGrouping.NONE));
+    }
+
+    @Test
+    public void parse_missingOrInvalidGrouping_throwsParseException() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expected);
+        assertParseFailure(parser, " name", expected);
+        assertParseFailure(parser, " status tag", expected);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.company.Status;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPredicate;
+
+public class QueryCommandParserTest {
+
+    private static final Query APPLIED = new FieldQuery(Field.STATUS, "applied");
+    private static final Query REMOTE = new FieldQuery(Field.TAG, "remote");
+    private static final Query BANK = new FieldQuery(Field.NAME, "bank");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleTerm_returnsQueryCommand() {
+        assertParseSuccess(parser, " status:applied", command(APPLIED));
+    }
+
+    @Test
+    public void parse_andNot_returnsQueryCommand() {
+        Query expected = new AndQuery(List.of(APPLIED, REMOTE, new NotQuery(BANK)));
+        assertParseSuccess(parser, " status:applied AND tag:remote AND NOT name:bank", command(expected));
+
+        // implicit AND and lower-case operators
+        assertParseSuccess(parser, " status:applied tag:remote not name:bank", command(expected));
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsQueryCommand() {
+        Query expected = new OrQuery(List.of(APPLIED, new AndQuery(List.of(REMOTE, BANK))));
+        assertParseSuccess(parser, " status:applied OR tag:remote AND name:bank", command(expected));
+    }
+
+    @Test
+    public void parse_parentheses_returnsQueryCommand() {
+        Query expected = new AndQuery(List.of(new OrQuery(List.of(APPLIED, REMOTE)), BANK));
+        assertParseSuccess(parser, " (status:applied OR tag:remote) name:bank", command(expected));
+    }
+
+    @Test
+    public void parse_quotedValue_returnsQueryCommand() {
+        assertParseSuccess(parser, " name:\"jane street\"", command(new FieldQuery(Field.NAME, "jane street")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " colour:red", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "colour"));
+        assertParseFailure(parser, " status:pending", Status.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " google", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "google"));
+        assertParseFailure(parser, " tag:", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "tag:"));
+        assertParseFailure(parser, " tag:a AND", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " (tag:a", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " tag:a)", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure(parser, " name:\"open", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "\""));
+    }
+
+    private static QueryCommand command(Query query) {
+        return new QueryCommand(new QueryPredicate(query));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.company.FullTextQuery;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expected);
+        assertParseFailure(parser, " -- ", expected);
+        assertParseFailure(parser, " k/3", expected);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        assertParseSuccess(parser, " system design",
+                new SearchCommand(new FullTextQuery("system design", SearchCommand.DEFAULT_LIMIT)));
+        assertParseSuccess(parser, " referral from Alex k/3",
+                new SearchCommand(new FullTextQuery("referral from Alex", 3)));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " design k/0", SearchCommandParser.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " design k/many", SearchCommandParser.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " design k/1 k/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_LIMIT));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noKeys_returnsInsertionOrder() {
+        assertParseSuccess(parser, "  ", new SortCommand(CompanySortOrder.INSERTION_ORDER));
+    }
+
+    @Test
+    public void parse_keysWithDirections_returnsSortCommand() {
+        CompanySortOrder expected = new CompanySortOrder(List.of(new Criterion(Key.STATUS, true),
+                new Criterion(Key.TAGS, false), new Criterion(Key.NAME, true)));
+        assertParseSuccess(parser, " status:desc tags NAME:DESC", new SortCommand(expected));
+        assertParseSuccess(parser, " status:desc  tags:asc name:desc ", new SortCommand(expected));
+    }
+
+    @Test
+    public void parse_invalidKeyOrDirection_throwsParseException() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " phone", expected);
+        assertParseFailure(parser, " name:up", expected);
+        assertParseFailure(parser, " name:", expected);
+    }
+
+    @Test
+    public void parse_repeatedKey_throwsParseException() {
+        assertParseFailure(parser, " name status name:desc",
+                String.format(SortCommandParser.MESSAGE_DUPLICATE_KEY, "name"));
+    }
+}
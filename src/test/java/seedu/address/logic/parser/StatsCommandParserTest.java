@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_memory_returnsStatsCommand() throws Exception {
+        assertTrue(parser.parse(" memory") instanceof StatsCommand);
+        assertTrue(parser.parse("  MEMORY  ") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parse_otherSubject_throwsParseException() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expected);
+        assertParseFailure(parser, " cpu", expected);
+        assertParseFailure(parser, " memory 2", expected);
+    }
+}
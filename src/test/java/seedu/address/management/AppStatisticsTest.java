@@ -0,0 +1,116 @@
+package seedu.address.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AppStatisticsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private StorageManager storage;
+    private LogicManager logic;
+    private AppStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        statistics = new AppStatistics(model, logic, storage, Runnable::run);
+    }
+
+    @Test
+    public void getCompanyCountsByStage_typicalAddressBook_countsEveryStage() {
+        Map<String, Integer> counts = statistics.getCompanyCountsByStage();
+
+        assertEquals(Status.Stage.values().length, counts.size());
+        assertEquals(model.getAddressBook().getCompanyList().size(),
+                counts.values().stream().mapToInt(Integer::intValue).sum());
+        for (Company company : model.getAddressBook().getCompanyList()) {
+            assertTrue(counts.get(company.getStatus().toUserInputString()) > 0);
+        }
+        assertEquals(model.getAddressBook().getCompanyList().size(), statistics.getCompanyCount());
+        assertEquals(model.getFilteredCompanyList().size(), statistics.getShownCompanyCount());
+    }
+
+    @Test
+    public void execute_commands_countedAndSaveRecorded() throws Exception {
+        assertEquals(0, statistics.getExecutedCommandCount());
+        assertEquals(0, statistics.getLastSaveBytes());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(2, statistics.getExecutedCommandCount());
+        assertEquals(Map.of(ListCommand.COMMAND_WORD, 2L), statistics.getExecutedCommandCounts());
+        assertEquals(Files.size(storage.getAddressBookFilePath()), statistics.getLastSaveBytes());
+        assertTrue(statistics.getLastSaveMillis() > 0);
+    }
+
+    @Test
+    public void save_notSavedBefore_writesDataFile() throws Exception {
+        statistics.save();
+
+        assertTrue(Files.size(storage.getAddressBookFilePath()) > 0);
+        assertEquals(Files.size(storage.getAddressBookFilePath()), statistics.getLastSaveBytes());
+    }
+
+    @Test
+    public void compactCommandHistory_longHistory_keepsMostRecentCommands() throws Exception {
+        int capacity = model.getUserPrefs().getCommandHistoryCapacity();
+        for (int i = 0; i < capacity + 10; i++) {
+            storage.appendToCommandHistory("find " + i);
+        }
+
+        statistics.compactCommandHistory();
+
+        List<String> lines = Files.readAllLines(storage.getCommandHistoryFilePath());
+        assertEquals(capacity, lines.size());
+        assertEquals("find " + (capacity + 9), lines.get(lines.size() - 1));
+    }
+
+    @Test
+    public void register_platformServer_attributesReadableOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AppStatistics.OBJECT_NAME);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        AppStatistics.register(statistics);
+        try {
+            assertEquals(statistics.getCompanyCount(), server.getAttribute(name, "CompanyCount"));
+            CompositeData[] latencies = (CompositeData[]) server.getAttribute(name, "CommandLatencies");
+            assertEquals(ListCommand.COMMAND_WORD, latencies[0].get("commandWord"));
+            assertEquals(statistics.getFilterCacheHits(), server.getAttribute(name, "FilterCacheHits"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
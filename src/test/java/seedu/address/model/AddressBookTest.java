@@ -43,6 +43,17 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_otherAddressBook_companiesCopiedAndIndexed() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        newData.removeCompany(ALPHA);
+
+        assertTrue(addressBook.hasCompany(ALPHA));
+        assertEquals(getTypicalAddressBook().getCompanyList(), addressBook.getCompanySnapshot().getCompanies());
+        assertTrue(addressBook.getCompanyIndex().getByTag("supplier").contains(ALPHA));
+    }
+
     @Test
     public void resetData_withDuplicatecompanies_throwsDuplicateCompanyException() {
         // Two companies with the same identity fields
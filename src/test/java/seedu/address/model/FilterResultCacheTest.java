@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.NameContainsKeywordsPredicate;
+
+public class FilterResultCacheTest {
+
+    private final FilterResultCache cache = new FilterResultCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterResultCache(0));
+    }
+
+    @Test
+    public void get_equalPredicateSameVersion_hit() {
+        cache.put(new NameContainsKeywordsPredicate(List.of("alpha")), 1, Set.of(ALPHA));
+        assertEquals(Optional.of(Set.of(ALPHA)), cache.get(new NameContainsKeywordsPredicate(List.of("alpha")), 1));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void get_staleVersion_miss() {
+        cache.put(new NameContainsKeywordsPredicate(List.of("alpha")), 1, Set.of(ALPHA));
+        assertTrue(cache.get(new NameContainsKeywordsPredicate(List.of("alpha")), 2).isEmpty());
+        assertEquals(0.0, cache.getHitRate());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        NameContainsKeywordsPredicate alpha = new NameContainsKeywordsPredicate(List.of("alpha"));
+        NameContainsKeywordsPredicate beta = new NameContainsKeywordsPredicate(List.of("beta"));
+        NameContainsKeywordsPredicate gamma = new NameContainsKeywordsPredicate(List.of("gamma"));
+        cache.put(alpha, 1, Set.of(ALPHA));
+        cache.put(beta, 1, Set.of(BETA));
+        cache.get(alpha, 1);
+        cache.put(gamma, 1, Set.of());
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(alpha, 1).isPresent());
+        assertTrue(cache.get(beta, 1).isEmpty());
+        assertEquals(2.0 / 3, cache.getHitRate());
+    }
+}
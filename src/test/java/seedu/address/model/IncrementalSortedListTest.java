@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IncrementalSortedListTest {
+
+    // Sorts by the last digit only, so many elements tie
+    private static final Comparator<Integer> LAST_DIGIT = Comparator.comparingInt(i -> i % 10);
+    private static final Comparator<Integer> LAST_DIGIT_THEN_VALUE = LAST_DIGIT.thenComparing(i -> i);
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+    private IncrementalSortedList<Integer> sorted;
+    private List<Integer> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(10, 3, 21, 7);
+        sorted = new IncrementalSortedList<>(source);
+        mirror = new ArrayList<>(sorted);
+        sorted.addListener(this::applyToMirror);
+    }
+
+    @Test
+    public void constructor_sourceOrder() {
+        assertEquals(List.of(10, 3, 21, 7), sorted);
+    }
+
+    @Test
+    public void setComparator_sortsStablyAndBack() {
+        sorted.setComparator(LAST_DIGIT);
+        assertEquals(List.of(10, 21, 3, 7), sorted);
+        assertEquals(sorted, mirror);
+
+        sorted.setComparator(null);
+        assertEquals(source, sorted);
+        assertEquals(sorted, mirror);
+    }
+
+    @Test
+    public void sourceChanged_sorted_repositionsChangedElements() {
+        sorted.setComparator(LAST_DIGIT);
+        source.add(1, 33);
+        source.set(0, 14);
+        source.remove(Integer.valueOf(21));
+
+        assertEquals(List.of(3, 33, 14, 7), sorted);
+        assertEquals(sorted, mirror);
+        assertEquals(source.indexOf(33), sorted.getSourceIndex(1));
+        assertEquals(3, sorted.getViewIndex(source.indexOf(7)));
+    }
+
+    @Test
+    public void sourceChanged_setAll_sortsAgain() {
+        sorted.setComparator(LAST_DIGIT);
+        source.setAll(5, 4, 99);
+        assertEquals(List.of(4, 5, 99), sorted);
+        source.clear();
+        assertTrue(sorted.isEmpty());
+        assertEquals(sorted, mirror);
+    }
+
+    @Test
+    public void randomChanges_matchSortedSourceAndStayBalanced() {
+        Random random = new Random(49);
+        sorted.setComparator(LAST_DIGIT_THEN_VALUE);
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), 100 + i);
+            } else if (operation < 8) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 9) {
+                source.set(random.nextInt(source.size()), 100 + i);
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + 3));
+            }
+            if (i == 2_500) {
+                sorted.setComparator(null);
+                assertEquals(source, sorted);
+                sorted.setComparator(LAST_DIGIT_THEN_VALUE);
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(LAST_DIGIT_THEN_VALUE);
+        assertEquals(expected, sorted);
+        assertEquals(sorted, mirror);
+        // An AVL tree is at most 1.44 times as high as a perfect tree of the same size
+        assertTrue(sorted.height() <= 1.45 * (Math.log(sorted.size() + 1) / Math.log(2)));
+    }
+
+    @Test
+    public void randomChanges_sourceOrder_matchSource() {
+        Random random = new Random(50);
+        for (int i = 0; i < 2_000; i++) {
+            if (random.nextBoolean() || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), i);
+            } else {
+                source.remove(random.nextInt(source.size()));
+            }
+        }
+        assertEquals(source, sorted);
+        assertEquals(sorted, mirror);
+    }
+
+    /**
+     * Applies {@code change} to the mirror, as a listener relying on the reported changes would see the list.
+     */
+    private void applyToMirror(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror = permuted;
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.MemoryFootprint.WRAPPER_BYTES;
+import static seedu.address.model.MemoryFootprint.hashSetBytes;
+import static seedu.address.model.MemoryFootprint.stringBytes;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.MemoryFootprint.Category;
+import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+public class MemoryFootprintTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MemoryFootprint.of(null));
+    }
+
+    @Test
+    public void of_noCompanies_nothingCounted() {
+        MemoryFootprint footprint = MemoryFootprint.of(List.of());
+
+        assertEquals(0, footprint.getCompanyCount());
+        assertEquals(0, footprint.getTotalBytes());
+        assertEquals(0, footprint.getDuplicateStringCount());
+        assertEquals(0, footprint.getDuplicateTagCount());
+    }
+
+    @Test
+    public void stringBytes_latin1AndOtherCharacters_sizedByEncoding() {
+        // 24-byte String, then a 16-byte array header and one byte per Latin-1 character, aligned to 8 bytes
+        assertEquals(24 + 24, stringBytes("abc"));
+        assertEquals(24 + 32, stringBytes("abcdefghi"));
+        // two bytes per character otherwise
+        assertEquals(24 + 24, stringBytes("日本"));
+        assertEquals(24 + 40, stringBytes("日本日本日本日本日本"));
+    }
+
+    @Test
+    public void hashSetBytes_growsTableWithSize() {
+        assertEquals(64, hashSetBytes(0));
+        assertEquals(64 + 80 + 32, hashSetBytes(1));
+        assertEquals(64 + 80 + 12 * 32, hashSetBytes(12));
+        assertEquals(64 + 144 + 13 * 32, hashSetBytes(13));
+    }
+
+    @Test
+    public void of_oneCompany_countsEachField() {
+        Company company = new Company(new Name("Alpha"), new Phone("91234567"), new Email("hr@alpha.com"),
+                new Address("1 Main St"), Set.of(new Tag("remote")), new Remark(null), new Status());
+
+        MemoryFootprint footprint = MemoryFootprint.of(List.of(company));
+
+        assertEquals(1, footprint.getCompanyCount());
+        assertEquals(MemoryFootprint.COMPANY_BYTES, footprint.getBytes(Category.COMPANY));
+        assertEquals(MemoryFootprint.NAME_BYTES + stringBytes("Alpha"), footprint.getBytes(Category.NAME));
+        assertEquals(WRAPPER_BYTES + stringBytes("91234567"), footprint.getBytes(Category.PHONE));
+        assertEquals(WRAPPER_BYTES + stringBytes("hr@alpha.com"), footprint.getBytes(Category.EMAIL));
+        assertEquals(WRAPPER_BYTES + stringBytes("1 Main St"), footprint.getBytes(Category.ADDRESS));
+        assertEquals(WRAPPER_BYTES, footprint.getBytes(Category.REMARK));
+        assertEquals(WRAPPER_BYTES, footprint.getBytes(Category.STATUS));
+        assertEquals(WRAPPER_BYTES + stringBytes("remote"), footprint.getBytes(Category.TAG));
+        assertEquals(hashSetBytes(1), footprint.getBytes(Category.TAG_SET));
+    }
+
+    @Test
+    public void of_nameSorted_collationKeyCounted() {
+        Company company = companyWith("Alpha", null, new Tag("remote"));
+        long unsortedBytes = MemoryFootprint.of(List.of(company)).getBytes(Category.NAME);
+
+        company.getName().getCollationKey();
+        long sortedBytes = MemoryFootprint.of(List.of(company)).getBytes(Category.NAME);
+
+        assertEquals(MemoryFootprint.NAME_BYTES + stringBytes("Alpha"), unsortedBytes);
+        assertEquals(MemoryFootprint.nameBytes(company.getName()) + stringBytes("Alpha"), sortedBytes);
+        // the key object, and a string holding the collation weights
+        assertTrue(sortedBytes > unsortedBytes + MemoryFootprint.COLLATION_KEY_BYTES + MemoryFootprint.STRING_BYTES);
+    }
+
+    @Test
+    public void of_equalStringsAndTags_countedAsDuplicates() {
+        String remark = "Follow up next week";
+        Tag tag = new Tag("remote");
+        Company first = companyWith("Alpha", remark, tag);
+        Company sharing = companyWith("Beta", remark, tag);
+        Company copying = companyWith("Gamma", new String(remark), new Tag(new String("remote")));
+
+        MemoryFootprint footprint = MemoryFootprint.of(List.of(first, sharing, copying));
+
+        // the shared remark and tag are counted once, the copies again as duplicates
+        assertEquals(2, footprint.getDuplicateStringCount());
+        assertEquals(stringBytes(remark) + stringBytes("remote"), footprint.getDuplicateStringBytes());
+        assertEquals(1, footprint.getDuplicateTagCount());
+        assertEquals(WRAPPER_BYTES + stringBytes("remote"), footprint.getDuplicateTagBytes());
+        assertEquals(3 * WRAPPER_BYTES + 2 * stringBytes(remark), footprint.getBytes(Category.REMARK));
+        assertEquals(2 * (WRAPPER_BYTES + stringBytes("remote")), footprint.getBytes(Category.TAG));
+    }
+
+    private static Company companyWith(String name, String remark, Tag tag) {
+        return new Company(new Name(name), new Phone(null), new Email(null), new Address(null), Set.of(tag),
+                new Remark(remark), new Status());
+    }
+}
@@ -166,6 +166,20 @@ public class MetricsCalculatorTest {
         assertEquals(customOrder, result.getStatusOrder());
     }
 
+    @Test
+    public void calculateMetrics_companyList_sameAsAddressBook() throws Exception {
+        addressBook.addCompany(createCompany("Google", "applied"));
+        addressBook.addCompany(createCompany("Meta", "applied"));
+        addressBook.addCompany(createCompany("Apple", "offered"));
+
+        MetricsCalculator.MetricsData fromList = metricsCalculator.calculateMetricsOf(
+                List.copyOf(addressBook.getCompanyList()));
+        MetricsCalculator.MetricsData fromAddressBook = metricsCalculator.calculateMetrics(addressBook);
+
+        assertEquals(fromAddressBook.getTotalCompanies(), fromList.getTotalCompanies());
+        assertEquals(fromAddressBook.getStatusCounts(), fromList.getStatusCounts());
+    }
+
     @Test
     public void metricsData_getStatusCounts_returnsCorrectMap() throws Exception {
         addressBook.addCompany(createCompany("Company1", "applied"));
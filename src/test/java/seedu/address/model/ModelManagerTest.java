@@ -11,12 +11,23 @@ import static seedu.address.testutil.TypicalCompanies.BETA;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.model.company.CompanySortOrder;
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+import seedu.address.model.company.FullTextQuery;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CompanyBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +104,137 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCompanyList().remove(0));
     }
 
+    @Test
+    public void updateFilteredCompanyList_dataChanged_resultRecomputed() {
+        modelManager.addCompany(ALPHA);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Beta"));
+        modelManager.updateFilteredCompanyList(predicate);
+        assertEquals(0, modelManager.getFilteredCompanyList().size());
+
+        long version = modelManager.getDataVersion();
+        modelManager.addCompany(BETA);
+        assertTrue(modelManager.getDataVersion() > version);
+        modelManager.updateFilteredCompanyList(predicate);
+        assertEquals(Arrays.asList(BETA), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void updateFilteredCompanyList_repeatedPredicate_sameResult() {
+        modelManager.addCompany(ALPHA);
+        modelManager.addCompany(BETA);
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(Arrays.asList("Alpha")));
+        modelManager.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(Arrays.asList("Alpha")));
+        assertEquals(Arrays.asList(ALPHA), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void showRankedCompanies_editedCompany_onlyRankedCompaniesShown() {
+        Company design = new CompanyBuilder().withName("Design").withRemark("system design").build();
+        Company systems = new CompanyBuilder().withName("Systems").withRemark("system").build();
+        Company other = new CompanyBuilder().withName("Other").withRemark("nothing").build();
+        modelManager.addCompany(systems);
+        modelManager.addCompany(other);
+        modelManager.addCompany(design);
+        assertTrue(modelManager.getBuiltTextIndex().isEmpty());
+
+        assertEquals(List.of(design), modelManager.showRankedCompanies(new FullTextQuery("system design", 1)));
+        assertEquals(List.of(design), modelManager.getFilteredCompanyList());
+        assertTrue(modelManager.getBuiltTextIndex().isPresent());
+
+        // Edited to match the query, but not one of the companies ranked
+        modelManager.setCompany(other, new CompanyBuilder(other).withRemark("system design").build());
+        assertEquals(List.of(design), modelManager.getFilteredCompanyList());
+
+        // One of the companies ranked, edited to no longer match
+        Company editedDesign = new CompanyBuilder(design).withRemark("nothing").build();
+        modelManager.setCompany(design, editedDesign);
+        assertEquals(List.of(editedDesign), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void updateFilteredCompanyList_precomputedMatchesForCurrentData_applied() {
+        modelManager.addCompany(ALPHA);
+        modelManager.addCompany(BETA);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Beta"));
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.add(BETA);
+
+        assertTrue(modelManager.updateFilteredCompanyList(predicate, modelManager.getDataVersion(), matches));
+        assertEquals(Arrays.asList(BETA), modelManager.getFilteredCompanyList());
+        assertEquals(predicate, modelManager.getFilteredCompanyPredicate());
+    }
+
+    @Test
+    public void updateFilteredCompanyList_precomputedMatchesForOlderData_ignored() {
+        modelManager.addCompany(ALPHA);
+        long version = modelManager.getDataVersion();
+        modelManager.addCompany(BETA);
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.add(ALPHA);
+
+        assertFalse(modelManager.updateFilteredCompanyList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alpha")), version, matches));
+        assertEquals(Arrays.asList(ALPHA, BETA), modelManager.getFilteredCompanyList());
+        assertEquals(PREDICATE_SHOW_ALL_COMPANIES, modelManager.getFilteredCompanyPredicate());
+    }
+
+    @Test
+    public void setCompanySortOrder_laterChanges_keptInOrder() {
+        modelManager.addCompany(BETA);
+        modelManager.addCompany(ALPHA);
+        CompanySortOrder byName = new CompanySortOrder(List.of(new Criterion(Key.NAME, false)));
+        modelManager.setCompanySortOrder(byName);
+        assertEquals(Arrays.asList(ALPHA, BETA), modelManager.getFilteredCompanyList());
+        assertEquals(byName, modelManager.getCompanySortOrder());
+
+        Company aardvark = new CompanyBuilder().withName("Aardvark").build();
+        modelManager.addCompany(aardvark);
+        Company renamedBeta = new CompanyBuilder(BETA).withName("Zeta").build();
+        modelManager.setCompany(BETA, renamedBeta);
+        assertEquals(Arrays.asList(aardvark, ALPHA, renamedBeta), modelManager.getFilteredCompanyList());
+
+        modelManager.setCompanySortOrder(CompanySortOrder.INSERTION_ORDER);
+        assertEquals(Arrays.asList(renamedBeta, ALPHA, aardvark), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void setCompanyGrouping_companiesOfGroupListedTogether() {
+        Company applied = new CompanyBuilder().withName("Applied").withStatus("applied").build();
+        Company offered = new CompanyBuilder().withName("Offered").withStatus("offered").build();
+        Company alsoApplied = new CompanyBuilder().withName("Also Applied").withStatus("applied").build();
+        modelManager.addCompany(applied);
+        modelManager.addCompany(offered);
+        modelManager.addCompany(alsoApplied);
+
+        modelManager.setCompanyGrouping(CompanyGrouping.STATUS);
+        assertEquals(Arrays.asList(alsoApplied, applied, offered), modelManager.getFilteredCompanyList());
+        assertEquals(CompanyGrouping.STATUS, modelManager.getCompanyGrouping());
+
+        // An edit moving a company to another group moves it among that group's companies
+        Company nowApplied = new CompanyBuilder(offered).withStatus("applied").build();
+        modelManager.setCompany(offered, nowApplied);
+        assertEquals(Arrays.asList(alsoApplied, applied, nowApplied), modelManager.getFilteredCompanyList());
+
+        modelManager.setCompanyGrouping(CompanyGrouping.NONE);
+        assertEquals(Arrays.asList(applied, nowApplied, alsoApplied), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void showRankedCompanies_grouped_mostRelevantFirstWithinGroups() {
+        Company design = new CompanyBuilder().withName("Design").withStatus("offered").withRemark("system design")
+                .build();
+        Company systems = new CompanyBuilder().withName("Systems").withStatus("offered").withRemark("system").build();
+        Company applied = new CompanyBuilder().withName("Applied").withStatus("applied").withRemark("system").build();
+        modelManager.addCompany(systems);
+        modelManager.addCompany(applied);
+        modelManager.addCompany(design);
+
+        modelManager.setCompanyGrouping(CompanyGrouping.STATUS);
+        modelManager.showRankedCompanies(new FullTextQuery("system design", 10));
+        assertEquals(Arrays.asList(applied, design, systems), modelManager.getFilteredCompanyList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build();
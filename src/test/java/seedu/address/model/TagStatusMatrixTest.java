@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.testutil.CompanyBuilder;
+
+public class TagStatusMatrixTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagStatusMatrix.of(null));
+    }
+
+    @Test
+    public void of_noTaggedCompanies_empty() {
+        TagStatusMatrix matrix = TagStatusMatrix.of(List.of(new CompanyBuilder().build()));
+        assertTrue(matrix.isEmpty());
+        assertEquals(0, matrix.getCount("remote", Status.Stage.TO_APPLY));
+    }
+
+    @Test
+    public void of_taggedCompanies_countedUnderEveryTag() {
+        TagStatusMatrix matrix = TagStatusMatrix.of(List.of(
+                new CompanyBuilder().withName("Alpha").withTags("remote", "fintech").withStatus("offered").build(),
+                new CompanyBuilder().withName("Beta").withTags("remote").withStatus("offered").build(),
+                new CompanyBuilder().withName("Gamma").withTags("remote").withStatus("rejected").build()));
+
+        assertEquals(List.of("fintech", "remote"), matrix.getTags());
+        assertEquals(2, matrix.getCount("remote", Status.Stage.OFFERED));
+        assertEquals(1, matrix.getCount("remote", Status.Stage.REJECTED));
+        assertEquals(1, matrix.getCount(0, Status.Stage.OFFERED));
+        assertEquals(0, matrix.getCount("fintech", Status.Stage.REJECTED));
+        assertEquals(1, matrix.getTotal(0));
+        assertEquals(3, matrix.getTotal(1));
+    }
+
+    @Test
+    public void of_listAboveParallelThreshold_sameAsSequential() {
+        String[] statuses = {"applied", "oa", "offered", "rejected"};
+        String[] tags = {"remote", "fintech", "startup"};
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < TagStatusMatrix.PARALLEL_THRESHOLD * 2; i++) {
+            companies.add(new CompanyBuilder().withName("Company " + i).withTags(tags[i % tags.length])
+                    .withStatus(statuses[i % statuses.length]).build());
+        }
+
+        TagStatusMatrix parallel = TagStatusMatrix.of(companies);
+        TagStatusMatrix sequential = companies.stream().collect(TagStatusMatrix.collector());
+
+        assertEquals(sequential.getTags(), parallel.getTags());
+        int total = 0;
+        for (int i = 0; i < parallel.getTags().size(); i++) {
+            for (Status.Stage stage : Status.Stage.values()) {
+                assertEquals(sequential.getCount(i, stage), parallel.getCount(i, stage));
+            }
+            total += parallel.getTotal(i);
+        }
+        assertEquals(companies.size(), total);
+        // 20000 companies cycle through 3 tags and 4 statuses together, so each pair shows up 20000 / 12 times
+        assertEquals(1667, parallel.getCount("remote", Status.Stage.APPLIED));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BOEING;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class UndoHistoryTest {
+
+    private AddressBook addressBook;
+    private UndoHistory history;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        history = new UndoHistory(addressBook, Long.MAX_VALUE);
+        addressBook.getCompanyList().addListener(history);
+    }
+
+    @Test
+    public void constructor_nonPositiveBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(addressBook, 0));
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        history.commit("list");
+        assertFalse(history.canUndo());
+        assertEquals(Optional.empty(), history.undo());
+    }
+
+    @Test
+    public void undo_deletions_restoresCompaniesInPlace() {
+        List<Company> original = new ArrayList<>(addressBook.getCompanyList());
+        addressBook.removeCompany(original.get(1));
+        addressBook.removeCompany(original.get(4));
+        addressBook.removeCompany(original.get(0));
+        history.commit("delete 1 2 5");
+
+        assertEquals(Optional.of("delete 1 2 5"), history.undo());
+        assertEquals(original, addressBook.getCompanyList());
+        assertEquals(original, addressBook.getCompanySnapshot().getCompanies());
+        assertTrue(addressBook.hasCompany(original.get(4)));
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void undoRedo_edits_restoresEachState() {
+        List<Company> original = new ArrayList<>(addressBook.getCompanyList());
+        List<Company> edited = new ArrayList<>();
+        for (Company company : original) {
+            Company editedCompany = new CompanyBuilder(company).withRemark("edited").build();
+            addressBook.setCompany(company, editedCompany);
+            edited.add(editedCompany);
+        }
+        history.commit("edit 1-7 r/edited");
+        addressBook.addCompany(BOEING);
+        history.commit("add n/Boeing");
+
+        history.undo();
+        assertEquals(edited, addressBook.getCompanyList());
+        history.undo();
+        assertEquals(original, addressBook.getCompanyList());
+        assertFalse(history.canUndo());
+
+        assertEquals(Optional.of("edit 1-7 r/edited"), history.redo());
+        assertEquals(edited, addressBook.getCompanyList());
+        assertEquals(Optional.of("add n/Boeing"), history.redo());
+        assertTrue(addressBook.hasCompany(BOEING));
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_clear_restoresAllCompanies() {
+        List<Company> original = new ArrayList<>(addressBook.getCompanyList());
+        addressBook.resetData(new AddressBook());
+        history.commit("clear");
+
+        history.undo();
+        assertEquals(original, addressBook.getCompanyList());
+        assertTrue(original.stream().allMatch(addressBook::hasCompany));
+    }
+
+    @Test
+    public void undo_replayedChanges_notRecorded() {
+        addressBook.removeCompany(ALPHA);
+        history.commit("delete 1");
+        history.undo();
+        history.commit("undo");
+
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        addressBook.removeCompany(ALPHA);
+        history.commit("delete 1");
+        history.undo();
+        addressBook.addCompany(BOEING);
+        history.commit("add n/Boeing");
+
+        assertFalse(history.canRedo());
+        assertEquals(Optional.of("add n/Boeing"), history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_overBudget_evictsOldestEntries() {
+        history.setBudgetBytes(2 * UndoHistory.ESTIMATED_COMPANY_BYTES);
+        List<Company> original = new ArrayList<>(addressBook.getCompanyList());
+        for (int i = 0; i < 3; i++) {
+            addressBook.removeCompany(original.get(i));
+            history.commit("delete " + i);
+        }
+
+        assertEquals(2 * UndoHistory.ESTIMATED_COMPANY_BYTES, history.getUsedBytes());
+        history.setBudgetBytes(UndoHistory.ESTIMATED_COMPANY_BYTES);
+        assertEquals(Optional.of("delete 2"), history.undo());
+        assertFalse(history.canUndo());
+        // The company put back by the undo is in the list again, so redoing keeps nothing else alive
+        assertEquals(0, history.getUsedBytes());
+    }
+
+    @Test
+    public void commit_entryLargerThanBudget_cannotBeUndone() {
+        history.setBudgetBytes(UndoHistory.ESTIMATED_COMPANY_BYTES);
+        addressBook.resetData(new AddressBook());
+        history.commit("clear");
+
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getUsedBytes());
+    }
+}
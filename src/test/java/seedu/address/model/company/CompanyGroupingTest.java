@@ -0,0 +1,67 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class CompanyGroupingTest {
+
+    private static final Company ALPHA_OFFERED = new CompanyBuilder().withName("Alpha").withStatus("offered")
+            .withTags("remote", "Fintech").build();
+    private static final Company BETA_APPLIED = new CompanyBuilder().withName("Beta").withStatus("applied")
+            .withTags("remote").build();
+    private static final Company GAMMA_APPLIED = new CompanyBuilder().withName("Gamma").withStatus("applied")
+            .build();
+
+    @Test
+    public void ofKeyword_ignoresCase() {
+        assertEquals(Optional.of(CompanyGrouping.STATUS), CompanyGrouping.ofKeyword("Status"));
+        assertEquals(Optional.empty(), CompanyGrouping.ofKeyword("tags"));
+    }
+
+    @Test
+    public void getGroupName() {
+        assertEquals("OFFERED", CompanyGrouping.STATUS.getGroupName(ALPHA_OFFERED));
+        assertEquals("Fintech", CompanyGrouping.TAG.getGroupName(ALPHA_OFFERED));
+        assertEquals(CompanyGrouping.UNTAGGED_GROUP, CompanyGrouping.TAG.getGroupName(GAMMA_APPLIED));
+        assertEquals("", CompanyGrouping.NONE.getGroupName(ALPHA_OFFERED));
+    }
+
+    @Test
+    public void getComparator_insertionOrder_groupsThenNames() {
+        List<Company> companies = new ArrayList<>(List.of(GAMMA_APPLIED, ALPHA_OFFERED, BETA_APPLIED));
+        companies.sort(comparatorOf(CompanyGrouping.STATUS, CompanySortOrder.INSERTION_ORDER));
+        assertEquals(List.of(BETA_APPLIED, GAMMA_APPLIED, ALPHA_OFFERED), companies);
+
+        companies.sort(comparatorOf(CompanyGrouping.TAG, CompanySortOrder.INSERTION_ORDER));
+        assertEquals(List.of(ALPHA_OFFERED, BETA_APPLIED, GAMMA_APPLIED), companies);
+    }
+
+    @Test
+    public void getComparator_sortOrder_usedWithinGroups() {
+        CompanySortOrder byNameDescending = new CompanySortOrder(List.of(
+                new CompanySortOrder.Criterion(CompanySortOrder.Key.NAME, true)));
+        List<Company> companies = new ArrayList<>(List.of(BETA_APPLIED, ALPHA_OFFERED, GAMMA_APPLIED));
+        companies.sort(comparatorOf(CompanyGrouping.STATUS, byNameDescending));
+        assertEquals(List.of(GAMMA_APPLIED, BETA_APPLIED, ALPHA_OFFERED), companies);
+    }
+
+    @Test
+    public void getComparator_none_sameAsSortOrder() {
+        assertTrue(CompanyGrouping.NONE.getComparator(CompanySortOrder.INSERTION_ORDER).isEmpty());
+        assertEquals(CompanySortOrder.BY_NAME.getComparator(),
+                CompanyGrouping.NONE.getComparator(CompanySortOrder.BY_NAME));
+    }
+
+    private static Comparator<Company> comparatorOf(CompanyGrouping grouping, CompanySortOrder sortOrder) {
+        return grouping.getComparator(sortOrder).orElseThrow();
+    }
+}
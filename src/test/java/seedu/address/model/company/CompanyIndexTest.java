@@ -0,0 +1,114 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+import static seedu.address.testutil.TypicalCompanies.DELTA;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class CompanyIndexTest {
+
+    private final UniqueCompanyList companies = new UniqueCompanyList();
+    private final CompanyIndex index = companies.getIndex();
+
+    @Test
+    public void add_company_indexedByEveryField() {
+        companies.add(ALPHA);
+        assertEquals(Set.of(ALPHA), index.getByStatus(Status.Stage.TO_APPLY));
+        assertEquals(Set.of(ALPHA), index.getByTag("SUPPLIER"));
+        assertEquals(Set.of(ALPHA), index.getByEmailDomain("@Alpha.com"));
+        assertEquals(Set.of(ALPHA), index.getByPhone("9435 1253"));
+    }
+
+    @Test
+    public void getByName_addedAndRemovedCompany_foundWhileInList() {
+        companies.add(ALPHA);
+        assertEquals(Optional.of(ALPHA), index.getByName(new Name(ALPHA.getName().fullName)));
+        companies.remove(ALPHA);
+        assertTrue(index.getByName(ALPHA.getName()).isEmpty());
+    }
+
+    @Test
+    public void add_sharedKey_allCompaniesIndexed() {
+        companies.add(ALPHA);
+        companies.add(DELTA);
+        assertEquals(Set.of(ALPHA, DELTA), index.getByTag("supplier"));
+    }
+
+    @Test
+    public void setCompany_editedCompany_indexUpdated() {
+        companies.add(ALPHA);
+        Company edited = new CompanyBuilder(ALPHA).withStatus("offered").withTags("remote").build();
+        companies.setCompany(ALPHA, edited);
+        assertTrue(index.getByStatus(Status.Stage.TO_APPLY).isEmpty());
+        assertTrue(index.getByTag("supplier").isEmpty());
+        assertEquals(Set.of(edited), index.getByStatus(Status.Stage.OFFERED));
+        assertEquals(Set.of(edited), index.getByTag("remote"));
+    }
+
+    @Test
+    public void remove_equalButDistinctInstance_storedInstanceUnindexed() {
+        companies.add(ALPHA);
+        companies.remove(new CompanyBuilder(ALPHA).build());
+        assertTrue(index.getByStatus(Status.Stage.TO_APPLY).isEmpty());
+        assertTrue(index.getByPhone("94351253").isEmpty());
+    }
+
+    @Test
+    public void setCompanies_replacement_reindexed() {
+        companies.add(ALPHA);
+        companies.setCompanies(Arrays.asList(BETA, DELTA));
+        assertTrue(index.getByStatus(Status.Stage.TO_APPLY).isEmpty());
+        assertEquals(Set.of(BETA), index.getByTag("client"));
+        assertEquals(Set.of(DELTA), index.getByTag("supplier"));
+    }
+
+    @Test
+    public void getByNameWordWithin_misspelledWord_returnsCompany() {
+        companies.add(ALPHA);
+        companies.add(BETA);
+        assertEquals(Set.of(ALPHA), index.getByNameWordWithin("INDUSTIRES", 1));
+        assertTrue(index.getByNameWordWithin("industires", 0).isEmpty());
+
+        companies.remove(ALPHA);
+        assertTrue(index.getByNameWordWithin("industries", 1).isEmpty());
+    }
+
+    @Test
+    public void getByNameWordWithin_wordsBreakingTriangleInequalityOfEditDistance_allFound() {
+        // "ac" is one edit from both, though "abc" and "ca" are three edits apart
+        Company abc = new CompanyBuilder().withName("Abc").build();
+        Company ca = new CompanyBuilder().withName("Ca").build();
+        companies.add(abc);
+        companies.add(ca);
+        assertEquals(Set.of(abc, ca), index.getByNameWordWithin("ac", 1));
+        assertEquals(Set.of(ca), index.getByNameWordWithin("cab", 1));
+    }
+
+    @Test
+    public void getByTag_unknownTag_returnsEmptySet() {
+        assertTrue(index.getByTag("unknown").isEmpty());
+    }
+
+    @Test
+    public void getByStatus_modifyResult_throwsUnsupportedOperationException() {
+        companies.add(ALPHA);
+        assertThrows(UnsupportedOperationException.class, () ->
+                index.getByStatus(Status.Stage.TO_APPLY).remove(ALPHA));
+    }
+
+    @Test
+    public void emailDomainOf() {
+        assertEquals("alpha.com", CompanyIndex.emailDomainOf("contact@ALPHA.com"));
+        assertEquals(null, CompanyIndex.emailDomainOf(null));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.CompanySortOrder.Criterion;
+import seedu.address.model.company.CompanySortOrder.Key;
+import seedu.address.testutil.CompanyBuilder;
+
+public class CompanySortOrderTest {
+
+    private static final Company APPLIED_NO_TAGS = new CompanyBuilder().withName("beta")
+            .withStatus("applied").withTags().build();
+    private static final Company APPLIED_TWO_TAGS = new CompanyBuilder().withName("Alpha")
+            .withStatus("applied").withTags("remote", "paid").build();
+    private static final Company OFFERED_ONE_TAG = new CompanyBuilder().withName("Gamma")
+            .withStatus("offered").withTags("remote").build();
+
+    @Test
+    public void constructor_duplicateKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompanySortOrder(List.of(
+                new Criterion(Key.NAME, false), new Criterion(Key.NAME, true))));
+    }
+
+    @Test
+    public void getComparator_insertionOrder_empty() {
+        assertTrue(CompanySortOrder.INSERTION_ORDER.isInsertionOrder());
+        assertEquals(Optional.empty(), CompanySortOrder.INSERTION_ORDER.getComparator());
+    }
+
+    @Test
+    public void getComparator_name_ignoresCase() {
+        assertEquals(List.of(APPLIED_TWO_TAGS, APPLIED_NO_TAGS, OFFERED_ONE_TAG),
+                sort(new Criterion(Key.NAME, false)));
+    }
+
+    @Test
+    public void getComparator_statusDescending_pipelineOrderReversedThenName() {
+        assertEquals(List.of(OFFERED_ONE_TAG, APPLIED_TWO_TAGS, APPLIED_NO_TAGS),
+                sort(new Criterion(Key.STATUS, true)));
+    }
+
+    @Test
+    public void getComparator_statusThenTagsDescending_tagsBreakTies() {
+        assertEquals(List.of(APPLIED_TWO_TAGS, APPLIED_NO_TAGS, OFFERED_ONE_TAG),
+                sort(new Criterion(Key.STATUS, false), new Criterion(Key.TAGS, true)));
+        assertEquals(List.of(APPLIED_NO_TAGS, OFFERED_ONE_TAG, APPLIED_TWO_TAGS),
+                sort(new Criterion(Key.TAGS, false)));
+    }
+
+    @Test
+    public void ofKeyword() {
+        assertEquals(Optional.of(Key.TAGS), Key.ofKeyword("Tags"));
+        assertEquals(Optional.empty(), Key.ofKeyword("tag"));
+    }
+
+    @Test
+    public void equals() {
+        CompanySortOrder order = new CompanySortOrder(List.of(new Criterion(Key.STATUS, true)));
+        assertEquals(order, new CompanySortOrder(List.of(new Criterion(Key.STATUS, true))));
+        assertNotEquals(order, new CompanySortOrder(List.of(new Criterion(Key.STATUS, false))));
+        assertNotEquals(order, CompanySortOrder.INSERTION_ORDER);
+        assertFalse(order.equals(null));
+    }
+
+    private static List<Company> sort(Criterion... criteria) {
+        Comparator<Company> comparator = new CompanySortOrder(List.of(criteria)).getComparator().get();
+        List<Company> companies = new ArrayList<>(List.of(OFFERED_ONE_TAG, APPLIED_NO_TAGS, APPLIED_TWO_TAGS));
+        companies.sort(comparator);
+        return companies;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.company;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,6 +39,14 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getCollationKey_ordersIgnoringCaseAndGeneratedOnce() {
+        Name lower = new Name("apple");
+        Name upper = new Name("Banana");
+        assertTrue(lower.getCollationKey().compareTo(upper.getCollationKey()) < 0);
+        assertSame(lower.getCollationKey(), lower.getCollationKey());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
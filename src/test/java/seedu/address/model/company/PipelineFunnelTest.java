@@ -0,0 +1,112 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class PipelineFunnelTest {
+
+    private static final long DAY = 24 * 3600;
+
+    private final UniqueCompanyList companies = new UniqueCompanyList();
+    private final PipelineFunnel funnel = companies.getIndex().getFunnel();
+
+    @Test
+    public void add_companyWithoutHistory_reachedCurrentStageOnly() {
+        companies.add(new CompanyBuilder().withStatus("oa").build());
+        assertEquals(1, funnel.getReachedCount(Status.Stage.OA));
+        assertEquals(0, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(0, funnel.getStayCount(Status.Stage.OA));
+        assertTrue(funnel.getMedianDaysIn(Status.Stage.OA).isEmpty());
+    }
+
+    @Test
+    public void add_companyWithHistory_transitionsAndStaysCounted() {
+        companies.add(company("Alpha", Status.Stage.OFFERED, Status.Stage.APPLIED, 0, Status.Stage.OA, 2 * DAY,
+                Status.Stage.OFFERED, 5 * DAY));
+        assertEquals(1, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(1, funnel.getReachedCount(Status.Stage.OFFERED));
+        assertEquals(1, funnel.getTransitionCount(Status.Stage.APPLIED, Status.Stage.OA));
+        assertEquals(1, funnel.getTransitionCount(Status.Stage.OA, Status.Stage.OFFERED));
+        assertEquals(OptionalDouble.of(2), funnel.getMedianDaysIn(Status.Stage.APPLIED));
+        assertEquals(OptionalDouble.of(3), funnel.getMedianDaysIn(Status.Stage.OA));
+        assertEquals(1.0, funnel.getAdvanceRate(Status.Stage.APPLIED));
+    }
+
+    @Test
+    public void getAdvanceRate_rejectedCompanies_notCountedAsAdvanced() {
+        companies.add(company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY));
+        companies.add(company("Beta", Status.Stage.REJECTED, Status.Stage.APPLIED, 0, Status.Stage.REJECTED, DAY));
+        assertEquals(2, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(0.5, funnel.getAdvanceRate(Status.Stage.APPLIED));
+        assertEquals(0.0, funnel.getAdvanceRate(Status.Stage.ACCEPTED));
+    }
+
+    @Test
+    public void getMedianDaysIn_evenCount_lowerMiddleTaken() {
+        companies.add(company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY));
+        companies.add(company("Beta", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, 3 * DAY));
+        companies.add(company("Gamma", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, 3 * DAY));
+        companies.add(company("Delta", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, 9 * DAY));
+        assertEquals(4, funnel.getStayCount(Status.Stage.APPLIED));
+        assertEquals(OptionalDouble.of(3), funnel.getMedianDaysIn(Status.Stage.APPLIED));
+    }
+
+    @Test
+    public void getMedianDaysIn_unknownStartTime_stayNotCounted() {
+        companies.add(company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, StatusHistory.UNKNOWN_TIME,
+                Status.Stage.OA, DAY));
+        assertEquals(1, funnel.getTransitionCount(Status.Stage.APPLIED, Status.Stage.OA));
+        assertEquals(0, funnel.getStayCount(Status.Stage.APPLIED));
+    }
+
+    @Test
+    public void setCompany_editedHistory_statisticsUpdated() {
+        Company original = company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY);
+        companies.add(original);
+        Company edited = company("Alpha", Status.Stage.HR_INTERVIEW, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY,
+                Status.Stage.HR_INTERVIEW, 4 * DAY);
+        companies.setCompany(original, edited);
+        assertEquals(1, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(1, funnel.getTransitionCount(Status.Stage.APPLIED, Status.Stage.OA));
+        assertEquals(1, funnel.getTransitionCount(Status.Stage.OA, Status.Stage.HR_INTERVIEW));
+        assertEquals(OptionalDouble.of(3), funnel.getMedianDaysIn(Status.Stage.OA));
+    }
+
+    @Test
+    public void remove_equalButDistinctInstance_storedHistoryRemoved() {
+        companies.add(company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY));
+        companies.remove(new CompanyBuilder().withName("Alpha").withStatus("oa").build());
+        assertEquals(0, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(0, funnel.getTransitionCount(Status.Stage.APPLIED, Status.Stage.OA));
+        assertTrue(funnel.getMedianDaysIn(Status.Stage.APPLIED).isEmpty());
+    }
+
+    @Test
+    public void setCompanies_replacement_recomputed() {
+        companies.add(company("Alpha", Status.Stage.OA, Status.Stage.APPLIED, 0, Status.Stage.OA, DAY));
+        companies.setCompanies(Arrays.asList(new CompanyBuilder().withName("Beta").withStatus("offered").build()));
+        assertEquals(0, funnel.getReachedCount(Status.Stage.APPLIED));
+        assertEquals(0, funnel.getStayCount(Status.Stage.APPLIED));
+        assertEquals(1, funnel.getReachedCount(Status.Stage.OFFERED));
+    }
+
+    /**
+     * Returns a company named {@code name} at {@code stage}, with a history of the given stages, each followed by
+     * the time it was entered.
+     */
+    private static Company company(String name, Status.Stage stage, Object... history) {
+        StatusHistory statusHistory = StatusHistory.EMPTY;
+        for (int i = 0; i < history.length; i += 2) {
+            statusHistory = statusHistory.withEntry((Status.Stage) history[i], ((Number) history[i + 1]).longValue());
+        }
+        return new CompanyBuilder().withName(name).withStatus(Status.toUserInputString(stage))
+                .withStatusHistory(statusHistory).build();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class StatusHistoryTest {
+
+    @Test
+    public void withEntry_validEntries_storedInOrder() {
+        StatusHistory history = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, StatusHistory.UNKNOWN_TIME)
+                .withEntry(Status.Stage.REJECTED, 1_700_000_000L);
+        assertEquals(2, history.size());
+        assertEquals(Status.Stage.APPLIED, history.getStage(0));
+        assertEquals(StatusHistory.UNKNOWN_TIME, history.getEpochSecond(0));
+        assertEquals(Status.Stage.REJECTED, history.getStage(1));
+        assertEquals(1_700_000_000L, history.getEpochSecond(1));
+        assertTrue(StatusHistory.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void withEntry_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StatusHistory.EMPTY.withEntry(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> StatusHistory.EMPTY.withEntry(Status.Stage.OA, -2));
+    }
+
+    @Test
+    public void afterChange_sameStage_historyUnchanged() {
+        Company company = new CompanyBuilder().withStatus("applied").build();
+        assertSame(company.getStatusHistory(), StatusHistory.afterChange(company, Status.Stage.APPLIED, 100));
+    }
+
+    @Test
+    public void afterChange_noHistory_currentStageRecordedAtUnknownTime() {
+        Company company = new CompanyBuilder().withStatus("applied").build();
+        StatusHistory expected = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, StatusHistory.UNKNOWN_TIME)
+                .withEntry(Status.Stage.OA, 100);
+        assertEquals(expected, StatusHistory.afterChange(company, Status.Stage.OA, 100));
+    }
+
+    @Test
+    public void afterChange_existingHistory_entryAppended() {
+        StatusHistory history = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, 50);
+        Company company = new CompanyBuilder().withStatus("applied").withStatusHistory(history).build();
+        assertEquals(history.withEntry(Status.Stage.OA, 100),
+                StatusHistory.afterChange(company, Status.Stage.OA, 100));
+    }
+
+    @Test
+    public void equals() {
+        StatusHistory history = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, 50);
+        assertEquals(history, StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, 50));
+        assertEquals(history.hashCode(), StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, 50).hashCode());
+        assertNotEquals(history, StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, 51));
+        assertNotEquals(history, StatusHistory.EMPTY.withEntry(Status.Stage.OA, 50));
+        assertNotEquals(history, null);
+    }
+
+    @Test
+    public void toStringMethod() {
+        StatusHistory history = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, StatusHistory.UNKNOWN_TIME)
+                .withEntry(Status.Stage.OA, 100);
+        assertEquals(StatusHistory.class.getCanonicalName() + "{entries=[applied@?, oa@100]}", history.toString());
+    }
+}
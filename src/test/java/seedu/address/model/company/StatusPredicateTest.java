@@ -0,0 +1,46 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.CONS;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class StatusPredicateTest {
+
+    @Test
+    public void equals() {
+        StatusPredicate applied = new StatusPredicate(new Status("applied"));
+
+        // same values -> returns true
+        assertTrue(applied.equals(new StatusPredicate(new Status("APPLIED"))));
+        assertEquals(applied.hashCode(), new StatusPredicate(new Status("applied")).hashCode());
+
+        // null -> returns false
+        assertFalse(applied.equals(null));
+
+        // different status -> returns false
+        assertFalse(applied.equals(new StatusPredicate(new Status("oa"))));
+    }
+
+    @Test
+    public void test() {
+        StatusPredicate applied = new StatusPredicate(new Status("applied"));
+        assertTrue(applied.test(CONS));
+        assertFalse(applied.test(ALPHA));
+    }
+
+    @Test
+    public void candidates_readsStatusIndex() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.add(ALPHA);
+        companies.add(CONS);
+        assertEquals(Optional.of(Set.of(CONS)),
+                new StatusPredicate(new Status("applied")).candidates(companies.getIndex()));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class TextIndexTest {
+
+    private static final Company DESIGN = new CompanyBuilder().withName("Design Co")
+            .withRemark("System design round, then system design follow-up").withAddress("1 Main St").build();
+    private static final Company REFERRAL = new CompanyBuilder().withName("Referral Co")
+            .withRemark("Referral from Alex; design chat").withAddress("2 Side Rd").build();
+    private static final Company PLAIN = new CompanyBuilder().withName("Plain Co")
+            .withRemark("Nothing yet").withAddress("3 Design Avenue").build();
+
+    private final UniqueCompanyList companies = new UniqueCompanyList();
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("system", "design", "r2", "alex"), TextIndex.tokenize("System-Design, R2 (ALEX)"));
+        assertTrue(TextIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    public void search_rankedByRelevance() {
+        addAll();
+        List<Company> ranked = namesOf(textIndex().search("system design", 10));
+        assertEquals(List.of(DESIGN, REFERRAL, PLAIN).size(), ranked.size());
+        assertEquals(DESIGN, ranked.get(0));
+
+        assertEquals(List.of(REFERRAL), namesOf(textIndex().search("ALEX", 10)));
+        assertTrue(textIndex().search("nonexistent", 10).isEmpty());
+    }
+
+    @Test
+    public void search_limit_returnsBestOnly() {
+        addAll();
+        assertEquals(List.of(DESIGN), namesOf(textIndex().search("system design", 1)));
+        assertThrows(IllegalArgumentException.class, () -> textIndex().search("design", 0));
+    }
+
+    @Test
+    public void search_afterEdit_indexUpdated() {
+        addAll();
+        textIndex();
+        Company edited = new CompanyBuilder(PLAIN).withRemark("Referral from Alex too").build();
+        companies.setCompany(PLAIN, edited);
+        assertEquals(2, textIndex().search("alex", 10).size());
+
+        companies.remove(REFERRAL);
+        assertEquals(List.of(edited), namesOf(textIndex().search("alex", 10)));
+    }
+
+    @Test
+    public void snapshot_roundTrip_sameRanking() {
+        addAll();
+        List<Company> list = companies.asUnmodifiableObservableList();
+        TextIndex restored = TextIndex.fromSnapshot(textIndex().toSnapshot(list), list);
+        assertEquals(namesOf(textIndex().search("system design alex", 10)),
+                namesOf(restored.search("system design alex", 10)));
+    }
+
+    @Test
+    public void isModified_restoredIndexChanged_modified() {
+        addAll();
+        assertTrue(textIndex().isModified());
+        List<Company> list = companies.asUnmodifiableObservableList();
+        TextIndex restored = TextIndex.fromSnapshot(textIndex().toSnapshot(list), list);
+        assertFalse(restored.isModified());
+
+        companies.getIndex().setTextIndex(restored);
+        companies.remove(PLAIN);
+        assertTrue(restored.isModified());
+    }
+
+    @Test
+    public void fromSnapshot_changedData_throwsIllegalArgumentException() {
+        addAll();
+        TextIndex.Snapshot snapshot = textIndex().toSnapshot(companies.asUnmodifiableObservableList());
+        companies.setCompany(PLAIN, new CompanyBuilder(PLAIN).withRemark("Changed").build());
+        assertNotEquals(snapshot.getFingerprint(), TextIndex.fingerprintOf(companies.asUnmodifiableObservableList()));
+        assertThrows(IllegalArgumentException.class, () ->
+                TextIndex.fromSnapshot(snapshot, companies.asUnmodifiableObservableList()));
+    }
+
+    private void addAll() {
+        companies.add(DESIGN);
+        companies.add(REFERRAL);
+        companies.add(PLAIN);
+    }
+
+    private TextIndex textIndex() {
+        return companies.getIndex().getTextIndex();
+    }
+
+    private static List<Company> namesOf(List<TextIndex.Match> matches) {
+        return matches.stream().map(TextIndex.Match::getCompany).collect(Collectors.toList());
+    }
+}
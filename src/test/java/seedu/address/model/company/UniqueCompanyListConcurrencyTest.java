@@ -0,0 +1,125 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+/**
+ * Stress tests reading snapshots of a {@link UniqueCompanyList} on several threads while a single writer edits
+ * every company in the list over and over, as batch edits do.
+ */
+public class UniqueCompanyListConcurrencyTest {
+
+    private static final int COMPANY_COUNT = 300;
+    private static final int PASS_COUNT = 40;
+    private static final int READER_COUNT = 4;
+
+    private final UniqueCompanyList companies = new UniqueCompanyList();
+
+    @Test
+    public void getSnapshot_concurrentBatchEdits_consistentSnapshots() throws Exception {
+        List<Company> initial = new ArrayList<>();
+        for (int i = 0; i < COMPANY_COUNT; i++) {
+            initial.add(companyAtPass(i, 0));
+        }
+        companies.setCompanies(initial);
+
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        CountDownLatch readersStarted = new CountDownLatch(READER_COUNT);
+        ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+        List<Future<Integer>> snapshotCounts = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            snapshotCounts.add(readers.submit(() -> {
+                readersStarted.countDown();
+                return readUntilDone(isWriting);
+            }));
+        }
+
+        try {
+            readersStarted.await();
+            for (int pass = 1; pass <= PASS_COUNT; pass++) {
+                List<Company> shown = new ArrayList<>(companies.asUnmodifiableObservableList());
+                for (int i = 0; i < shown.size(); i++) {
+                    companies.setCompany(shown.get(i), companyAtPass(i, pass));
+                }
+            }
+        } finally {
+            isWriting.set(false);
+            readers.shutdown();
+        }
+
+        assertTrue(readers.awaitTermination(30, TimeUnit.SECONDS));
+        for (Future<Integer> snapshotCount : snapshotCounts) {
+            // Rethrows any assertion that failed on a reader thread
+            assertTrue(snapshotCount.get() > 0);
+        }
+        CompanyListSnapshot last = companies.getSnapshot();
+        assertEquals(companies.asUnmodifiableObservableList(), last.getCompanies());
+    }
+
+    /**
+     * Takes snapshots until {@code isWriting} becomes false, checking that each shows the list between two edits,
+     * and returns the number taken.
+     */
+    private int readUntilDone(AtomicBoolean isWriting) {
+        int snapshotCount = 0;
+        long lastVersion = -1;
+        do {
+            CompanyListSnapshot snapshot = companies.getSnapshot();
+            assertTrue(snapshot.getVersion() >= lastVersion, "Versions must not go backwards");
+            lastVersion = snapshot.getVersion();
+            assertConsistent(snapshot.getCompanies());
+            snapshotCount++;
+        } while (isWriting.get());
+        return snapshotCount;
+    }
+
+    /**
+     * Asserts that {@code snapshot} holds every company once, in order, with a prefix edited in one pass and the
+     * rest in the pass before, as the list is between two edits of a pass.
+     */
+    private static void assertConsistent(List<Company> snapshot) {
+        assertEquals(COMPANY_COUNT, snapshot.size());
+        Set<Name> names = new HashSet<>();
+        int firstPass = passOf(snapshot.get(0));
+        int boundaryCount = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            Company company = snapshot.get(i);
+            assertEquals(nameOf(i), company.getName().fullName);
+            assertTrue(names.add(company.getName()));
+            int pass = passOf(company);
+            if (pass != firstPass) {
+                assertEquals(firstPass - 1, pass);
+                boundaryCount++;
+            } else {
+                assertEquals(0, boundaryCount, "Edited companies must come before unedited ones");
+            }
+        }
+    }
+
+    private static Company companyAtPass(int i, int pass) {
+        return new CompanyBuilder().withName(nameOf(i)).withRemark("pass " + pass).build();
+    }
+
+    private static String nameOf(int i) {
+        return "Company " + i;
+    }
+
+    private static int passOf(Company company) {
+        return Integer.parseInt(company.getRemark().value.substring("pass ".length()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.company;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOEING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GOOD_PAY;
@@ -9,12 +10,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import static seedu.address.testutil.TypicalCompanies.BOEING;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
 import seedu.address.testutil.CompanyBuilder;
@@ -162,12 +166,90 @@ public class UniqueCompanyListTest {
         assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.setCompanies(listWithDuplicateCompanies));
     }
 
+    @Test
+    public void replaceRange_middleRange_replacesRangeAndSnapshot() {
+        Company gamma = new CompanyBuilder().withName("Gamma").build();
+        Company delta = new CompanyBuilder().withName("Delta").build();
+        Company editedGamma = new CompanyBuilder(gamma).withRemark("edited").build();
+        uniqueCompanyList.setCompanies(List.of(ALPHA, gamma, BOEING));
+
+        uniqueCompanyList.replaceRange(1, 2, List.of(delta, editedGamma));
+
+        List<Company> expected = List.of(ALPHA, delta, editedGamma, BOEING);
+        assertEquals(expected, uniqueCompanyList.asUnmodifiableObservableList());
+        assertEquals(expected, uniqueCompanyList.getSnapshot().getCompanies());
+        assertTrue(uniqueCompanyList.contains(delta));
+        assertEquals(Optional.of(delta), uniqueCompanyList.getIndex().getByName(delta.getName()));
+    }
+
+    @Test
+    public void replaceRange_insertAndRemove_updatesIndex() {
+        uniqueCompanyList.add(ALPHA);
+        uniqueCompanyList.replaceRange(0, 0, List.of(BOEING));
+        assertEquals(List.of(BOEING, ALPHA), uniqueCompanyList.asUnmodifiableObservableList());
+
+        uniqueCompanyList.replaceRange(1, 2, List.of());
+        assertEquals(List.of(BOEING), uniqueCompanyList.getSnapshot().getCompanies());
+        assertFalse(uniqueCompanyList.contains(ALPHA));
+    }
+
+    @Test
+    public void replaceRange_duplicateOutsideRange_throwsDuplicateCompanyException() {
+        uniqueCompanyList.setCompanies(List.of(ALPHA, BOEING));
+        assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.replaceRange(1, 2, List.of(ALPHA)));
+        assertThrows(DuplicateCompanyException.class, () ->
+                uniqueCompanyList.replaceRange(0, 0, List.of(BOEING)));
+        assertEquals(List.of(ALPHA, BOEING), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceRange_invalidRange_throwsIndexOutOfBoundsException() {
+        uniqueCompanyList.add(ALPHA);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniqueCompanyList.replaceRange(1, 2, List.of()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueCompanyList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_unchangedList_sameSnapshot() {
+        uniqueCompanyList.add(ALPHA);
+        CompanyListSnapshot snapshot = uniqueCompanyList.getSnapshot();
+        assertEquals(List.of(ALPHA), snapshot.getCompanies());
+        assertSame(snapshot, uniqueCompanyList.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_listChanged_newSnapshotWithHigherVersion() {
+        uniqueCompanyList.add(ALPHA);
+        CompanyListSnapshot before = uniqueCompanyList.getSnapshot();
+        uniqueCompanyList.add(BOEING);
+        CompanyListSnapshot after = uniqueCompanyList.getSnapshot();
+
+        assertEquals(List.of(ALPHA), before.getCompanies());
+        assertEquals(List.of(ALPHA, BOEING), after.getCompanies());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> after.getCompanies().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_fromListener_seesChange() {
+        List<CompanyListSnapshot> snapshotsInListener = new ArrayList<>();
+        uniqueCompanyList.asUnmodifiableObservableList().addListener((ListChangeListener<Company>) change ->
+                snapshotsInListener.add(uniqueCompanyList.getSnapshot()));
+
+        uniqueCompanyList.add(ALPHA);
+        uniqueCompanyList.setCompany(ALPHA, BOEING);
+        uniqueCompanyList.remove(BOEING);
+
+        assertEquals(List.of(ALPHA), snapshotsInListener.get(0).getCompanies());
+        assertEquals(List.of(BOEING), snapshotsInListener.get(1).getCompanies());
+        assertEquals(List.of(), snapshotsInListener.get(2).getCompanies());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueCompanyList.asUnmodifiableObservableList().toString(), uniqueCompanyList.toString());
@@ -6,6 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.BETA;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,10 +14,14 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
 import seedu.address.model.company.Email;
 import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
 import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
+import seedu.address.testutil.CompanyBuilder;
 
 public class JsonAdaptedCompanyTest {
     private static final String INVALID_NAME = "R@chel";
@@ -42,6 +47,24 @@ public class JsonAdaptedCompanyTest {
         assertEquals(BETA, company.toModelType());
     }
 
+    @Test
+    public void toModelType_statusHistory_roundTrips() throws Exception {
+        StatusHistory history = StatusHistory.EMPTY.withEntry(Status.Stage.APPLIED, StatusHistory.UNKNOWN_TIME)
+                .withEntry(Status.Stage.OA, 1_700_000_000L);
+        Company company = new CompanyBuilder(BETA).withStatus("oa").withStatusHistory(history).build();
+        assertEquals(history, new JsonAdaptedCompany(company).toModelType().getStatusHistory());
+    }
+
+    @Test
+    public void toModelType_invalidStatusHistory_throwsIllegalValueException() {
+        for (String entry : Arrays.asList("unknown@100", "oa@", "oa@ten", "oa@-1", "@100", null)) {
+            JsonAdaptedCompany company = new JsonAdaptedCompany(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                    VALID_TAGS, VALID_REMARK, VALID_STATUS, Arrays.asList("applied@50", entry));
+            assertThrows(IllegalValueException.class, JsonAdaptedCompany.INVALID_STATUS_HISTORY_MESSAGE,
+                    company::toModelType);
+        }
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedCompany company = new JsonAdaptedCompany(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +13,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.TextIndex;
 
 public class StorageManagerTest {
 
@@ -60,6 +64,34 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void textIndexReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonTextIndexStorage} class.
+         */
+        List<Company> companies = getTypicalAddressBook().getCompanyList();
+        TextIndex original = new ModelManager(getTypicalAddressBook(), new UserPrefs()).getTextIndex();
+        storageManager.saveTextIndex(original.toSnapshot(companies));
+        TextIndex retrieved = TextIndex.fromSnapshot(storageManager.readTextIndex().get(), companies);
+        assertEquals(original.search("trading solutions", 3).size(), retrieved.search("trading solutions", 3).size());
+        assertEquals(getTempFilePath("ab.textindex.json"), storageManager.getTextIndexFilePath());
+    }
+
+    @Test
+    public void commandHistoryReadAppend() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextCommandHistoryStorage} class.
+         * More extensive testing of command history reading/appending is done in
+         * {@link TextCommandHistoryStorageTest} class.
+         */
+        storageManager.appendToCommandHistory("list");
+        storageManager.appendToCommandHistory("find Alpha");
+        assertEquals(List.of("list", "find Alpha"), storageManager.readCommandHistory(10));
+        assertEquals(getTempFilePath("commandhistory.txt"), storageManager.getCommandHistoryFilePath());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathNextTo_addressBookFile_commandHistoryInSameFolder() {
+        assertEquals(Path.of("data", "commandhistory.txt"),
+                TextCommandHistoryStorage.pathNextTo(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyList() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("missing.txt"));
+        assertTrue(storage.readCommandHistory(10).isEmpty());
+    }
+
+    @Test
+    public void readCommandHistory_nonPositiveLimit_throwsIllegalArgumentException() {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        assertThrows(IllegalArgumentException.class, () -> storage.readCommandHistory(0));
+    }
+
+    @Test
+    public void appendToCommandHistory_nullCommand_throwsNullPointerException() {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        assertThrows(NullPointerException.class, () -> storage.appendToCommandHistory(null));
+    }
+
+    @Test
+    public void appendAndRead_inNewFolder_returnsMostRecentCommands() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(
+                testFolder.resolve("data").resolve("history.txt"));
+        storage.appendToCommandHistory("list");
+        storage.appendToCommandHistory("find Alpha");
+        storage.appendToCommandHistory("remark 1 r/line\nbreak");
+
+        assertEquals(List.of("list", "find Alpha", "remark 1 r/line break"), storage.readCommandHistory(10));
+        assertEquals(List.of("find Alpha", "remark 1 r/line break"), storage.readCommandHistory(2));
+    }
+
+    @Test
+    public void readCommandHistory_fileTooLong_compactedToLimit() throws Exception {
+        Path filePath = testFolder.resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        for (int i = 0; i < 7; i++) {
+            storage.appendToCommandHistory("list " + i);
+        }
+
+        assertEquals(List.of("list 4", "list 5", "list 6"), storage.readCommandHistory(3));
+        assertEquals(List.of("list 4", "list 5", "list 6"), Files.readAllLines(filePath));
+
+        // not compacted while within twice the limit
+        storage.appendToCommandHistory("list 7");
+        assertEquals(List.of("list 6", "list 7"), storage.readCommandHistory(2));
+        assertEquals(4, Files.readAllLines(filePath).size());
+    }
+}
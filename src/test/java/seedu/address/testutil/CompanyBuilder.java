@@ -10,6 +10,7 @@ import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
 import seedu.address.model.company.Remark;
 import seedu.address.model.company.Status;
+import seedu.address.model.company.StatusHistory;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -28,6 +29,7 @@ public class CompanyBuilder {
     private Set<Tag> tags;
     private Remark remark;
     private Status status;
+    private StatusHistory statusHistory;
 
     /**
      * Creates a {@code CompanyBuilder} with the default details.
@@ -41,6 +43,7 @@ public class CompanyBuilder {
         tags = new HashSet<>();
         remark = new Remark(null);
         status = new Status(DEFAULT_STATUS);
+        statusHistory = StatusHistory.EMPTY;
     }
 
     /**
@@ -54,6 +57,7 @@ public class CompanyBuilder {
         tags = new HashSet<>(companyToCopy.getTags());
         remark = companyToCopy.getRemark();
         status = companyToCopy.getStatus();
+        statusHistory = companyToCopy.getStatusHistory();
     }
 
     /**
@@ -113,8 +117,16 @@ public class CompanyBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code StatusHistory} of the {@code Company} that we are building.
+     */
+    public CompanyBuilder withStatusHistory(StatusHistory statusHistory) {
+        this.statusHistory = statusHistory;
+        return this;
+    }
+
     public Company build() {
-        return new Company(name, phone, email, address, tags, remark, status);
+        return new Company(name, phone, email, address, tags, remark, status, statusHistory);
     }
 
 }
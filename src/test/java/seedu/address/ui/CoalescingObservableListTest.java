@@ -0,0 +1,184 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class CoalescingObservableListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+    private CoalescingObservableList<String> coalesced;
+    private List<String> replayed;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 10; i++) {
+            source.add("company " + i);
+        }
+        coalesced = new CoalescingObservableList<>(source, scheduled::add);
+        replayed = new ArrayList<>(coalesced);
+        coalesced.addListener((ListChangeListener<String>) change -> {
+            changes.add(change);
+            replay(change);
+        });
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, coalesced);
+    }
+
+    @Test
+    public void set_readOnly_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> coalesced.set(0, "x"));
+    }
+
+    @Test
+    public void sourceChanges_manyMutations_oneSyncScheduledAndOneChangeFired() {
+        source.remove(8);
+        source.remove(5);
+        source.remove(1);
+        source.set(0, "edited 0");
+        source.add(3, "new");
+        source.add("last");
+
+        assertEquals(1, scheduled.size());
+        assertTrue(changes.isEmpty());
+
+        runScheduled();
+        assertEquals(1, changes.size());
+        assertEquals(source, coalesced);
+        assertEquals(source, replayed);
+    }
+
+    @Test
+    public void sourceChanges_clear_oneChangeFired() {
+        source.clear();
+        runScheduled();
+        assertEquals(1, changes.size());
+        assertTrue(coalesced.isEmpty());
+        assertTrue(replayed.isEmpty());
+    }
+
+    @Test
+    public void sourceChanges_reordered_replacedInOneChange() {
+        FXCollections.sort(source, Comparator.reverseOrder());
+        runScheduled();
+        assertEquals(1, changes.size());
+        assertEquals(source, coalesced);
+        assertEquals(source, replayed);
+    }
+
+    @Test
+    public void sourceChanges_undone_noChangeFired() {
+        String removed = source.remove(4);
+        source.add(4, removed);
+        runScheduled();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanges_afterSync_newSyncScheduled() {
+        source.remove(0);
+        runScheduled();
+        source.remove(0);
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(2, changes.size());
+        assertEquals(source, replayed);
+    }
+
+    @Test
+    public void sourceChanges_moveToEarlierIndex_onlyMovedElementReported() {
+        String moved = source.remove(7);
+        source.add(2, moved);
+        runScheduled();
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        change.reset();
+        int removedCount = 0;
+        int addedCount = 0;
+        while (change.next()) {
+            removedCount += change.getRemovedSize();
+            addedCount += change.getAddedSize();
+        }
+        assertEquals(1, removedCount);
+        assertEquals(1, addedCount);
+        assertEquals(source, replayed);
+    }
+
+    @Test
+    public void sourceChanges_randomMutationsBetweenSyncs_replayedMatchesSource() {
+        Random random = new Random(35);
+        int nextId = 0;
+        for (int round = 0; round < 500; round++) {
+            int mutations = 1 + random.nextInt(6);
+            for (int i = 0; i < mutations; i++) {
+                int operation = random.nextInt(4);
+                if (operation == 0 || source.isEmpty()) {
+                    source.add(random.nextInt(source.size() + 1), "new " + nextId++);
+                } else if (operation == 1) {
+                    source.remove(random.nextInt(source.size()));
+                } else if (operation == 2) {
+                    source.set(random.nextInt(source.size()), "edited " + nextId++);
+                } else {
+                    // A move, as a sorted list reports an edit
+                    String moved = source.remove(random.nextInt(source.size()));
+                    source.add(random.nextInt(source.size() + 1), moved);
+                }
+            }
+            runScheduled();
+            assertEquals(source, coalesced);
+            assertEquals(source, replayed);
+        }
+    }
+
+    @Test
+    public void sourceChanges_moreThanMergedAtOnce_replayedMatchesSource() {
+        for (int i = 0; i <= CoalescingObservableList.MAX_MERGED_ELEMENTS; i++) {
+            source.add(i % 7, "new " + i);
+        }
+        runScheduled();
+        assertEquals(1, changes.size());
+        assertEquals(source, replayed);
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Applies {@code change} to {@code replayed}, so that a listener's view of the list can be checked.
+     */
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(replayed);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayed.get(i));
+                }
+                replayed = permuted;
+            } else {
+                replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayed.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Optional;
 
@@ -40,12 +41,75 @@ public class CommandHistoryTest {
 
     @Test
     public void add_exceedsMaxSize_removesOldestCommand() {
+        commandHistory = new CommandHistory(50);
         // Add 51 commands (max is 50)
         for (int i = 1; i <= 51; i++) {
             commandHistory.add("command " + i);
         }
         // Size should be capped at 50
         assertEquals(50, commandHistory.size());
+
+        // The oldest command left is the 2nd
+        for (int i = 51; i >= 2; i--) {
+            assertEquals(Optional.of("command " + i), commandHistory.getPrevious(""));
+        }
+        assertFalse(commandHistory.getPrevious("").isPresent());
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+    }
+
+    @Test
+    public void search_substring_returnsMostRecentMatchCaseInsensitively() {
+        commandHistory.add("find Alpha");
+        commandHistory.add("status 1 s/applied");
+        commandHistory.add("find alpha beta");
+        commandHistory.add("list");
+
+        assertEquals(Optional.of("find alpha beta"), commandHistory.search("ALPHA"));
+        assertEquals(Optional.of("find Alpha"), commandHistory.searchOlder("alpha"));
+        assertFalse(commandHistory.searchOlder("alpha").isPresent());
+        assertFalse(commandHistory.search("delete").isPresent());
+    }
+
+    @Test
+    public void search_longerQuery_keepsCurrentMatchIfStillMatching() {
+        commandHistory.add("find beta");
+        commandHistory.add("find alpha");
+        commandHistory.add("filter s/applied");
+
+        assertEquals(Optional.of("filter s/applied"), commandHistory.search("f"));
+        assertEquals(Optional.of("filter s/applied"), commandHistory.search("fi"));
+        assertEquals(Optional.of("find alpha"), commandHistory.search("fin"));
+        assertEquals(Optional.of("find beta"), commandHistory.searchOlder("fin"));
+        assertEquals(Optional.of("find beta"), commandHistory.search("find b"));
+
+        commandHistory.startSearch();
+        assertEquals(Optional.of("find alpha"), commandHistory.search("find"));
+    }
+
+    @Test
+    public void search_evictedCommands_notFound() {
+        commandHistory = new CommandHistory(3);
+        commandHistory.add("remark 1 r/first");
+        for (int i = 0; i < 3; i++) {
+            commandHistory.add("list " + i);
+        }
+        assertFalse(commandHistory.search("remark").isPresent());
+        assertFalse(commandHistory.search("re").isPresent());
+        assertEquals(Optional.of("list 0"), commandHistory.search("list 0"));
+    }
+
+    @Test
+    public void search_largeHistory_findsOldestMatch() {
+        commandHistory = new CommandHistory(100_000);
+        commandHistory.add("remark 7 r/needle in a haystack");
+        for (int i = 0; i < 99_999; i++) {
+            commandHistory.add("edit " + i + " p/" + (90000000 + i));
+        }
+        assertEquals(Optional.of("remark 7 r/needle in a haystack"), commandHistory.search("haystack"));
     }
 
     @Test
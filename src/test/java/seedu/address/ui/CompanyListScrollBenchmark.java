@@ -0,0 +1,127 @@
+package seedu.address.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.management.ThreadMXBean;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.testutil.CompanyBuilder;
+
+/**
+ * Measures how smoothly the {@link CompanyListPanel} scrolls through a long list: the frame rate while the list
+ * is scrolled by a few rows every frame, and the bytes allocated on the JavaFX application thread per row
+ * scrolled. Not a unit test, as it needs a display; run it with {@code gradlew scrollBenchmark}.
+ */
+public class CompanyListScrollBenchmark {
+
+    private static final int COMPANY_COUNT = 10_000;
+    private static final int ROWS_PER_FRAME = 3;
+    private static final long WARMUP_NANOS = 3_000_000_000L;
+    private static final long MEASUREMENT_NANOS = 10_000_000_000L;
+
+    public static void main(String[] args) {
+        Application.launch(BenchmarkApp.class, args);
+    }
+
+    /**
+     * Returns {@code count} companies with a realistic mix of tags, statuses and remarks.
+     */
+    static List<Company> generateCompanies(int count) {
+        Status.Stage[] stages = Status.Stage.values();
+        String[] tagPool = {"remote", "fintech", "startup", "mnc", "summer", "backend", "frontend", "good-pay"};
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] tags = new String[i % 4];
+            for (int t = 0; t < tags.length; t++) {
+                tags[t] = tagPool[(i + t * 3) % tagPool.length];
+            }
+            companies.add(new CompanyBuilder()
+                    .withName("Company " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("hr" + i + "@company" + i + ".com")
+                    .withAddress(i + " Benchmark Avenue")
+                    .withTags(tags)
+                    .withRemark(i % 3 == 0 ? "Long remark that may overflow the card width. ".repeat(1 + i % 5) : null)
+                    .withStatus(Status.toUserInputString(stages[i % stages.length]))
+                    .build());
+        }
+        return companies;
+    }
+
+    /**
+     * The JavaFX application that scrolls the list and reports the results.
+     */
+    public static class BenchmarkApp extends Application {
+
+        private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        @Override
+        public void start(Stage stage) {
+            CompanyListPanel panel = new CompanyListPanel(
+                    FXCollections.observableArrayList(generateCompanies(COMPANY_COUNT)));
+            Scene scene = new Scene(panel.getRoot(), 600, 800);
+            scene.getStylesheets().addAll(MainWindow.class.getResource("/view/DarkTheme.css").toExternalForm(),
+                    MainWindow.class.getResource("/view/Extensions.css").toExternalForm());
+            stage.setScene(scene);
+            stage.show();
+
+            ListView<?> listView = (ListView<?>) panel.getRoot().lookup("#companyListView");
+            new ScrollTimer(listView).start();
+        }
+
+        /**
+         * Scrolls the list by {@link #ROWS_PER_FRAME} rows on every frame, wrapping around at the end.
+         */
+        private class ScrollTimer extends AnimationTimer {
+            private final ListView<?> listView;
+            private final long startNanos = System.nanoTime();
+            private int row;
+            private long measurementStartNanos = -1;
+            private long startAllocatedBytes;
+            private long frames;
+            private long rowsScrolled;
+
+            ScrollTimer(ListView<?> listView) {
+                this.listView = listView;
+            }
+
+            @Override
+            public void handle(long now) {
+                row = (row + ROWS_PER_FRAME) % COMPANY_COUNT;
+                listView.scrollTo(row);
+
+                if (measurementStartNanos < 0) {
+                    if (now - startNanos >= WARMUP_NANOS) {
+                        measurementStartNanos = now;
+                        startAllocatedBytes = threadBean.getCurrentThreadAllocatedBytes();
+                    }
+                    return;
+                }
+
+                frames++;
+                rowsScrolled += ROWS_PER_FRAME;
+                long elapsedNanos = now - measurementStartNanos;
+                if (elapsedNanos >= MEASUREMENT_NANOS) {
+                    stop();
+                    long allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+                    System.out.printf("Scrolled %d rows in %d frames over %.1f s%n",
+                            rowsScrolled, frames, elapsedNanos / 1e9);
+                    System.out.printf("Frame rate: %.1f fps%n", frames / (elapsedNanos / 1e9));
+                    System.out.printf("Allocated on FX thread: %d bytes per scrolled row%n",
+                            allocatedBytes / rowsScrolled);
+                    Platform.exit();
+                }
+            }
+        }
+    }
+}
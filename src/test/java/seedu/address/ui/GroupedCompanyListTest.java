@@ -0,0 +1,221 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyGrouping;
+import seedu.address.testutil.CompanyBuilder;
+import seedu.address.ui.GroupedCompanyList.Row;
+
+public class GroupedCompanyListTest {
+
+    private static final String[] STATUSES = {"to-apply", "applied", "oa", "offered", "rejected"};
+
+    private final ObservableList<Company> source = FXCollections.observableArrayList();
+    private final Set<String> collapsed = new HashSet<>();
+    private GroupedCompanyList rows;
+    private List<Row> mirror;
+    private int changeCount;
+    private int nextId;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(company("to-apply"), company("to-apply"), company("applied"), company("offered"));
+        rows = new GroupedCompanyList(source);
+        mirror = new ArrayList<>(rows);
+        rows.addListener(this::applyToMirror);
+    }
+
+    @Test
+    public void constructor_notGrouped_rowsAreCompanies() {
+        assertEquals(CompanyGrouping.NONE, rows.getGrouping());
+        assertEquals(expectedRows(), rows);
+        assertEquals(2, rows.getSourceIndex(2));
+    }
+
+    @Test
+    public void setGrouping_status_headerBeforeEachGroup() {
+        rows.setGrouping(CompanyGrouping.STATUS);
+
+        assertEquals(new Row("TO-APPLY", 2, false), rows.get(0));
+        assertEquals(new Row(source.get(1)), rows.get(2));
+        assertEquals(new Row("APPLIED", 1, false), rows.get(3));
+        assertEquals(7, rows.size());
+        assertEquals(-1, rows.getSourceIndex(3));
+        assertEquals(3, rows.getSourceIndex(6));
+        assertEquals(6, rows.getViewIndex(3));
+        assertEquals(expectedRows(), mirror);
+    }
+
+    @Test
+    public void sourceChanged_companyMovesGroup_movesOneRowAndRecountsBothGroups() {
+        ObservableList<Company> companies = FXCollections.observableArrayList(source);
+        List<Runnable> scheduled = new ArrayList<>();
+        rows = new GroupedCompanyList(new CoalescingObservableList<>(companies, scheduled::add));
+        rows.setGrouping(CompanyGrouping.STATUS);
+        mirror = new ArrayList<>(rows);
+        rows.addListener(this::applyToMirror);
+        changeCount = 0;
+
+        // The second company moves to the next group, so stays in group order
+        Company edited = new CompanyBuilder(companies.get(1)).withStatus("applied").build();
+        companies.set(1, edited);
+        scheduled.forEach(Runnable::run);
+
+        assertEquals(List.of(new Row("TO-APPLY", 1, false), new Row(companies.get(0)),
+                new Row("APPLIED", 2, false), new Row(edited), new Row(companies.get(2)),
+                new Row("OFFERED", 1, false), new Row(companies.get(3))), rows);
+        assertEquals(rows, mirror);
+        // One change moving the row, and one updating the counts in the headers
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void sourceChanged_lastCompanyOfGroupRemoved_headerRemoved() {
+        rows.setGrouping(CompanyGrouping.STATUS);
+        source.remove(2);
+        assertEquals(expectedRows(), rows);
+        assertEquals(rows, mirror);
+        assertEquals(5, rows.size());
+    }
+
+    @Test
+    public void toggleCollapsed_hidesAndShowsCompaniesOfGroup() {
+        rows.setGrouping(CompanyGrouping.STATUS);
+
+        rows.toggleCollapsed("TO-APPLY");
+        collapsed.add("TO-APPLY");
+        assertEquals(new Row("TO-APPLY", 2, true), rows.get(0));
+        assertEquals(expectedRows(), rows);
+        assertEquals(rows, mirror);
+        assertEquals(-1, rows.getViewIndex(0));
+        assertEquals(2, rows.getSourceIndex(2));
+
+        // A company joining a collapsed group is counted but not shown
+        source.add(0, company("to-apply"));
+        assertEquals(expectedRows(), rows);
+        assertEquals(rows, mirror);
+
+        rows.toggleCollapsed("TO-APPLY");
+        collapsed.remove("TO-APPLY");
+        assertEquals(expectedRows(), rows);
+        assertEquals(rows, mirror);
+    }
+
+    @Test
+    public void randomChanges_inGroupOrder_matchGroupedSource() {
+        Random random = new Random(50);
+        rows.setGrouping(CompanyGrouping.STATUS);
+        for (int i = 0; i < 3_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || source.isEmpty()) {
+                Company added = company(STATUSES[random.nextInt(STATUSES.length)]);
+                source.add(insertionPointInGroupOrder(added), added);
+            } else if (operation < 8) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 9) {
+                toggleCollapsed(STATUSES[random.nextInt(STATUSES.length)].toUpperCase());
+            } else {
+                // An edit to the status, as the coalesced list reports it: a removal and an addition
+                Company edited = new CompanyBuilder(source.remove(random.nextInt(source.size())))
+                        .withStatus(STATUSES[random.nextInt(STATUSES.length)]).build();
+                source.add(insertionPointInGroupOrder(edited), edited);
+            }
+            assertEquals(expectedRows(), rows);
+        }
+        assertEquals(rows, mirror);
+    }
+
+    @Test
+    public void randomChanges_outOfGroupOrder_matchRunsOfSource() {
+        Random random = new Random(51);
+        rows.setGrouping(CompanyGrouping.STATUS);
+        for (int i = 0; i < 3_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), company(STATUSES[random.nextInt(3)]));
+            } else if (operation < 8) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 9) {
+                toggleCollapsed(STATUSES[random.nextInt(3)].toUpperCase());
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + 3));
+            }
+            assertEquals(expectedRows(), rows);
+        }
+        assertEquals(rows, mirror);
+
+        rows.setGrouping(CompanyGrouping.NONE);
+        assertEquals(expectedRows(), rows);
+        assertEquals(rows, mirror);
+    }
+
+    private Company company(String status) {
+        return new CompanyBuilder().withName("Company " + nextId++).withStatus(status).build();
+    }
+
+    private int insertionPointInGroupOrder(Company company) {
+        int position = 0;
+        while (position < source.size() && source.get(position).getStatus().value.compareTo(
+                company.getStatus().value) <= 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private void toggleCollapsed(String groupName) {
+        rows.toggleCollapsed(groupName);
+        if (!collapsed.add(groupName)) {
+            collapsed.remove(groupName);
+        }
+    }
+
+    /**
+     * Returns the rows of the source worked out from scratch, a group for each run of companies in the same group.
+     */
+    private List<Row> expectedRows() {
+        CompanyGrouping grouping = rows.getGrouping();
+        List<Row> expected = new ArrayList<>();
+        int runStart = 0;
+        while (runStart < source.size()) {
+            String groupName = grouping.getGroupName(source.get(runStart));
+            int runEnd = runStart;
+            while (runEnd < source.size() && grouping.getGroupName(source.get(runEnd)).equals(groupName)) {
+                runEnd++;
+            }
+            boolean isCollapsed = grouping != CompanyGrouping.NONE && collapsed.contains(groupName);
+            if (grouping != CompanyGrouping.NONE) {
+                expected.add(new Row(groupName, runEnd - runStart, isCollapsed));
+            }
+            if (!isCollapsed) {
+                source.subList(runStart, runEnd).forEach(company -> expected.add(new Row(company)));
+            }
+            runStart = runEnd;
+        }
+        return expected;
+    }
+
+    /**
+     * Applies {@code change} to the mirror, as a listener relying on the reported changes would see the list.
+     */
+    private void applyToMirror(ListChangeListener.Change<? extends Row> change) {
+        changeCount++;
+        while (change.next()) {
+            mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            mirror.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TextMeasurementServiceTest {
+
+    private final List<String> measured = new ArrayList<>();
+    private final TextMeasurementService service = new TextMeasurementService((font, text) -> {
+        measured.add(text);
+        return text.length() * 7.0;
+    }, 2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TextMeasurementService((font, text) -> 0, 0));
+    }
+
+    @Test
+    public void widthOf_sameText_measuredOnce() {
+        assertEquals(35.0, service.widthOf(null, "hello"));
+        assertEquals(35.0, service.widthOf(null, "hello"));
+        assertEquals(List.of("hello"), measured);
+        assertEquals(1, service.getHitCount());
+        assertEquals(1, service.getMissCount());
+    }
+
+    @Test
+    public void widthOf_overCapacity_evictsLeastRecentlyUsed() {
+        service.widthOf(null, "a");
+        service.widthOf(null, "bb");
+        service.widthOf(null, "a");
+        service.widthOf(null, "ccc"); // evicts "bb"
+
+        service.widthOf(null, "a");
+        service.widthOf(null, "bb");
+        assertEquals(List.of("a", "bb", "ccc", "bb"), measured);
+    }
+}